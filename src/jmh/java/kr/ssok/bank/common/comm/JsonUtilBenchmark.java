@@ -0,0 +1,49 @@
+package kr.ssok.bank.common.comm;
+
+import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송금 요청 DTO 역직렬화 비용 (JsonUtil.fromJson)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonUtilBenchmark {
+
+    private static final String WITHDRAW_JSON = "{\"transactionId\":\"5b1a3f3e-7c1d-4e6b-9a55-0d6f5f1c2b11\","
+            + "\"withdrawBankCode\":\"SSOK_BANK\",\"withdrawAccount\":\"626-01-1234-567890\","
+            + "\"transferAmount\":15000,\"currencyCode\":\"WON\","
+            + "\"counterAccount\":\"090-01-4321-098765\",\"counterBankCode\":\"KAKAO_BANK\"}";
+
+    private static final String DEPOSIT_JSON = "{\"transactionId\":\"5b1a3f3e-7c1d-4e6b-9a55-0d6f5f1c2b11\","
+            + "\"depositBankCode\":\"SSOK_BANK\",\"depositAccount\":\"626-01-1234-567890\","
+            + "\"transferAmount\":15000,\"currencyCode\":\"WON\","
+            + "\"counterAccount\":\"090-01-4321-098765\",\"counterBankCode\":\"KAKAO_BANK\"}";
+
+    private static final String COMPENSATE_JSON = "{\"transactionId\":\"5b1a3f3e-7c1d-4e6b-9a55-0d6f5f1c2b11\"}";
+
+    @Benchmark
+    public TransferWithdrawRequestDTO fromJsonWithdraw() throws Exception {
+        return JsonUtil.fromJson(WITHDRAW_JSON, TransferWithdrawRequestDTO.class);
+    }
+
+    @Benchmark
+    public TransferDepositRequestDTO fromJsonDeposit() throws Exception {
+        return JsonUtil.fromJson(DEPOSIT_JSON, TransferDepositRequestDTO.class);
+    }
+
+    @Benchmark
+    public CompensateRequestDTO fromJsonCompensate() throws Exception {
+        return JsonUtil.fromJson(COMPENSATE_JSON, CompensateRequestDTO.class);
+    }
+}
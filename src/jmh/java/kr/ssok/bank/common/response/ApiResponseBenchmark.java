@@ -0,0 +1,50 @@
+package kr.ssok.bank.common.response;
+
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카프카 응답 JSON 생성 비용 (ApiResponse.ofJson vs ReplyEncoder)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApiResponseBenchmark {
+
+    private ReplyEncoder replyEncoder;
+
+    @Setup
+    public void setUp() {
+        replyEncoder = new ReplyEncoder();
+        replyEncoder.init();
+    }
+
+    @Benchmark
+    public String ofJsonSuccess() {
+        return ApiResponse.ofJson(SuccessStatusCode.TRANSFER_WITHDRAW_OK, null);
+    }
+
+    @Benchmark
+    public String ofJsonFailure() {
+        return ApiResponse.ofJson(FailureStatusCode.TRANSFER_NO_BALANCE, null);
+    }
+
+    @Benchmark
+    public byte[] encodeSuccess() {
+        return replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+    }
+
+    @Benchmark
+    public byte[] encodeFailure() {
+        return replyEncoder.encode(FailureStatusCode.TRANSFER_NO_BALANCE);
+    }
+}
@@ -0,0 +1,92 @@
+package kr.ssok.bank.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AESUtil 호출 비용 비교 (기존 구현 vs Cipher 풀 재사용 vs 캐시)
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AESUtilBenchmark {
+
+    private static final String KEY = "0123456789abcdef";
+    private static final String ACCOUNT_NUMBER = "111-1111-1111";
+
+    private AESUtil aesUtil;
+    private SecretKeySpec legacyKeySpec;
+    private String encrypted;
+    private byte[] plainBytes;
+    private int sequence;
+
+    @Setup
+    public void setUp() throws Exception {
+        aesUtil = newAESUtil(KEY, 10_000L);
+
+        legacyKeySpec = new SecretKeySpec(KEY.getBytes(), "AES");
+        encrypted = aesUtil.encrypt(ACCOUNT_NUMBER);
+        plainBytes = ACCOUNT_NUMBER.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, legacyKeySpec);
+        return Base64.getEncoder().encodeToString(cipher.doFinal(ACCOUNT_NUMBER.getBytes()));
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, legacyKeySpec);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encrypted)));
+    }
+
+    // 캐시 적중 (인기 계좌)
+    @Benchmark
+    public String cachedEncrypt() {
+        return aesUtil.encrypt(ACCOUNT_NUMBER);
+    }
+
+    @Benchmark
+    public String cachedDecrypt() {
+        return aesUtil.decrypt(encrypted);
+    }
+
+    // 캐시 미적중 (매번 다른 계좌번호)
+    @Benchmark
+    public String uncachedEncrypt() {
+        return aesUtil.encrypt("111-1111-" + (sequence++ & 0xFFFFF));
+    }
+
+    @Benchmark
+    public byte[] bytesEncrypt() {
+        return aesUtil.encrypt(plainBytes);
+    }
+
+    static AESUtil newAESUtil(String key, long cacheMaxSize) throws Exception {
+        AESUtil aesUtil = new AESUtil();
+        Field keyField = AESUtil.class.getDeclaredField("key");
+        keyField.setAccessible(true);
+        keyField.set(aesUtil, key);
+        Field cacheField = AESUtil.class.getDeclaredField("cacheMaxSize");
+        cacheField.setAccessible(true);
+        cacheField.setLong(aesUtil, cacheMaxSize);
+        aesUtil.init();
+        return aesUtil;
+    }
+}
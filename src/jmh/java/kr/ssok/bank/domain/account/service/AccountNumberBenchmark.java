@@ -0,0 +1,60 @@
+package kr.ssok.bank.domain.account.service;
+
+import kr.ssok.bank.common.constant.AccountTypeCode;
+import kr.ssok.bank.common.constant.BankCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌번호 채번 비용 (Luhn 검증 번호 계산, 계좌번호 조립, 블록 채번)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountNumberBenchmark {
+
+    private int sequence;
+    private AccountNumberAllocator allocator;
+
+    @Setup
+    public void setUp() throws Exception {
+        // DB 카운터 대신 메모리 카운터로 블록 예약 (블록 안에서의 발급 비용만 측정)
+        AtomicLong counter = new AtomicLong();
+        AccountNumberBlockReserver reserver = new AccountNumberBlockReserver(null) {
+            @Override
+            public AccountNumberBlock reserve(String namespace, int blockSize, long maxValue) {
+                long start = counter.getAndAdd(blockSize) % maxValue;
+                return new AccountNumberBlock(start, Math.min(start + blockSize, maxValue));
+            }
+        };
+        allocator = new AccountNumberAllocator(reserver);
+        Field blockSizeField = AccountNumberAllocator.class.getDeclaredField("blockSize");
+        blockSizeField.setAccessible(true);
+        blockSizeField.setInt(allocator, 1000);
+    }
+
+    @Benchmark
+    public int luhnCheckDigit() {
+        return AccountNumberAllocator.calculateLuhnCheckDigit("01123456789");
+    }
+
+    @Benchmark
+    public String formatAccountNumber() {
+        int next = sequence++;
+        return AccountNumberAllocator.formatAccountNumber("626", 1, 1000 + (next % 9000), next % 100_000L);
+    }
+
+    @Benchmark
+    public String allocate() {
+        return allocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.DEPOSIT);
+    }
+}
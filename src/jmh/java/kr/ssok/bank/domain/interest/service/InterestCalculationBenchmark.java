@@ -0,0 +1,46 @@
+package kr.ssok.bank.domain.interest.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌당 이자 계산 비용 (BigDecimal 계산 vs 상품별 고정 소수점 일이율)
+ * gc 프로파일러로 보면 고정 소수점 계산은 호출당 할당이 없습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InterestCalculationBenchmark {
+
+    @Param({"10000", "123456789", "9000000000000"})
+    private long balance;
+
+    @Param({"1.5"})
+    private double annualRate;
+
+    private InterestRateFactor rateFactor;
+
+    @Setup
+    public void setUp() {
+        rateFactor = InterestRateFactor.of(annualRate);
+    }
+
+    @Benchmark
+    public BigDecimal dailyInterest() {
+        return InterestCalculator.calculateDailyInterest(balance, annualRate);
+    }
+
+    @Benchmark
+    public long fixedPointDailyInterest() {
+        return rateFactor.dailyInterest(balance);
+    }
+}
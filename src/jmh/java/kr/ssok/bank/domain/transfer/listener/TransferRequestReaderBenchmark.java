@@ -0,0 +1,55 @@
+package kr.ssok.bank.domain.transfer.listener;
+
+import kr.ssok.bank.common.comm.CommunicationProtocol;
+import kr.ssok.bank.common.comm.JsonUtil;
+import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송금 요청 역직렬화 비용 (기존 String 경유 파싱 vs byte[] 직접 파싱)
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 레코드당 할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransferRequestReaderBenchmark {
+
+    private static final String WITHDRAW_JSON = "{\"transactionId\":\"9f2c1a4e-6b1d-4f7a-9c3e-2a8d5b7e1f00\","
+            + "\"withdrawBankCode\":\"SSOK_BANK\",\"withdrawAccount\":\"111-1111-1111\",\"transferAmount\":15000,"
+            + "\"currencyCode\":\"WON\",\"counterAccount\":\"222-2222-2222\",\"counterBankCode\":\"SSOK_BANK\"}";
+
+    private byte[] payload;
+    private byte[] quotedPayload;
+
+    @Setup
+    public void setUp() {
+        payload = WITHDRAW_JSON.getBytes(StandardCharsets.UTF_8);
+        quotedPayload = JsonUtil.toJsonBytes(WITHDRAW_JSON);
+    }
+
+    // 기존 경로: JsonDeserializer 가 만든 String 을 다시 파싱
+    @Benchmark
+    public TransferWithdrawRequestDTO legacyParse() throws Exception {
+        String value = JsonUtil.fromJson(new String(quotedPayload, StandardCharsets.UTF_8), String.class);
+        return JsonUtil.fromJson(value, TransferWithdrawRequestDTO.class);
+    }
+
+    @Benchmark
+    public TransferWithdrawRequestDTO readBytes() {
+        return TransferRequestReader.read(CommunicationProtocol.REQUEST_WITHDRAW, payload);
+    }
+
+    @Benchmark
+    public TransferWithdrawRequestDTO readQuotedBytes() {
+        return TransferRequestReader.read(CommunicationProtocol.REQUEST_WITHDRAW, quotedPayload);
+    }
+}
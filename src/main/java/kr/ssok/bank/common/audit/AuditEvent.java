@@ -0,0 +1,39 @@
+package kr.ssok.bank.common.audit;
+
+import kr.ssok.bank.common.constant.AuditEventTypeCode;
+import kr.ssok.bank.common.response.BaseCode;
+
+/**
+ * 감사 이벤트
+ * 호출 스레드에서는 원본 값만 담아 큐에 넣고, 마스킹/코드 변환/기록은 기록 스레드에서 처리합니다.
+ *
+ * @param type           이벤트 유형
+ * @param occurredAt     발생 시각 (epoch ms)
+ * @param transactionId  거래 ID
+ * @param account        대상 계좌 (평문, 기록 시 마스킹)
+ * @param counterAccount 상대 계좌 (평문, 기록 시 마스킹)
+ * @param amount         거래 금액
+ * @param result         처리 결과 코드
+ * @param detail         부가 정보 (CMD 등)
+ */
+public record AuditEvent(AuditEventTypeCode type,
+                         long occurredAt,
+                         String transactionId,
+                         String account,
+                         String counterAccount,
+                         Long amount,
+                         BaseCode result,
+                         String detail) {
+
+    public static AuditEvent of(AuditEventTypeCode type, String transactionId, String account, String counterAccount, Long amount) {
+        return new AuditEvent(type, System.currentTimeMillis(), transactionId, account, counterAccount, amount, null, null);
+    }
+
+    public static AuditEvent of(AuditEventTypeCode type, String detail, BaseCode result) {
+        return new AuditEvent(type, System.currentTimeMillis(), null, null, null, null, result, detail);
+    }
+
+    public static AuditEvent of(AuditEventTypeCode type, String account, String detail) {
+        return new AuditEvent(type, System.currentTimeMillis(), null, account, null, null, null, detail);
+    }
+}
@@ -0,0 +1,217 @@
+package kr.ssok.bank.common.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ssok.bank.common.constant.AuditEventTypeCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static net.logstash.logback.argument.StructuredArguments.keyValue;
+
+/**
+ * 비동기 감사 로그
+ * 이체 처리 스레드는 감사 이벤트를 링 버퍼에 넣기만 하고 (가득 차면 버리고 카운트),
+ * 백그라운드 기록 스레드가 유형별 샘플링, 계좌번호 마스킹 후 AUDIT 로거(Fluent Bit 수집 JSON 파일)에 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogger {
+
+    public static final String METRIC_NAME = "audit.events";
+    private static final Logger AUDIT_LOG = LoggerFactory.getLogger("AUDIT");
+
+    @Value("${audit.buffer-size:8192}")
+    private int bufferSize;
+
+    // 유형별 샘플링 비율 (예: REQUEST=0.1,BATCH=0.5), 지정하지 않은 유형은 모두 기록
+    @Value("${audit.sample-rates:REQUEST=0.1}")
+    private String sampleRates;
+
+    // 버퍼가 비었을 때 기록 스레드 대기 시간
+    @Value("${audit.writer.idle-ms:10}")
+    private long idleMs;
+
+    private final MeterRegistry meterRegistry;
+
+    private AuditRingBuffer<AuditEvent> buffer;
+    private double[] rates;
+    private Counter dropped;
+    private Counter written;
+    private Counter sampledOut;
+    private volatile boolean running;
+    private Thread writer;
+
+    @PostConstruct
+    public void init() {
+        initBuffer();
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::runWriter);
+        log.info("[감사 로그] 초기화 완료: 버퍼 크기 = {}, 샘플링 = {}", buffer.capacity(), sampleRates);
+    }
+
+    void initBuffer() {
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+        this.rates = parseRates(sampleRates);
+        this.dropped = counter("dropped");
+        this.written = counter("written");
+        this.sampledOut = counter("sampled_out");
+        Gauge.builder("audit.buffer.depth", buffer, AuditRingBuffer::size)
+                .description("Pending audit events")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 감사 이벤트를 기록 큐에 넣습니다. (호출 스레드는 기다리지 않음)
+     *
+     * @param event 감사 이벤트
+     */
+    public void record(AuditEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 감사 이벤트를 기록 큐에 넣습니다. (트랜잭션이 없으면 즉시, 롤백되면 기록하지 않음)
+     *
+     * @param event 감사 이벤트
+     */
+    public void recordAfterCommit(AuditEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(event);
+                }
+            });
+        } else {
+            record(event);
+        }
+    }
+
+    // 기록 스레드: 종료 요청 후에도 남은 이벤트는 모두 기록
+    private void runWriter() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        while (true) {
+            if (drain() == 0) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 모두 꺼내 기록합니다. (기록 스레드 전용)
+     *
+     * @return 꺼낸 이벤트 수
+     */
+    int drain() {
+        int count = 0;
+        AuditEvent event;
+        while ((event = buffer.poll()) != null) {
+            count++;
+            try {
+                write(event);
+            } catch (Exception e) {
+                log.error("[감사 로그] 기록 실패: 유형 = {}", event.type(), e);
+            }
+        }
+        return count;
+    }
+
+    private void write(AuditEvent event) {
+        double rate = rates[event.type().ordinal()];
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            sampledOut.increment();
+            return;
+        }
+        AUDIT_LOG.info("[감사] {}", event.type().getValue(),
+                keyValue("event", event.type().getValue()),
+                keyValue("occurredAt", event.occurredAt()),
+                keyValue("transactionId", event.transactionId()),
+                keyValue("account", mask(event.account())),
+                keyValue("counterAccount", mask(event.counterAccount())),
+                keyValue("amount", event.amount()),
+                keyValue("result", event.result() != null ? event.result().getReasonHttpStatus().getCode() : null),
+                keyValue("detail", event.detail()));
+        written.increment();
+    }
+
+    /**
+     * 계좌번호 마스킹 (마지막 4자리 숫자만 남기고 숫자를 * 로 치환, 구분자는 유지)
+     */
+    static String mask(String accountNumber) {
+        if (accountNumber == null) {
+            return null;
+        }
+        char[] chars = accountNumber.toCharArray();
+        int visible = 4;
+        for (int i = chars.length - 1; i >= 0; i--) {
+            if (Character.isDigit(chars[i])) {
+                if (visible > 0) {
+                    visible--;
+                } else {
+                    chars[i] = '*';
+                }
+            }
+        }
+        return new String(chars);
+    }
+
+    // "유형=비율" 목록을 유형 순서의 배열로 변환 (잘못된 항목은 무시)
+    private static double[] parseRates(String sampleRates) {
+        double[] parsed = new double[AuditEventTypeCode.values().length];
+        Arrays.fill(parsed, 1.0);
+        if (sampleRates == null || sampleRates.isBlank()) {
+            return parsed;
+        }
+        for (String entry : sampleRates.split(",")) {
+            String[] pair = entry.split("=");
+            try {
+                AuditEventTypeCode type = AuditEventTypeCode.valueOf(pair[0].trim());
+                parsed[type.ordinal()] = Math.max(0.0, Math.min(1.0, Double.parseDouble(pair[1].trim())));
+            } catch (RuntimeException e) {
+                log.warn("[감사 로그] 잘못된 샘플링 설정 무시: {}", entry);
+            }
+        }
+        return parsed;
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Audit events by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
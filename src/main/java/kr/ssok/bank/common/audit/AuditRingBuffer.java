@@ -0,0 +1,86 @@
+package kr.ssok.bank.common.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자, 단일 소비자)
+ * 생산자는 CAS 로 슬롯을 예약하고, 슬롯별 시퀀스로 소비자에게 기록 완료를 알립니다.
+ * 버퍼가 가득 차면 기다리지 않고 false 를 반환합니다.
+ * poll 은 하나의 소비자 스레드에서만 호출해야 합니다.
+ */
+public final class AuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    // 슬롯별 시퀀스: 위치 p 가 비어 있으면 p, 기록 완료면 p + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자만 갱신 (size 조회용으로 volatile)
+    private volatile long head;
+
+    /**
+     * @param requestedCapacity 요청 크기 (2의 거듭제곱으로 올림)
+     */
+    public AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("[AuditRingBuffer] 버퍼 크기는 1 이상이어야 합니다: " + requestedCapacity);
+        }
+        this.capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @param element 넣을 원소
+     * @return 버퍼가 가득 차서 넣지 못하면 false
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return 꺼낸 원소, 비어 있으면 null (소비자 스레드 전용)
+     */
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, head + capacity);
+        head++;
+        return element;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+}
@@ -5,5 +5,6 @@ public class CommunicationProtocol {
     public static final String REQUEST_DEPOSIT = "kr.ssok.kafka.messaging.request.deposit";
     public static final String REQUEST_WITHDRAW = "kr.ssok.kafka.messaging.request.withdraw";
     public static final String REQUEST_COMPENSATE = "kr.ssok.kafka.messaging.request.compensate";
+    public static final String REQUEST_TRANSFER_INTERNAL = "kr.ssok.kafka.messaging.request.transfer.internal";
     public static final String SEND_TEST_MESSAGE = "kr.ssok.kafka.messaging.test.message";
 }
@@ -2,6 +2,7 @@ package kr.ssok.bank.common.comm;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.NoArgsConstructor;
 
@@ -27,6 +28,14 @@ public class JsonUtil {
         }
     }
 
+    public static byte[] toJsonBytes(Object object){
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(object);
+        } catch (Exception e) {
+            throw new RuntimeException("[JsonUtil] JSON 변환 실패", e);
+        }
+    }
+
     public static <T> T fromJson(String json, Class<T> valueType) throws Exception {
         try {
             return OBJECT_MAPPER.readValue(json, valueType);
@@ -34,5 +43,9 @@ public class JsonUtil {
             throw new RuntimeException("[JsonUtil] JSON 파싱 실패", e);
         }
     }
-}
 
+    // 같은 설정의 타입별 ObjectReader (불변, 스레드 안전하므로 미리 만들어 재사용)
+    public static ObjectReader readerFor(Class<?> valueType) {
+        return OBJECT_MAPPER.readerFor(valueType);
+    }
+}
@@ -0,0 +1,32 @@
+package kr.ssok.bank.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 컨피그
+ */
+@Configuration
+public class JpaConfig {
+
+    @Value("${bank.jdbc.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * JDBC 배치 INSERT/UPDATE 설정
+     * 거래 내역/계좌는 SnowflakeId 로 ID 를 미리 발급하므로 flush 시 같은 테이블의 INSERT 가 묶여서 전송됩니다.
+     *
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
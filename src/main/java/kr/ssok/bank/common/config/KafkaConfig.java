@@ -3,6 +3,8 @@ package kr.ssok.bank.common.config;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,11 +16,11 @@ import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -30,34 +32,55 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${transfer.listener.batch-size:500}")
+    private int batchSize;
+
+    // 인스턴스당 컨슈머 스레드 수 (파티션 단위로 분배되므로 파티션 내 순서는 유지)
+    @Value("${transfer.listener.concurrency:1}")
+    private int listenerConcurrency;
+
     /**
      * 요청 수신자 설정
+     * 요청 값은 byte[] 그대로 받아 리스너에서 CMD 별 DTO 로 한 번만 역직렬화합니다. (TransferRequestReader)
      *
      * @return
      */
     @Bean
-    public ConsumerFactory<String, Object> requestConsumerFactory() {
+    public ConsumerFactory<String, byte[]> requestConsumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "request-server-group");
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
+    /**
+     * 일괄 요청 수신자 설정 (한 번의 poll 로 가져올 최대 레코드 수 지정)
+     *
+     * @return
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> batchRequestConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>(requestConsumerFactory().getConfigurationProperties());
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
     /**
      * 응답 발송자 설정
+     * 응답은 ReplyEncoder 가 JSON 바이트로 한 번만 직렬화하므로 바이트를 그대로 발송합니다.
      *
      * @return
      */
     @Bean
-    public ProducerFactory<String, Object> replyProducerFactory() {
+    public ProducerFactory<String, byte[]> replyProducerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -66,18 +89,42 @@ public class KafkaConfig {
      * @return
      */
     @Bean
-    public KafkaTemplate<String, Object> replyTemplate() {
+    public KafkaTemplate<String, byte[]> replyTemplate() {
         return new KafkaTemplate<>(replyProducerFactory());
     }
 
+    /**
+     * DLQ 발송자 설정
+     * DLQ 에는 수신한 요청 값을 그대로 다시 발행하므로 기존 JSON 직렬화를 유지합니다.
+     *
+     * @return
+     */
+    @Bean
+    public ProducerFactory<String, Object> deadLetterProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * DLQ 카프카 Producer 템플릿을 생성합니다.
+     * @return
+     */
+    @Bean
+    public KafkaTemplate<String, Object> deadLetterTemplate() {
+        return new KafkaTemplate<>(deadLetterProducerFactory());
+    }
+
     /**
      * 카프카 리스너 응답 Container 팩토리를 생성합니다.
      *
      * @return
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerReplyContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerReplyContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(requestConsumerFactory());
         factory.setReplyTemplate(replyTemplate());
@@ -85,6 +132,27 @@ public class KafkaConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
         // DLQ 설정
         factory.setCommonErrorHandler(errorHandler());
+        configureExecution(factory);
+        return factory;
+    }
+
+    /**
+     * 카프카 리스너 일괄 처리 Container 팩토리를 생성합니다.
+     * 응답은 리스너에서 직접 발송하고, DB 커밋 후 수동으로 오프셋을 커밋합니다.
+     *
+     * @return
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerBatchContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchRequestConsumerFactory());
+        factory.setBatchListener(true);
+        // 배치 처리 및 응답 발송 완료 후 acknowledge 시점에 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // DLQ 설정
+        factory.setCommonErrorHandler(errorHandler());
+        configureExecution(factory);
         return factory;
     }
 
@@ -94,20 +162,33 @@ public class KafkaConfig {
      * @return
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerUnidirectionalContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerUnidirectionalContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(requestConsumerFactory());
         return factory;
     }
 
+    /**
+     * 송금 요청 리스너 실행 모델 설정
+     * 컨슈머 스레드 수를 지정합니다.
+     * 파티션은 한 번에 하나의 컨슈머에만 할당되므로 파티션 내 처리 순서와 오프셋 커밋 순서는 유지됩니다.
+     * 요청 처리는 계좌 레인으로 넘기며(일괄 처리 모드, 컨슈머 스레드가 여럿인 단건 모드), 가상 스레드는 레인에서 사용합니다. (transfer.lane.virtual-threads)
+     */
+    private void configureExecution(ConcurrentKafkaListenerContainerFactory<String, byte[]> factory) {
+        factory.setConcurrency(listenerConcurrency);
+    }
+
     @Bean
     public CommonErrorHandler errorHandler() {
         // 재시도 정책 설정
         FixedBackOff fixedBackOff = new FixedBackOff(1000L, 3L); // 1초 간격으로 3번 재시도
-        // DLQ 설정
+        // DLQ 설정 (byte[] 요청 값은 수신한 바이트 그대로 재발행)
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, replyTemplate());
+        templates.put(Object.class, deadLetterTemplate());
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
-                replyTemplate(),
+                templates,
                 (consumerRecord, exception) -> {
                     String originalTopic = consumerRecord.topic(); // DLQ 토픽 생성
                     return new TopicPartition(originalTopic + ".dlt", consumerRecord.partition());
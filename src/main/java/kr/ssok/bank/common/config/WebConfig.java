@@ -0,0 +1,42 @@
+package kr.ssok.bank.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Web MVC 컨피그
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 요청별 비동기 타임아웃(ms) 요청 속성
+     * 컨트롤러에서 지정한 요청만 해당 타임아웃으로 비동기 처리하고, 나머지 요청은 서블릿 컨테이너 기본값을 따릅니다.
+     */
+    public static final String ASYNC_TIMEOUT_ATTRIBUTE = WebConfig.class.getName() + ".asyncTimeout";
+
+    /**
+     * 비동기 응답 타임아웃 설정
+     * 거래 내역 내보내기(StreamingResponseBody)처럼 오래 걸리는 응답만 요청 속성으로 타임아웃을 늘립니다.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // 비동기 처리 시작 전에 호출되므로 여기서 지정한 타임아웃이 AsyncContext 에 적용됨
+                Object timeoutMs = request.getAttribute(ASYNC_TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeoutMs instanceof Long timeout && request instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(timeout);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package kr.ssok.bank.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AuditEventTypeCode { // 감사 이벤트 유형 코드
+    // 송금 요청 수신/응답 (리스너)
+    REQUEST(0, "transfer.request"),
+    // 출금 이체 처리
+    WITHDRAW(1, "transfer.withdraw"),
+    // 입금 이체 처리
+    DEPOSIT(2, "transfer.deposit"),
+    // 당행 계좌 간 이체 처리
+    TRANSFER_INTERNAL(3, "transfer.internal"),
+    // 보상 처리
+    COMPENSATE(4, "transfer.compensate"),
+    // 일괄 입/출금 처리
+    BATCH(5, "transfer.batch");
+
+    private final int idx;
+    private final String value;
+}
@@ -0,0 +1,18 @@
+package kr.ssok.bank.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormatCode {
+    // 줄 단위 JSON
+    NDJSON(0, "ndjson", "application/x-ndjson"),
+
+    // CSV
+    CSV(1, "csv", "text/csv");
+
+    private final int idx;
+    private final String value;
+    private final String contentType;
+}
@@ -39,6 +39,9 @@ public enum FailureStatusCode implements BaseCode {
     ACCOUNT_BALANCE_FAILED(HttpStatus.BAD_REQUEST, "ACCOUNT4008", "계좌 잔액 조회에 실패하였습니다."),
     ACCOUNT_WITHDRAW_LIMIT_REACHED(HttpStatus.BAD_REQUEST, "ACCOUNT4009", "해당 계좌의 출금 한도에 도달하였습니다."),
     ACCOUNT_HISTORY_FAILED(HttpStatus.BAD_REQUEST, "ACCOUNT4010", "거래 내역 조회에 실패하였습니다."),
+    ACCOUNT_HISTORY_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "ACCOUNT4011", "거래 내역 조회 조건이 올바르지 않습니다."),
+    ACCOUNT_BULK_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "ACCOUNT4012", "일괄 조회 요청 계좌 수가 올바르지 않습니다."),
+    ACCOUNT_NUMBER_EXHAUSTED(HttpStatus.INTERNAL_SERVER_ERROR, "ACCOUNT5001", "발급 가능한 계좌번호가 없습니다."),
 
     // 거래 관련 에러
     TRANSACTION_NOT_EXISTS(HttpStatus.BAD_REQUEST, "TRANSACTION4002", "거래 내역이 존재하지 않습니다."),
@@ -56,6 +59,7 @@ public enum FailureStatusCode implements BaseCode {
     TRANSFER_ALREADY_COMPENSATED(HttpStatus.BAD_REQUEST, "TRANSFER4008", "중복된 보상 처리입니다."),
     INVALID_TRANSFER_AMOUNT(HttpStatus.BAD_REQUEST,"TRANSFER4009", "유효하지 않은 이체 금액입니다."),
     TRANSFER_COMPENSATE_FAILED(HttpStatus.BAD_REQUEST, "TRANSFER4010", "보상 처리에 실패하였습니다."),
+    TRANSFER_INTERNAL_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "TRANSFER4011", "당행 계좌 간 이체만 처리할 수 있습니다."),
 
     //상품 관련 에러
     GOOD_READ_FAILED(HttpStatus.BAD_REQUEST, "GOOD4001", "상품 목록이 존재하지 않습니다."),
@@ -0,0 +1,18 @@
+package kr.ssok.bank.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum InterestPostingModeCode { // 이자 지급 방식 코드
+    // 계좌 ID 범위 청크별 엔티티 갱신
+    CHUNKED(0, "CHUNKED"),
+    // 상품별 일괄 INSERT ... SELECT / UPDATE JOIN
+    SET_BASED(1, "SET_BASED"),
+    // 계좌별 적립 기록에 일 이자를 쌓고 지급일에만 잔액/거래 내역 반영
+    ACCRUAL(2, "ACCRUAL");
+
+    private final int idx;
+    private final String value;
+}
@@ -0,0 +1,18 @@
+package kr.ssok.bank.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum InterestRunStatusCode { // 이자 지급 실행 상태 코드
+    // 진행 중
+    RUNNING(0, "RUNNING"),
+    // 완료
+    COMPLETED(1, "COMPLETED"),
+    // 실패 (체크포인트부터 재시작)
+    FAILED(2, "FAILED");
+
+    private final int idx;
+    private final String value;
+}
@@ -0,0 +1,16 @@
+package kr.ssok.bank.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum LedgerModeCode { // 잔액 갱신 방식 코드
+    // 비관적 락 조회 후 엔티티 변경 (SELECT ... FOR UPDATE)
+    PESSIMISTIC(0, "PESSIMISTIC"),
+    // 조건부 UPDATE 한 번으로 잔액 갱신
+    ATOMIC(1, "ATOMIC");
+
+    private final int idx;
+    private final String value;
+}
@@ -33,6 +33,7 @@ public enum SuccessStatusCode implements BaseCode {
     ACCOUNT_OWNER_CHECK_OK(HttpStatus.OK, "ACCOUNT2006", "해당 계좌번호의 소유자(예금주)를 확인하였습니다."),
     ACCOUNT_NUMBER_FOUND_OK(HttpStatus.OK, "ACCOUNT2007", "해당 계좌 번호는 존재합니다."),
     ACCOUNT_HISTORY_OK(HttpStatus.OK, "ACCOUNT2008", "거래 내역이 조회 되었습니다."),
+    ACCOUNT_BULK_INQUIRY_OK(HttpStatus.OK, "ACCOUNT2010", "계좌 일괄 조회가 완료되었습니다. (계좌별 결과 코드 확인)"),
 
     // 상품 관련
     GOOD_READ_OK(HttpStatus.OK, "GOOD2001", "상품 내역이 조회 되었습니다.");
@@ -0,0 +1,18 @@
+package kr.ssok.bank.common.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간 기반 ID 생성 (SnowflakeIdGenerator)
+ * IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 Hibernate JDBC 배치 INSERT 가 가능합니다.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,109 @@
+package kr.ssok.bank.common.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.time.Instant;
+
+/**
+ * 노드별 시간 기반 64bit ID 생성기
+ * [부호 1bit][2025-01-01 기준 경과 ms 41bit][노드 ID 10bit][ms 내 순번 12bit]
+ *
+ * - 노드 ID 는 bank.node-id 시스템 프로퍼티 또는 BANK_NODE_ID 환경 변수로 반드시 지정합니다. (0 ~ 1023, 인스턴스마다 고유)
+ *   ID 를 미리 발급하므로 노드 ID 가 겹치면 커밋 시점에야 PK 충돌이 드러납니다.
+ *   따라서 지정하지 않으면 추정하지 않고 기동 시(Hibernate 가 생성기를 만들 때) 실패합니다.
+ * - 같은 노드에서는 단조 증가하며, 시계가 뒤로 가면 마지막 시각을 계속 사용합니다.
+ * - DB 에서 ID 를 계산해야 하는 일괄 INSERT 는 reserveBlock 으로 ms 단위 구간을 통째로 예약합니다.
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long NODE_ID = resolveNodeId();
+
+    private static long lastTimestamp = -1L;
+    private static long sequence = 0L;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    /**
+     * 다음 ID 를 발급합니다.
+     */
+    public static synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 안에서 순번 소진 시 다음 ms 사용
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * count 개의 ID 를 발급할 수 있도록 연속된 ms 구간을 예약합니다.
+     * 예약 구간의 (ms, 순번) 조합은 이 블록만 사용하며, 이후 nextId() 는 구간 다음 ms 부터 발급합니다.
+     *
+     * @param count 필요한 ID 개수
+     * @return 예약된 ID 블록 (i 번째 ID 는 idAt(i))
+     */
+    public static synchronized IdBlock reserveBlock(long count) {
+        long start = Math.max(System.currentTimeMillis(), lastTimestamp + 1);
+        long slots = Math.max(1L, (count + SEQUENCE_MASK) >> SEQUENCE_BITS);
+        lastTimestamp = start + slots - 1;
+        sequence = SEQUENCE_MASK;
+        return new IdBlock(((start - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS), count);
+    }
+
+    /**
+     * 예약된 ID 블록
+     * i 번째 ID = base + ((i / 4096) << 22) + (i % 4096) (SQL 에서도 같은 식으로 계산)
+     *
+     * @param base  첫 번째 ID (순번 0)
+     * @param count 예약한 ID 개수
+     */
+    public record IdBlock(long base, long count) {
+        public long idAt(long index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("index " + index + " out of block size " + count);
+            }
+            return base + ((index >> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) + (index & SEQUENCE_MASK);
+        }
+    }
+
+    static long getNodeId() {
+        return NODE_ID;
+    }
+
+    private static long resolveNodeId() {
+        return parseNodeId(System.getProperty("bank.node-id", System.getenv("BANK_NODE_ID")));
+    }
+
+    static long parseNodeId(String configured) {
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("[ID 생성기] 노드 ID 가 지정되지 않았습니다. "
+                    + "bank.node-id 시스템 프로퍼티 또는 BANK_NODE_ID 환경 변수로 인스턴스마다 고유한 값(0 ~ " + MAX_NODE_ID + ")을 지정하세요.");
+        }
+        long nodeId;
+        try {
+            nodeId = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("[ID 생성기] 노드 ID 가 숫자가 아닙니다: " + configured, e);
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalStateException("[ID 생성기] 노드 ID 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        return nodeId;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.ssok.bank.common.response;
+
+import jakarta.annotation.PostConstruct;
+import kr.ssok.bank.common.comm.JsonUtil;
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카프카 응답 인코더
+ * 응답을 ApiResponse JSON 바이트로 한 번만 직렬화합니다. (ByteArraySerializer 로 그대로 발송)
+ * 응답 값은 따옴표로 감싼 JSON 문자열이 아닌 JSON 객체이며 타입 헤더가 없으므로, 수신 측은
+ * StringDeserializer 로 받아 한 번 파싱하거나 기본 타입을 지정한 JsonDeserializer 를 사용해야 합니다.
+ * 응답은 결과 없이 상태 코드별로 고정이므로 미리 인코딩한 바이트를 재사용합니다.
+ * 캐시된 바이트 배열은 여러 응답이 공유하므로 수정하면 안 됩니다.
+ */
+@Slf4j
+@Component
+public class ReplyEncoder {
+
+    private final Map<BaseCode, byte[]> encodedCodes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (SuccessStatusCode code : SuccessStatusCode.values()) {
+            encode(code);
+        }
+        for (FailureStatusCode code : FailureStatusCode.values()) {
+            encode(code);
+        }
+        log.info("[응답 인코더] 상태 코드 응답 {}건 사전 인코딩 완료", encodedCodes.size());
+    }
+
+    /**
+     * 결과가 없는 응답 (캐시된 바이트 반환)
+     *
+     * @param code 상태 코드
+     * @return 응답 JSON 바이트
+     */
+    public byte[] encode(BaseCode code) {
+        return encodedCodes.computeIfAbsent(code, key -> JsonUtil.toJsonBytes(ApiResponse.of(key, null)));
+    }
+}
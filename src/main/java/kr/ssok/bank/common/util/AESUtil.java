@@ -1,5 +1,7 @@
 package kr.ssok.bank.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.PostConstruct;
 import kr.ssok.bank.common.constant.FailureStatusCode;
 import kr.ssok.bank.common.exception.BaseException;
@@ -9,8 +11,26 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * 계좌번호 AES 암/복호화 유틸
+ * - 초기화된 Cipher 를 모드별 풀에 보관하여 스레드 구분 없이 재사용합니다.
+ *   ThreadLocal 은 요청마다 새로 생성되는 가상 스레드에서는 재사용되지 않고 매번 Cipher 를 새로 만들게 되므로 사용하지 않습니다.
+ *   풀은 ReentrantLock 기반 큐(ArrayBlockingQueue)에서 기다리지 않고 꺼내기만 하므로 가상 스레드를 캐리어 스레드에 고정(pinning)하지 않습니다.
+ *   풀이 비어 있으면 새로 만들고, 가득 차면 반납하지 않고 버려 보관 개수를 제한합니다.
+ * - 문자열은 항상 UTF-8 로 변환합니다.
+ * - 자주 쓰이는 계좌번호는 암호문/평문을 양방향으로 캐싱합니다. (AES/ECB 는 결정적이므로 결과가 항상 같음)
+ */
 @Component
 @RequiredArgsConstructor
 public class AESUtil {
@@ -18,35 +38,167 @@ public class AESUtil {
     @Value("${encryption.key}")
     private String key;
 
+    @Value("${encryption.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // 모드별 Cipher 풀 크기 (0 이하이면 CPU 코어 수 x 2)
+    @Value("${encryption.cipher-pool.size:0}")
+    private int cipherPoolSize;
+
     private SecretKeySpec keySpec;
 
     private static final String ALGORITHM = "AES";
 
+    private BlockingQueue<Cipher> encryptCiphers;
+    private BlockingQueue<Cipher> decryptCiphers;
+
+    private Cache<String, String> encryptCache;
+    private Cache<String, String> decryptCache;
+
     @PostConstruct
     public void init() {
-        this.keySpec = new SecretKeySpec(key.getBytes(), ALGORITHM);
+        this.keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        int poolSize = cipherPoolSize > 0 ? cipherPoolSize : Runtime.getRuntime().availableProcessors() * 2;
+        this.encryptCiphers = new ArrayBlockingQueue<>(poolSize);
+        this.decryptCiphers = new ArrayBlockingQueue<>(poolSize);
+        this.encryptCache = Caffeine.newBuilder().maximumSize(cacheMaxSize).build();
+        this.decryptCache = Caffeine.newBuilder().maximumSize(cacheMaxSize).build();
     }
 
     public String encrypt(String plainText) {
-        try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-            byte[] encrypted = cipher.doFinal(plainText.getBytes());
-            return Base64.getEncoder().encodeToString(encrypted);
-        } catch (Exception e) {
+        if (plainText == null) {
             throw new BaseException(FailureStatusCode.AES_ENCRYPT_FAILED);
         }
+        String cached = encryptCache.getIfPresent(plainText);
+        if (cached != null) {
+            return cached;
+        }
+        String encryptedText = Base64.getEncoder().encodeToString(encrypt(plainText.getBytes(StandardCharsets.UTF_8)));
+        encryptCache.put(plainText, encryptedText);
+        decryptCache.put(encryptedText, plainText);
+        return encryptedText;
+    }
+
+    /**
+     * 여러 계좌번호를 한 번에 암호화합니다. (일괄 조회용)
+     * 캐시에 없는 평문만 풀에서 꺼낸 Cipher 하나로 연속 암호화하여 캐시에 채웁니다.
+     *
+     * @return 평문 -> 암호문 (중복 평문은 한 번만 포함)
+     */
+    public Map<String, String> encryptAll(Collection<String> plainTexts) {
+        if (plainTexts.stream().anyMatch(Objects::isNull)) {
+            throw new BaseException(FailureStatusCode.AES_ENCRYPT_FAILED);
+        }
+        return encryptCache.getAll(plainTexts, this::encryptMissing);
+    }
+
+    private Map<String, String> encryptMissing(Set<? extends String> plainTexts) {
+        return withCipher(Cipher.ENCRYPT_MODE, cipher -> {
+            Map<String, String> encrypted = new HashMap<>(plainTexts.size() * 2);
+            for (String plainText : plainTexts) {
+                String encryptedText = Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+                encrypted.put(plainText, encryptedText);
+                decryptCache.put(encryptedText, plainText);
+            }
+            return encrypted;
+        });
     }
 
     public String decrypt(String encryptedText) {
+        if (encryptedText == null) {
+            throw new BaseException(FailureStatusCode.AES_DECRYPT_FAILED);
+        }
+        String cached = decryptCache.getIfPresent(encryptedText);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(encryptedText);
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(FailureStatusCode.AES_DECRYPT_FAILED);
+        }
+        String plainText = new String(decrypt(decoded), StandardCharsets.UTF_8);
+        decryptCache.put(encryptedText, plainText);
+        encryptCache.put(plainText, encryptedText);
+        return plainText;
+    }
+
+    /**
+     * 평문 바이트 배열을 암호화합니다. (캐시 미사용)
+     */
+    public byte[] encrypt(byte[] plain) {
+        return withCipher(Cipher.ENCRYPT_MODE, cipher -> cipher.doFinal(plain));
+    }
+
+    /**
+     * 암호문 바이트 배열을 복호화합니다. (캐시 미사용)
+     */
+    public byte[] decrypt(byte[] encrypted) {
+        return withCipher(Cipher.DECRYPT_MODE, cipher -> cipher.doFinal(encrypted));
+    }
+
+    /**
+     * input 의 남은 바이트를 암호화하여 output 에 씁니다.
+     *
+     * @return output 에 쓴 바이트 수
+     */
+    public int encrypt(ByteBuffer input, ByteBuffer output) {
+        return withCipher(Cipher.ENCRYPT_MODE, cipher -> cipher.doFinal(input, output));
+    }
+
+    /**
+     * input 의 남은 바이트를 복호화하여 output 에 씁니다.
+     *
+     * @return output 에 쓴 바이트 수
+     */
+    public int decrypt(ByteBuffer input, ByteBuffer output) {
+        return withCipher(Cipher.DECRYPT_MODE, cipher -> cipher.doFinal(input, output));
+    }
+
+    /**
+     * 평문 길이에 대한 암호문 최대 길이 (ByteBuffer 출력 크기 계산용)
+     */
+    public int getOutputSize(int inputLength) {
+        return withCipher(Cipher.ENCRYPT_MODE, cipher -> cipher.getOutputSize(inputLength));
+    }
+
+    /**
+     * 풀에서 Cipher 를 꺼내 작업을 실행하고 반납합니다. (풀이 비어 있으면 새로 생성)
+     * 작업이 실패한 Cipher 는 상태를 알 수 없으므로 반납하지 않고 버립니다.
+     */
+    private <T> T withCipher(int mode, CipherTask<T> task) {
+        BlockingQueue<Cipher> pool = mode == Cipher.ENCRYPT_MODE ? encryptCiphers : decryptCiphers;
+        Cipher cipher = pool.poll();
+        if (cipher == null) {
+            cipher = createCipher(mode);
+        }
+        T result;
+        try {
+            result = task.apply(cipher);
+        } catch (Exception e) {
+            throw new BaseException(mode == Cipher.ENCRYPT_MODE
+                    ? FailureStatusCode.AES_ENCRYPT_FAILED
+                    : FailureStatusCode.AES_DECRYPT_FAILED);
+        }
+        pool.offer(cipher);
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface CipherTask<T> {
+        T apply(Cipher cipher) throws Exception;
+    }
+
+    private Cipher createCipher(int mode) {
         try {
             Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-            byte[] decoded = Base64.getDecoder().decode(encryptedText);
-            byte[] decrypted = cipher.doFinal(decoded);
-            return new String(decrypted);
+            cipher.init(mode, keySpec);
+            return cipher;
         } catch (Exception e) {
-            throw new BaseException(FailureStatusCode.AES_DECRYPT_FAILED);
+            throw new BaseException(mode == Cipher.ENCRYPT_MODE
+                    ? FailureStatusCode.AES_ENCRYPT_FAILED
+                    : FailureStatusCode.AES_DECRYPT_FAILED);
         }
     }
-}
\ No newline at end of file
+}
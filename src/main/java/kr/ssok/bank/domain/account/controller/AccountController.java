@@ -2,6 +2,8 @@ package kr.ssok.bank.domain.account.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
+import kr.ssok.bank.common.config.WebConfig;
+import kr.ssok.bank.common.constant.ExportFormatCode;
 import kr.ssok.bank.common.constant.FailureStatusCode;
 import kr.ssok.bank.common.constant.SuccessStatusCode;
 import kr.ssok.bank.common.constant.UserTypeCode;
@@ -11,20 +13,25 @@ import kr.ssok.bank.common.util.AESUtil;
 import kr.ssok.bank.domain.account.dto.*;
 import kr.ssok.bank.domain.account.entity.Account;
 import kr.ssok.bank.domain.account.service.AccountService;
+import kr.ssok.bank.domain.account.service.AccountSnapshot;
 import kr.ssok.bank.domain.good.entity.Good;
-import kr.ssok.bank.domain.good.repository.GoodRepository;
+import kr.ssok.bank.domain.good.service.GoodService;
 import kr.ssok.bank.domain.transfer.entity.TransferHistory;
-import kr.ssok.bank.domain.user.dto.UserRequestDTO;
 import kr.ssok.bank.domain.user.entity.User;
-import kr.ssok.bank.domain.user.repository.UserRepository;
 import kr.ssok.bank.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,11 +46,14 @@ import java.util.stream.Collectors;
 public class AccountController {
 
     private final AccountService accountService;
-    private final UserRepository userRepository;
-    private final GoodRepository goodRepository;
+    private final GoodService goodService;
     private final UserService userService;
     private final AESUtil aesUtil;
 
+    // 거래 내역 내보내기 응답 타임아웃 (이 요청에만 적용)
+    @Value("${account.history.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
+
     @Operation(summary = "계좌 개설", description = "계좌를 개설합니다.")
     @PostMapping("/account")
     public ApiResponse<String> createAccount(HttpServletRequest request, @RequestBody AccountRequestDTO accountRequest) {
@@ -53,61 +63,17 @@ public class AccountController {
             log.info("[계좌 개설] 컨트롤러 진입: 사용자 이름 = {}, 핸드폰 번호 = {}, 접속 서비스 = {}"
                     , accountRequest.getUsername(), accountRequest.getPhoneNumber(), source);
 
-            // 1. 사용자 조회
-            User user = userRepository.findByUsernameAndPhoneNumber(accountRequest.getUsername(), accountRequest.getPhoneNumber())
-                    .orElseGet(() -> {
-                        try {
-                            UserTypeCode userTypeCode;
-
-                            // 1-1. 사용자 생성
-                            // "SSOK"에서 온 요청은 무조건 '개인' 처리
-                            if ("SSOK".equals(source)) {
-                                userTypeCode = UserTypeCode.INDIVIDUAL;
-                            } else {
-                                // 나머지는 ENUM 매핑
-                                try {
-                                    userTypeCode = UserTypeCode.valueOf(accountRequest.getUserTypeCode().name());
-                                } catch (IllegalArgumentException e) {
-                                    log.error("[계좌 개설] 실패: 유효하지 않은 사용자 유형 코드 = {}", accountRequest.getUserTypeCode(), e);
-                                    throw new BaseException(FailureStatusCode.USER_TYPE_ERROR);
-                                }
-                            }
-
-                            // DTO 생성 (빌더 패턴 사용)
-                            UserRequestDTO userDto = UserRequestDTO.builder()
-                                    .username(accountRequest.getUsername())
-                                    .phoneNumber(accountRequest.getPhoneNumber())
-                                    .userTypeCode(userTypeCode)
-                                    .build();
-
-                            // 사용자 생성
-                            userService.createUser(userDto);
-
-                            // 1-2. 생성된 사용자 다시 조회
-                            return userRepository.findByUsernameAndPhoneNumber(
-                                    accountRequest.getUsername(), accountRequest.getPhoneNumber()
-                            ).orElseThrow(() -> {
-                                log.error("[계좌 개설] 실패: 사용자 생성 후 재조회 중 오류 발생. (사용자 이름 = {}, 핸드폰 번호 = {})"
-                                        , accountRequest.getUsername(), accountRequest.getPhoneNumber());
-                                throw new BaseException(FailureStatusCode.USER_NOT_FOUND);
-                            });
-                        } catch (Exception e) {
-                            log.error("[계좌 개설] 실패: 사용자 생성 중 오류 발생. (사용자 이름 = {}, 핸드폰 번호 = {})"
-                                    , accountRequest.getUsername(), accountRequest.getPhoneNumber(), e);
-                            throw new BaseException(FailureStatusCode.USER_CREATION_FAILED);
-                        }
-                    });
+            // 1. 사용자 조회 (없으면 생성)
+            // "SSOK"에서 온 요청은 무조건 '개인' 처리, 나머지는 요청한 유형 사용
+            UserTypeCode userTypeCode = "SSOK".equals(source) ? UserTypeCode.INDIVIDUAL : accountRequest.getUserTypeCode();
+            User user = userService.resolveUser(accountRequest.getUsername(), accountRequest.getPhoneNumber(), userTypeCode);
 
             log.info("[계좌 개설] 성공: 사용자 생성 및 조회 완료. (사용자 이름 = {}, 핸드폰 번호 = {})"
                     , user.getUsername(), user.getPhoneNumber());
 
             // 2. 계좌 개설
-            // 2-1. 상품 조회 로직 추가 (예금/적금 기본 상품 선택 -> 우선 [기본 예금]으로 생성)
-            Good good = goodRepository.findByAccountTypeCode(accountRequest.getAccountTypeCode())
-                    .orElseThrow(() -> {
-                        log.error("[계좌 개설] 실패: 상품 조회 실패. (계좌 유형 코드 = {})", accountRequest.getAccountTypeCode());
-                        return new BaseException(FailureStatusCode.GOOD_READ_FAILED);
-                    });
+            // 2-1. 상품 조회 (예금/적금 기본 상품 선택, 캐시 적중 시 쿼리 없음)
+            Good good = goodService.getGoodByAccountTypeCode(accountRequest.getAccountTypeCode());
 
             // 2-2. 계좌 개설
 //            Account account = accountService.createAccount(user, accountRequest.getAccountTypeCode(), good);
@@ -204,16 +170,15 @@ public class AccountController {
         log.info("[예금주명 조회] 컨트롤러 진입: 계좌번호 = {}", dto.getAccount());
 
         try {
-            Account account = this.accountService.getAccountByAccountNumber(dto.getAccount());
+            AccountSnapshot account = this.accountService.getAccountSnapshot(dto.getAccount());
 
-            User user = account.getUser();
             //해당 계좌의 사용자가 존재하는지 확인
-            if (user != null) {
+            if (account.ownerName() != null) {
                 AccountOwnerCheckResponseDTO res = AccountOwnerCheckResponseDTO.builder()
-                        .username(user.getUsername())
+                        .username(account.ownerName())
                         .build();
 
-                log.info("[예금주명 조회] 성공: 계좌번호 = {}, 사용자 이름 = {}", dto.getAccount(), user.getUsername());
+                log.info("[예금주명 조회] 성공: 계좌번호 = {}, 사용자 이름 = {}", dto.getAccount(), account.ownerName());
                 //성공 응답
                 return ApiResponse.of(SuccessStatusCode.ACCOUNT_OWNER_CHECK_OK, res);
             } else {
@@ -233,11 +198,12 @@ public class AccountController {
     public ApiResponse<AccountValidRequestDTO> checkAccountValidation(@RequestBody AccountValidRequestDTO dto) {
         log.info("[계좌 유효성 검사] 컨트롤러 진입: 사용자 이름 = {}, 계좌번호 = {}", dto.getUsername(), dto.getAccount());
         try {
-            Account account = this.accountService.getAccountByAccountNumber(dto.getAccount());
-            Optional<User> userOpt = Optional.ofNullable(account.getUser());
+            AccountSnapshot account = this.accountService.getAccountSnapshot(dto.getAccount());
+            Optional<String> ownerOpt = Optional.ofNullable(account.ownerName());
             //해당 계좌의 사용자가 존재하는지 확인
-            if (userOpt.isPresent() && dto.getAccount().equals(this.aesUtil.decrypt(account.getAccountNumber())) && dto.getUsername().equals(userOpt.get().getUsername())) {
-                log.info("[계좌 유효성 검사] 성공: 계좌번호 = {}, 사용자 이름 = {}", dto.getAccount(), userOpt.get().getUsername());
+            // 암호화한 계좌번호로 조회했으므로 계좌번호는 이미 일치 (예금주명만 비교)
+            if (ownerOpt.isPresent() && ownerOpt.get().equals(dto.getUsername())) {
+                log.info("[계좌 유효성 검사] 성공: 계좌번호 = {}, 사용자 이름 = {}", dto.getAccount(), ownerOpt.get());
                 return ApiResponse.of(SuccessStatusCode.ACCOUNT_VALIDATION_OK, null);
             } else {
                 log.error("[계좌 유효성 검사] 실패: 예금주와 계좌 정보가 일치하지 않습니다.");
@@ -254,23 +220,23 @@ public class AccountController {
     public ApiResponse<AccountTransferableCheckResponseDTO> checkTransferableAccount(@RequestBody AccountTransferableCheckRequestDTO dto) {
         log.info("[계좌 잔액 및 송금 한도 검사] 컨트롤러 진입: 사용자 이름 = {}, 계좌번호 = {}, 거래 금액 = {}", dto.getUsername(), dto.getAccount(), dto.getTransferAmount());
         try {
-            Account account = this.accountService.getAccountByAccountNumber(dto.getAccount());
+            AccountSnapshot account = this.accountService.getLatestAccountSnapshot(dto.getAccount());
 
             AccountTransferableCheckResponseDTO res = AccountTransferableCheckResponseDTO.builder()
-                    .balance(account.getBalance())
-                    .withdrawLimit(account.getWithdrawLimit())
+                    .balance(account.balance())
+                    .withdrawLimit(account.withdrawLimit())
                     .isTransferable(false)
                     .build();
 
-            Optional<User> userOpt = Optional.ofNullable(account.getUser());
+            Optional<String> ownerOpt = Optional.ofNullable(account.ownerName());
 
-            if (userOpt.isEmpty() || !dto.getUsername().equals(userOpt.get().getUsername())) {
+            if (ownerOpt.isEmpty() || !dto.getUsername().equals(ownerOpt.get())) {
                 log.error("[계좌 잔액 및 송금 한도 검사] 실패: 예금주와 계좌 정보가 일치하지 않습니다.");
                 return ApiResponse.of(FailureStatusCode.ACCOUNT_VALIDATION_FAILED, null);
             }
 
-            if (dto.getTransferAmount() <= account.getBalance()) {
-                if (dto.getTransferAmount() <= account.getWithdrawLimit()) {
+            if (dto.getTransferAmount() <= account.balance()) {
+                if (dto.getTransferAmount() <= account.withdrawLimit()) {
                     res.setTransferable(true);
                     log.info("[계좌 잔액 및 송금 한도 검사] 성공: 계좌번호 = {}", dto.getAccount());
                     return ApiResponse.of(SuccessStatusCode.TRANSFER_AVAILABLE, res);
@@ -293,11 +259,11 @@ public class AccountController {
     public ApiResponse<AccountBalanceResponseDTO> checkAccountBalance(@RequestBody AccountBalanceRequestDTO dto) {
         log.info("[계좌 잔액 확인] 컨트롤러 진입: 계좌번호 = {}", dto.getAccount());
         try {
-            Optional<Account> accountOpt = Optional.ofNullable(this.accountService.getAccountByAccountNumber(dto.getAccount()));
+            Optional<AccountSnapshot> accountOpt = Optional.ofNullable(this.accountService.getLatestAccountSnapshot(dto.getAccount()));
             if (accountOpt.isPresent()) {
-                Account account = accountOpt.get();
-                log.info("[계좌 잔액 확인] 성공: 거래 금액 = {} , 계좌번호 = {}", account.getBalance(), dto.getAccount());
-                return ApiResponse.of(SuccessStatusCode.ACCOUNT_BALANCE_OK, AccountBalanceResponseDTO.builder().balance(account.getBalance()).build());
+                AccountSnapshot account = accountOpt.get();
+                log.info("[계좌 잔액 확인] 성공: 거래 금액 = {} , 계좌번호 = {}", account.balance(), dto.getAccount());
+                return ApiResponse.of(SuccessStatusCode.ACCOUNT_BALANCE_OK, AccountBalanceResponseDTO.builder().balance(account.balance()).build());
             } else {
                 log.error("[계좌 잔액 확인] 실패: 계좌번호 = {}", dto.getAccount());
                 return ApiResponse.of(FailureStatusCode.ACCOUNT_BALANCE_FAILED, null);
@@ -308,6 +274,60 @@ public class AccountController {
         }
     }
 
+    @Operation(summary = "예금주명 일괄 조회", description = "여러 계좌번호의 예금주명을 한 번에 조회합니다. (계좌별 결과 코드 반환)")
+    @PostMapping("/account/owner/bulk")
+    public ApiResponse<List<AccountBulkInquiryResultDTO>> getAccountOwnersInBulk(@RequestBody AccountBulkInquiryRequestDTO dto) {
+        log.info("[예금주명 일괄 조회] 컨트롤러 진입: 요청 계좌 수 = {}", dto.getAccounts() != null ? dto.getAccounts().size() : 0);
+        try {
+            List<AccountBulkInquiryResultDTO> results = this.accountService.getOwnersInBulk(dto.getAccounts());
+
+            log.info("[예금주명 일괄 조회] 성공: 요청 계좌 수 = {}", results.size());
+            return ApiResponse.of(SuccessStatusCode.ACCOUNT_BULK_INQUIRY_OK, results);
+        } catch (BaseException e) {
+            log.error("[예금주명 일괄 조회] 실패: 에러 = {}", e.getMessage());
+            return ApiResponse.of(e.getStatus(), null);
+        } catch (Exception e) {
+            log.error("[예금주명 일괄 조회] 실패: 에러 = {}", e.getMessage(), e);
+            return ApiResponse.of(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
+        }
+    }
+
+    @Operation(summary = "계좌 유효성 일괄 검사", description = "여러 (계좌번호, 예금주명) 쌍의 유효성을 한 번에 확인합니다. (계좌별 결과 코드 반환)")
+    @PostMapping("/account/valid/bulk")
+    public ApiResponse<List<AccountBulkInquiryResultDTO>> checkAccountValidationInBulk(@RequestBody AccountBulkValidRequestDTO dto) {
+        log.info("[계좌 유효성 일괄 검사] 컨트롤러 진입: 요청 계좌 수 = {}", dto.getAccounts() != null ? dto.getAccounts().size() : 0);
+        try {
+            List<AccountBulkInquiryResultDTO> results = this.accountService.validateAccountsInBulk(dto.getAccounts());
+
+            log.info("[계좌 유효성 일괄 검사] 성공: 요청 계좌 수 = {}", results.size());
+            return ApiResponse.of(SuccessStatusCode.ACCOUNT_BULK_INQUIRY_OK, results);
+        } catch (BaseException e) {
+            log.error("[계좌 유효성 일괄 검사] 실패: 에러 = {}", e.getMessage());
+            return ApiResponse.of(e.getStatus(), null);
+        } catch (Exception e) {
+            log.error("[계좌 유효성 일괄 검사] 실패: 에러 = {}", e.getMessage(), e);
+            return ApiResponse.of(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
+        }
+    }
+
+    @Operation(summary = "계좌 잔액 일괄 확인", description = "여러 계좌의 잔액을 한 번에 확인합니다. (계좌별 결과 코드 반환)")
+    @PostMapping("/account/balance/bulk")
+    public ApiResponse<List<AccountBulkInquiryResultDTO>> checkAccountBalancesInBulk(@RequestBody AccountBulkInquiryRequestDTO dto) {
+        log.info("[계좌 잔액 일괄 확인] 컨트롤러 진입: 요청 계좌 수 = {}", dto.getAccounts() != null ? dto.getAccounts().size() : 0);
+        try {
+            List<AccountBulkInquiryResultDTO> results = this.accountService.getBalancesInBulk(dto.getAccounts());
+
+            log.info("[계좌 잔액 일괄 확인] 성공: 요청 계좌 수 = {}", results.size());
+            return ApiResponse.of(SuccessStatusCode.ACCOUNT_BULK_INQUIRY_OK, results);
+        } catch (BaseException e) {
+            log.error("[계좌 잔액 일괄 확인] 실패: 에러 = {}", e.getMessage());
+            return ApiResponse.of(e.getStatus(), null);
+        } catch (Exception e) {
+            log.error("[계좌 잔액 일괄 확인] 실패: 에러 = {}", e.getMessage(), e);
+            return ApiResponse.of(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
+        }
+    }
+
     @Operation(summary = "계좌 거래 내역 조회", description = "단일 계좌에 대한 거래 내역을 조회합니다.")
     @PostMapping("/account/history")
     public ApiResponse<List<AccountTransferHistoryResponseDTO>> getTransferHistory(@RequestBody AccountTransferHistoryRequestDTO dto) {
@@ -342,4 +362,52 @@ public class AccountController {
         }
     }
 
-}
\ No newline at end of file
+    @Operation(summary = "계좌 거래 내역 페이지 조회", description = "단일 계좌의 거래 내역을 기간/송금 타입 조건으로 최신순 커서 페이지 조회합니다.")
+    @PostMapping("/account/history/page")
+    public ApiResponse<AccountTransferHistoryPageResponseDTO> getTransferHistoryPage(@RequestBody AccountTransferHistoryPageRequestDTO dto) {
+        log.info("[계좌 거래 내역 조회] 컨트롤러 진입: 계좌번호 = {}, 커서 = {}", dto.getAccount(), dto.getCursor());
+        try {
+            AccountTransferHistoryPageResponseDTO response = this.accountService.getTransferHistoryPage(dto);
+
+            log.info("[계좌 거래 내역 조회] 성공: 계좌번호 = {}, 조회 건수 = {}", dto.getAccount(), response.getHistories().size());
+            return ApiResponse.of(SuccessStatusCode.ACCOUNT_HISTORY_OK, response);
+        } catch (BaseException e) {
+            log.error("[계좌 거래 내역 조회] 실패: 계좌번호 = {}, 에러 = {}", dto.getAccount(), e.getMessage());
+            return ApiResponse.of(e.getStatus(), null);
+        } catch (Exception e) {
+            log.error("[계좌 거래 내역 조회] 실패: 계좌번호 = {}, 에러 = {}", dto.getAccount(), e.getMessage(), e);
+            return ApiResponse.of(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
+        }
+    }
+
+    @Operation(summary = "계좌 거래 내역 내보내기", description = "단일 계좌의 전체 거래 내역을 NDJSON 또는 CSV 로 스트리밍합니다.")
+    @PostMapping("/account/history/export")
+    public ResponseEntity<?> exportTransferHistory(HttpServletRequest request, @RequestBody AccountTransferHistoryExportRequestDTO dto) {
+        ExportFormatCode format = dto.getFormat() != null ? dto.getFormat() : ExportFormatCode.NDJSON;
+        log.info("[계좌 거래 내역 내보내기] 컨트롤러 진입: 계좌번호 = {}, 형식 = {}", dto.getAccount(), format);
+        try {
+            // 스트리밍 시작 전 계좌 존재 여부 확인 (응답 헤더가 나가기 전에 실패 응답 가능)
+            Long accountId = this.accountService.getAccountIdByAccountNumber(dto.getAccount());
+
+            StreamingResponseBody body = outputStream -> this.accountService.exportTransferHistory(accountId, format, outputStream);
+
+            // 전체 내역 전송까지 응답을 유지하므로 이 요청에만 긴 비동기 타임아웃 적용
+            request.setAttribute(WebConfig.ASYNC_TIMEOUT_ATTRIBUTE, exportTimeoutMs);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(format.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("transfer-history." + format.getValue())
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (BaseException e) {
+            log.error("[계좌 거래 내역 내보내기] 실패: 계좌번호 = {}, 에러 = {}", dto.getAccount(), e.getMessage());
+            return ResponseEntity.ok(ApiResponse.of(e.getStatus(), null));
+        } catch (Exception e) {
+            log.error("[계좌 거래 내역 내보내기] 실패: 계좌번호 = {}, 에러 = {}", dto.getAccount(), e.getMessage(), e);
+            return ResponseEntity.ok(ApiResponse.of(FailureStatusCode._INTERNAL_SERVER_ERROR, null));
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package kr.ssok.bank.domain.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBulkInquiryRequestDTO {
+    // 조회할 계좌번호 목록 (최대 account.bulk.max-size 개)
+    private List<String> accounts;
+}
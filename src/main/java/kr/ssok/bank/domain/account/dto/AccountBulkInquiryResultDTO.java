@@ -0,0 +1,39 @@
+package kr.ssok.bank.domain.account.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.ssok.bank.common.response.BaseCode;
+import kr.ssok.bank.common.response.BaseResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일괄 조회 계좌별 결과 (code/message 는 단건 API 의 응답 코드와 같음)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccountBulkInquiryResultDTO {
+    private String account;
+    private Boolean isSuccess;
+    private String code;
+    private String message;
+    // 예금주명 조회 결과
+    @Setter
+    private String username;
+    // 잔액 조회 결과
+    @Setter
+    private Long balance;
+
+    public static AccountBulkInquiryResultDTO of(String account, BaseCode code) {
+        BaseResponseDTO reason = code.getReason();
+        return AccountBulkInquiryResultDTO.builder()
+                .account(account)
+                .isSuccess(reason.getIsSuccess())
+                .code(reason.getCode())
+                .message(reason.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package kr.ssok.bank.domain.account.dto;
+
+import kr.ssok.bank.common.constant.ExportFormatCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransferHistoryExportRequestDTO {
+    private String account;
+    // 내보내기 형식 (없으면 NDJSON)
+    private ExportFormatCode format;
+}
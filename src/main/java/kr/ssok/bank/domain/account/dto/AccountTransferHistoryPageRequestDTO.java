@@ -0,0 +1,26 @@
+package kr.ssok.bank.domain.account.dto;
+
+import kr.ssok.bank.common.constant.TransferTypeCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransferHistoryPageRequestDTO {
+    private String account;
+    // 송금 타입 필터 (없으면 전체)
+    private TransferTypeCode transferType;
+    // 조회 기간 (양 끝 포함, 없으면 최근 3개월)
+    private LocalDate from;
+    private LocalDate to;
+    // 이전 응답의 nextCursor (없으면 첫 페이지)
+    private String cursor;
+    // 페이지 크기 (기본 20, 최대 100)
+    private Integer size;
+}
@@ -0,0 +1,19 @@
+package kr.ssok.bank.domain.account.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTransferHistoryPageResponseDTO {
+
+    private List<AccountTransferHistoryResponseDTO> histories;
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import kr.ssok.bank.common.constant.AccountStatusCode;
 import kr.ssok.bank.common.constant.AccountTypeCode;
 import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.entity.SnowflakeId;
 import kr.ssok.bank.common.entity.TimeStamp;
 import kr.ssok.bank.domain.good.entity.Good;
 import kr.ssok.bank.domain.transfer.entity.TransferHistory;
@@ -26,7 +27,7 @@ public class Account extends TimeStamp {
 
     @Id
     @Column(name = "account_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long accountId;
 
     //계좌 유형 코드
@@ -0,0 +1,30 @@
+package kr.ssok.bank.domain.account.entity;
+
+import jakarta.persistence.*;
+import kr.ssok.bank.common.entity.TimeStamp;
+import lombok.*;
+
+/**
+ * 계좌번호 채번 카운터
+ * 채번 구간(은행 prefix-계좌 유형)별로 다음 블록의 시작 번호를 기록합니다.
+ * 각 인스턴스는 행 락을 잡고 블록 단위로 번호를 예약한 뒤, 예약한 구간 안에서는 DB 조회 없이 발급합니다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_number_sequence")
+public class AccountNumberSequence extends TimeStamp {
+
+    // 채번 구간 (예: 626-01)
+    @Id
+    @Column(name = "namespace", length = 16)
+    private String namespace;
+
+    // 다음 블록 시작 번호
+    @Builder.Default
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue = 0L;
+}
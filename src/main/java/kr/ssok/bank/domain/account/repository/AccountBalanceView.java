@@ -0,0 +1,9 @@
+package kr.ssok.bank.domain.account.repository;
+
+/**
+ * 계좌 ID/잔액 조회용 프로젝션
+ */
+public interface AccountBalanceView {
+    Long getAccountId();
+    Long getBalance();
+}
@@ -0,0 +1,18 @@
+package kr.ssok.bank.domain.account.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.ssok.bank.domain.account.entity.AccountNumberSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AccountNumberSequenceRepository extends JpaRepository<AccountNumberSequence, String> {
+
+    // 블록 예약 (인스턴스 간 같은 구간을 예약하지 않도록 행 락)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountNumberSequence s WHERE s.namespace = :namespace")
+    Optional<AccountNumberSequence> findForUpdate(@Param("namespace") String namespace);
+}
@@ -0,0 +1,15 @@
+package kr.ssok.bank.domain.account.repository;
+
+import kr.ssok.bank.common.constant.AccountStatusCode;
+
+/**
+ * 계좌 + 예금주명 조회용 프로젝션 (사용자 조인 한 번으로 조회, 계좌 조회 API 스냅샷 적재용)
+ */
+public interface AccountOwnerView {
+    Long getAccountId();
+    String getAccountNumber();
+    String getOwnerName();
+    AccountStatusCode getAccountStatusCode();
+    Long getWithdrawLimit();
+    Long getBalance();
+}
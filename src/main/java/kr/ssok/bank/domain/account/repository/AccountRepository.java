@@ -1,21 +1,37 @@
 package kr.ssok.bank.domain.account.repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import kr.ssok.bank.common.constant.AccountStatusCode;
 import kr.ssok.bank.common.constant.BankCode;
 import kr.ssok.bank.domain.account.entity.Account;
 import kr.ssok.bank.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    // 상품별 일괄 이자 지급 대상 조건 (account a JOIN good g, 파라미터: goodId, baseTime, dailyRate)
+    String INTEREST_COHORT_CONDITION = "WHERE a.good_id = :goodId AND a.account_status_code = 'ACTIVE' AND a.bank_code = 'SSOK_BANK' " +
+            "AND a.balance > 0 " +
+            "AND COALESCE(a.last_interest_paid_at, a.created_at) < :baseTime " +
+            "AND COALESCE(a.last_interest_paid_at, a.created_at) <= DATE_SUB(:baseTime, INTERVAL g.interest_cycle DAY) " +
+            "AND FLOOR(a.balance * :dailyRate) > 0 ";
+
     List<Account> findAllByUser(User user);
     boolean existsByAccountNumber(String accountNumber);
     Optional<Account> findAccountByAccountNumber(String accountNumber);
@@ -23,8 +39,105 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findByAccountStatusCodeAndBalanceGreaterThanAndBankCode(AccountStatusCode statusCode, Long balance, BankCode bankCode);
 
 
+    // 사용자별 계좌 목록 조회 (사용자 조인 한 번, 응답 필드만 조회하며 조회 전 flush 생략)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT a.accountNumber AS accountNumber, a.balance AS balance, a.bankCode AS bankCode, " +
+            "a.accountStatusCode AS accountStatusCode, a.accountTypeCode AS accountTypeCode, a.withdrawLimit AS withdrawLimit, " +
+            "a.createdAt AS createdAt, a.updatedAt AS updatedAt " +
+            "FROM Account a JOIN a.user u " +
+            "WHERE u.username = :username AND u.phoneNumber = :phoneNumber " +
+            "ORDER BY a.accountId")
+    List<AccountSummaryView> findSummariesByUsernameAndPhoneNumber(@Param("username") String username,
+                                                                   @Param("phoneNumber") String phoneNumber);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
     Optional<Account> findWithPessimisticLockByAccountNumber(@Param("accountNumber") String accountNumber);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountId = :accountId")
+    Optional<Account> findWithPessimisticLockByAccountId(@Param("accountId") Long accountId);
+
+    // 잔액이 충분할 때만 차감 (반영된 행 수가 0이면 잔액 부족 또는 계좌 없음)
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount, a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.accountNumber = :accountNumber AND a.balance >= :amount")
+    int debitIfSufficient(@Param("accountNumber") String accountNumber, @Param("amount") Long amount);
+
+    // 무조건 증액 (반영된 행 수가 0이면 계좌 없음)
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.accountNumber = :accountNumber")
+    int credit(@Param("accountNumber") String accountNumber, @Param("amount") Long amount);
+
+    @Query("SELECT a.accountId AS accountId, a.balance AS balance FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountBalanceView> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // 계좌 + 예금주명 조회 (사용자 지연 로딩 없이 한 번에, 필요한 컬럼만)
+    String OWNER_VIEW_SELECT = "SELECT a.accountId AS accountId, a.accountNumber AS accountNumber, u.username AS ownerName, " +
+            "a.accountStatusCode AS accountStatusCode, a.withdrawLimit AS withdrawLimit, a.balance AS balance " +
+            "FROM Account a LEFT JOIN a.user u ";
+
+    @Query(OWNER_VIEW_SELECT + "WHERE a.accountNumber = :accountNumber")
+    Optional<AccountOwnerView> findOwnerViewByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // 일괄 조회 (IN 쿼리 한 번)
+    @Query(OWNER_VIEW_SELECT + "WHERE a.accountNumber IN :accountNumbers")
+    List<AccountOwnerView> findOwnerViewsByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Query("SELECT a.accountId FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findAccountIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // 이자 지급 대상 계좌 ID (afterId 이후, ID 오름차순)
+    @Query("SELECT a.accountId FROM Account a WHERE a.accountStatusCode = :status AND a.bankCode = :bankCode " +
+            "AND a.balance > 0 AND a.accountId > :afterId ORDER BY a.accountId")
+    List<Long> findInterestTargetIds(@Param("status") AccountStatusCode status,
+                                     @Param("bankCode") BankCode bankCode,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    @Query("SELECT COUNT(a) FROM Account a WHERE a.accountStatusCode = :status AND a.bankCode = :bankCode " +
+            "AND a.balance > 0 AND a.accountId > :afterId")
+    long countInterestTargets(@Param("status") AccountStatusCode status,
+                              @Param("bankCode") BankCode bankCode,
+                              @Param("afterId") Long afterId);
+
+    // 이자 지급 청크 조회 (ID 범위, 동시 이체와의 갱신 유실 방지를 위해 행 락)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountStatusCode = :status AND a.bankCode = :bankCode " +
+            "AND a.balance > 0 AND a.accountId BETWEEN :fromId AND :toId ORDER BY a.accountId")
+    List<Account> findInterestTargetsForUpdate(@Param("status") AccountStatusCode status,
+                                               @Param("bankCode") BankCode bankCode,
+                                               @Param("fromId") Long fromId,
+                                               @Param("toId") Long toId);
+
+    // 적립 이자 정산 대상 조회 (잔액 조건 없이 ID 목록으로 행 락)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountStatusCode = :status AND a.bankCode = :bankCode " +
+            "AND a.accountId IN :accountIds ORDER BY a.accountId")
+    List<Account> findAccrualTargetsForUpdate(@Param("status") AccountStatusCode status,
+                                              @Param("bankCode") BankCode bankCode,
+                                              @Param("accountIds") Collection<Long> accountIds);
+
+    // 상품별 일괄 이자 지급 대상 건수/총액
+    // 잠금 읽기로 집계하여 INSERT ... SELECT 와 같은 최신 행을 보고, 커밋까지 대상 행 변경/신규 계좌 삽입을 막음
+    @Query(value = "SELECT COUNT(*) AS targetCount, COALESCE(SUM(FLOOR(a.balance * :dailyRate)), 0) AS totalInterest " +
+            "FROM account a JOIN good g ON g.good_id = a.good_id " + INTEREST_COHORT_CONDITION + "FOR UPDATE", nativeQuery = true)
+    InterestCohortView summarizeInterestCohort(@Param("goodId") Long goodId,
+                                               @Param("baseTime") LocalDateTime baseTime,
+                                               @Param("dailyRate") BigDecimal dailyRate);
+
+    // 상품별 일괄 이자 반영 (방금 기록한 이자 거래 내역과 조인하여 잔액/마지막 지급 일시 갱신)
+    @Modifying
+    @Query(value = "UPDATE account a JOIN transfer_history t ON t.account_id = a.account_id " +
+            "AND t.transaction_id = CONCAT(:transactionPrefix, a.account_id) AND t.transfer_type = 'INTEREST' " +
+            "SET a.balance = a.balance + t.transfer_amount, a.last_interest_paid_at = :baseTime, a.updated_at = CURRENT_TIMESTAMP " +
+            "WHERE a.good_id = :goodId AND (a.last_interest_paid_at IS NULL OR a.last_interest_paid_at < :baseTime)", nativeQuery = true)
+    int applyInterestCohort(@Param("goodId") Long goodId,
+                            @Param("transactionPrefix") String transactionPrefix,
+                            @Param("baseTime") LocalDateTime baseTime);
+
 }
@@ -0,0 +1,21 @@
+package kr.ssok.bank.domain.account.repository;
+
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.common.constant.AccountTypeCode;
+import kr.ssok.bank.common.constant.BankCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 계좌 목록 조회용 프로젝션 (AccountResponseDTO 필드만 조회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public interface AccountSummaryView {
+    String getAccountNumber();
+    Long getBalance();
+    BankCode getBankCode();
+    AccountStatusCode getAccountStatusCode();
+    AccountTypeCode getAccountTypeCode();
+    Long getWithdrawLimit();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,9 @@
+package kr.ssok.bank.domain.account.repository;
+
+/**
+ * 상품별 이자 지급 대상 집계 프로젝션
+ */
+public interface InterestCohortView {
+    Long getTargetCount();
+    Long getTotalInterest();
+}
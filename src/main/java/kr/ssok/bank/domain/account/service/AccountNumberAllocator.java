@@ -0,0 +1,140 @@
+package kr.ssok.bank.domain.account.service;
+
+import kr.ssok.bank.common.constant.AccountTypeCode;
+import kr.ssok.bank.common.constant.BankCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌번호 채번기
+ * 형식: 은행 prefix(3) - 유형(2) - 일련번호(4 + 5) + 검증 번호(1), 예: 626-01-0000-000017
+ * - 일련번호는 채번 구간(은행 prefix-유형)별 DB 카운터에서 block-size 개씩 예약하여 메모리에서 발급하므로,
+ *   계좌마다 중복 확인 쿼리가 필요 없고 인스턴스가 여러 개여도 겹치지 않습니다.
+ * - 기존 채번 방식은 일련번호 앞 4자리가 1000 ~ 9999 이므로, 0000 ~ 0999 만 사용하여 기존 계좌번호와도 겹치지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountNumberAllocator {
+
+    // 일련번호 뒤 5자리
+    private static final long TIME_PART_RANGE = 100_000L;
+    // 구간별 발급 가능 번호 수 (앞 4자리 0000 ~ 0999)
+    static final long MAX_SERIAL = 1_000L * TIME_PART_RANGE;
+    // 카운터 행 동시 생성 시 예약 시도 횟수
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final AccountNumberBlockReserver accountNumberBlockReserver;
+
+    @Value("${account.number.block-size:100}")
+    private int blockSize;
+
+    private final Map<String, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * 새 계좌번호(평문)를 발급합니다.
+     */
+    public String allocate(BankCode bankCode, AccountTypeCode accountTypeCode) {
+        String bankPrefix = bankPrefix(bankCode);
+        String namespace = String.format("%s-%02d", bankPrefix, accountTypeCode.getIdx());
+
+        long serial = nextSerial(namespace);
+        return formatAccountNumber(bankPrefix, accountTypeCode.getIdx(), (int) (serial / TIME_PART_RANGE), serial % TIME_PART_RANGE);
+    }
+
+    private long nextSerial(String namespace) {
+        NumberBlock block = blocks.computeIfAbsent(namespace, key -> new NumberBlock());
+        // 같은 구간만 직렬화 (블록을 다 쓴 경우에만 DB 왕복)
+        // DB 왕복 중에도 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 사용
+        block.lock.lock();
+        try {
+            if (block.next >= block.end) {
+                AccountNumberBlockReserver.AccountNumberBlock reserved = reserve(namespace);
+                block.next = reserved.start();
+                block.end = reserved.end();
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    // 처음 쓰는 구간을 여러 인스턴스가 동시에 예약하면 카운터 행 생성이 충돌함
+    // - 키 중복: 다른 인스턴스가 먼저 행을 만든 경우
+    // - 락 획득 실패/교착 상태: 없는 행을 FOR UPDATE 로 조회하며 잡은 갭 락끼리 INSERT 가 서로 막힌 경우 (한쪽이 롤백됨)
+    // 어느 쪽이든 상대 트랜잭션이 커밋하면 행이 생기므로, 락을 잡고 다시 예약
+    private AccountNumberBlockReserver.AccountNumberBlock reserve(String namespace) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return accountNumberBlockReserver.reserve(namespace, Math.max(1, blockSize), MAX_SERIAL);
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("[계좌번호 채번] 카운터 동시 생성, 재시도: 구간 = {}, 시도 = {}, 사유 = {}",
+                        namespace, attempt, e.getClass().getSimpleName());
+            }
+        }
+    }
+
+    // 계좌 Prefix 임의 지정
+    static String bankPrefix(BankCode bankCode) {
+        return switch (bankCode) {
+            case SSOK_BANK -> "626";
+            case KAKAO_BANK -> "090";
+            case KOOKMIN_BANK -> "004";
+            case SHINHAN_BANK -> "110";
+            case WOORI_BANK -> "020";
+            case HANA_BANK -> "081";
+            case NH_BANK -> "011";
+            case IBK_BANK -> "003";
+            case K_BANK -> "089";
+            case TOSS_BANK -> "100";
+            default -> "626";
+        };
+    }
+
+    // 계좌번호 조립 (은행 prefix - 유형 - 일련번호 앞 4자리 - 뒤 5자리 + 검증 번호)
+    static String formatAccountNumber(String bankPrefix, int typeIdx, int randomPart, long timeBase) {
+        String checkDigitSource = String.format("%02d%04d%05d", typeIdx, randomPart, timeBase);
+
+        // 검증 번호
+        int checkDigit = calculateLuhnCheckDigit(checkDigitSource);
+
+        // 계좌번호 마지막 자리를 검증 번호로 대체
+        long timePartWithCheck = timeBase * 10 + checkDigit; // 예: 12345 → 123451
+
+        return String.format("%s-%02d-%04d-%06d", bankPrefix, typeIdx, randomPart, timePartWithCheck);
+    }
+
+    // 검증번호 체크 알고리즘
+    static int calculateLuhnCheckDigit(String number) {
+        int sum = 0;
+        boolean alternate = false;
+        for (int i = number.length() - 1; i >= 0; i--) {
+            int n = Character.getNumericValue(number.charAt(i));
+            if (alternate) {
+                n *= 2;
+                if (n > 9) n -= 9;
+            }
+            sum += n;
+            alternate = !alternate;
+        }
+        return (10 - (sum % 10)) % 10;
+    }
+
+    // 메모리에 보관하는 예약 구간 [next, end)
+    private static final class NumberBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,59 @@
+package kr.ssok.bank.domain.account.service;
+
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.exception.BaseException;
+import kr.ssok.bank.domain.account.entity.AccountNumberSequence;
+import kr.ssok.bank.domain.account.repository.AccountNumberSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌번호 블록 예약기
+ * 계좌 개설 트랜잭션과 분리된 짧은 트랜잭션에서 카운터를 올리므로, 행 락은 예약하는 동안만 유지됩니다.
+ * (개설이 롤백되어도 예약한 구간은 돌려받지 않으며, 번호에 빈 구간이 생길 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountNumberBlockReserver {
+
+    private final AccountNumberSequenceRepository accountNumberSequenceRepository;
+
+    /**
+     * 채번 구간에서 [시작 번호, 시작 번호 + 예약 개수) 를 예약합니다.
+     *
+     * @param namespace 채번 구간 (은행 prefix-계좌 유형)
+     * @param blockSize 예약할 번호 개수
+     * @param maxValue  구간에서 발급 가능한 번호 개수
+     * @return 예약한 블록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public AccountNumberBlock reserve(String namespace, int blockSize, long maxValue) {
+        // 처음 쓰는 구간이면 카운터 행 생성
+        // (동시에 생성하면 한쪽은 키 중복 또는 갭 락 교착으로 실패하고 호출 측에서 재시도)
+        AccountNumberSequence sequence = accountNumberSequenceRepository.findForUpdate(namespace)
+                .orElseGet(() -> accountNumberSequenceRepository.saveAndFlush(AccountNumberSequence.builder()
+                        .namespace(namespace)
+                        .build()));
+
+        long start = sequence.getNextValue();
+        long end = Math.min(start + blockSize, maxValue);
+        if (start >= end) {
+            log.error("[계좌번호 채번] 발급 가능한 번호 소진: 구간 = {}", namespace);
+            throw new BaseException(FailureStatusCode.ACCOUNT_NUMBER_EXHAUSTED);
+        }
+        sequence.setNextValue(end);
+
+        log.info("[계좌번호 채번] 블록 예약: 구간 = {}, 번호 = {} ~ {}", namespace, start, end - 1);
+        return new AccountNumberBlock(start, end);
+    }
+
+    /**
+     * 예약한 번호 구간 [start, end)
+     */
+    public record AccountNumberBlock(long start, long end) {
+    }
+}
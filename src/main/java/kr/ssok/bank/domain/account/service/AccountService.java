@@ -1,18 +1,36 @@
 package kr.ssok.bank.domain.account.service;
 
 import kr.ssok.bank.common.constant.AccountTypeCode;
+import kr.ssok.bank.common.constant.ExportFormatCode;
 import kr.ssok.bank.common.exception.BaseException;
+import kr.ssok.bank.domain.account.dto.AccountBulkInquiryResultDTO;
 import kr.ssok.bank.domain.account.dto.AccountResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryPageRequestDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryPageResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountValidRequestDTO;
 import kr.ssok.bank.domain.account.entity.Account;
 import kr.ssok.bank.domain.good.entity.Good;
 import kr.ssok.bank.domain.user.entity.User;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface AccountService {
 //    public Account createAccount(User user, AccountTypeCode accountTypeCode, Good good) throws BaseException;
     public List<Account> createAccount(User user, AccountTypeCode accountTypeCode, Good good) throws BaseException;
     public Account getAccountByAccountNumber(String accountNumber);
+    public AccountSnapshot getAccountSnapshot(String accountNumber);
+    public AccountSnapshot getLatestAccountSnapshot(String accountNumber);
+    public Map<String, AccountSnapshot> getAccountSnapshots(Collection<String> accountNumbers);
+    public List<AccountBulkInquiryResultDTO> getOwnersInBulk(List<String> accountNumbers);
+    public List<AccountBulkInquiryResultDTO> validateAccountsInBulk(List<AccountValidRequestDTO> requests);
+    public List<AccountBulkInquiryResultDTO> getBalancesInBulk(List<String> accountNumbers);
     public List<AccountResponseDTO> getAccountsByUsernameAndPhoneNumber(String username, String phoneNumber);
     public boolean isAccountDormant(String accountNumber);
+    public AccountTransferHistoryPageResponseDTO getTransferHistoryPage(AccountTransferHistoryPageRequestDTO request);
+    public Long getAccountIdByAccountNumber(String accountNumber);
+    public long exportTransferHistory(Long accountId, ExportFormatCode format, OutputStream outputStream) throws IOException;
 }
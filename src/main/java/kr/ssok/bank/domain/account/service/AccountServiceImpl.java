@@ -3,23 +3,49 @@ package kr.ssok.bank.domain.account.service;
 import kr.ssok.bank.common.constant.AccountStatusCode;
 import kr.ssok.bank.common.constant.AccountTypeCode;
 import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.constant.ExportFormatCode;
 import kr.ssok.bank.common.exception.BaseException;
 import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
 import kr.ssok.bank.common.util.AESUtil;
+import kr.ssok.bank.domain.account.dto.AccountBulkInquiryResultDTO;
 import kr.ssok.bank.domain.account.dto.AccountResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryPageRequestDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryPageResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountValidRequestDTO;
 import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountOwnerView;
 import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.repository.AccountSummaryView;
 import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.transfer.entity.TransferHistory;
+import kr.ssok.bank.domain.transfer.repository.TransferHistoryRowView;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
 import kr.ssok.bank.domain.user.entity.User;
 import kr.ssok.bank.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,7 +56,20 @@ public class AccountServiceImpl implements AccountService{
 
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
     private final AESUtil aesUtil;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final AccountNumberAllocator accountNumberAllocator;
+
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int DEFAULT_HISTORY_MONTHS = 3;
+
+    @Value("${account.history.export.chunk-size:500}")
+    private int exportChunkSize;
+
+    @Value("${account.bulk.max-size:50}")
+    private int bulkMaxSize;
 
     // 계좌 생성 메서드
     public List<Account> createAccount(User user, AccountTypeCode accountTypeCode, Good good) throws BaseException {
@@ -57,7 +96,7 @@ public class AccountServiceImpl implements AccountService{
 
                 Account account = Account.builder()
                         .accountTypeCode(accountTypeCode)
-                        .accountNumber(aesUtil.encrypt(generateAccountNumber(accountTypeCode, bankCode)))
+                        .accountNumber(aesUtil.encrypt(accountNumberAllocator.allocate(bankCode, accountTypeCode)))
                         .balance(initialBalance)
                         .bankCode(bankCode)
                         .accountStatusCode(AccountStatusCode.ACTIVE)
@@ -101,38 +140,170 @@ public class AccountServiceImpl implements AccountService{
         );
     }
 
-    // 사용자 별 계좌 조회 메서드
+    // 계좌 조회 API 용 스냅샷 조회 (캐시 적중 시 DB 커넥션을 사용하지 않도록 물리 트랜잭션 없이 실행)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AccountSnapshot getAccountSnapshot(String accountNumber) throws BaseException {
+        String encryptedAccountNumber = aesUtil.encrypt(accountNumber);
+
+        // 캐시 미적중 시 계좌 + 예금주명을 조인 한 번으로 조회
+        AccountSnapshot snapshot = accountSnapshotCache.get(encryptedAccountNumber, encrypted ->
+                accountRepository.findOwnerViewByAccountNumber(encrypted)
+                        .map(AccountSnapshot::from)
+                        .orElse(null));
+        if (snapshot == null) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    // 잔액 응답용 스냅샷 조회 (캐시를 거치지 않고 DB 최신값 조회)
+    // 스냅샷 캐시와 커밋 후 무효화는 인스턴스 안에서만 동작하므로, 다른 인스턴스에서 커밋된 이체가 반영되지 않은 잔액을 응답하지 않도록 함
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AccountSnapshot getLatestAccountSnapshot(String accountNumber) throws BaseException {
+        return accountRepository.findOwnerViewByAccountNumber(aesUtil.encrypt(accountNumber))
+                .map(AccountSnapshot::from)
+                .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+    }
+
+    // 계좌 일괄 조회 (평문 계좌번호 -> 스냅샷, 존재하지 않는 계좌는 결과에서 빠짐)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, AccountSnapshot> getAccountSnapshots(Collection<String> accountNumbers) {
+        return loadSnapshots(accountNumbers, true);
+    }
+
+    // cached = false 면 캐시를 거치지 않고 IN 쿼리 한 번으로 최신값 조회 (잔액 응답용)
+    private Map<String, AccountSnapshot> loadSnapshots(Collection<String> accountNumbers, boolean cached) {
+        List<String> distinctNumbers = accountNumbers.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctNumbers.isEmpty()) {
+            return Map.of();
+        }
+
+        // 1. 계좌번호 일괄 암호화
+        Map<String, String> encryptedNumbers = aesUtil.encryptAll(distinctNumbers);
+
+        // 2. 캐시에 없는 계좌만 IN 쿼리 한 번으로 조회 (계좌 + 예금주명)
+        Function<Collection<? extends String>, Map<String, AccountSnapshot>> loader = encrypted ->
+                accountRepository.findOwnerViewsByAccountNumberIn(List.copyOf(encrypted)).stream()
+                        .collect(Collectors.toMap(AccountOwnerView::getAccountNumber, AccountSnapshot::from));
+        Map<String, AccountSnapshot> snapshots = cached
+                ? accountSnapshotCache.getAll(encryptedNumbers.values(), loader::apply)
+                : loader.apply(encryptedNumbers.values());
+
+        Map<String, AccountSnapshot> result = new HashMap<>(distinctNumbers.size() * 2);
+        encryptedNumbers.forEach((accountNumber, encrypted) -> {
+            AccountSnapshot snapshot = snapshots.get(encrypted);
+            if (snapshot != null) {
+                result.put(accountNumber, snapshot);
+            }
+        });
+        return result;
+    }
+
+    // 예금주명 일괄 조회 메서드 (요청 순서대로 계좌별 결과 반환)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<AccountBulkInquiryResultDTO> getOwnersInBulk(List<String> accountNumbers) {
+        checkBulkSize(accountNumbers);
+        log.info("[예금주명 일괄 조회] 서비스 진입: 요청 계좌 수 = {}", accountNumbers.size());
+
+        Map<String, AccountSnapshot> snapshots = getAccountSnapshots(accountNumbers);
+
+        return accountNumbers.stream().map(accountNumber -> {
+            AccountSnapshot snapshot = snapshots.get(accountNumber);
+            if (snapshot == null || snapshot.ownerName() == null) {
+                return AccountBulkInquiryResultDTO.of(accountNumber, FailureStatusCode.ACCOUNT_OWNER_CHECK_FAILED);
+            }
+            AccountBulkInquiryResultDTO result = AccountBulkInquiryResultDTO.of(accountNumber, SuccessStatusCode.ACCOUNT_OWNER_CHECK_OK);
+            result.setUsername(snapshot.ownerName());
+            return result;
+        }).toList();
+    }
+
+    // 계좌 유효성 일괄 검사 메서드 (요청 순서대로 계좌별 결과 반환)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<AccountBulkInquiryResultDTO> validateAccountsInBulk(List<AccountValidRequestDTO> requests) {
+        checkBulkSize(requests);
+        log.info("[계좌 유효성 일괄 검사] 서비스 진입: 요청 계좌 수 = {}", requests.size());
+
+        Map<String, AccountSnapshot> snapshots = getAccountSnapshots(requests.stream()
+                .map(AccountValidRequestDTO::getAccount)
+                .toList());
+
+        // 암호화된 계좌번호로 조회했으므로 계좌번호는 이미 일치 (예금주명만 비교)
+        return requests.stream().map(request -> {
+            AccountSnapshot snapshot = snapshots.get(request.getAccount());
+            if (snapshot == null) {
+                return AccountBulkInquiryResultDTO.of(request.getAccount(), FailureStatusCode.ACCOUNT_NOT_FOUND);
+            }
+            if (snapshot.ownerName() == null || !snapshot.ownerName().equals(request.getUsername())) {
+                return AccountBulkInquiryResultDTO.of(request.getAccount(), FailureStatusCode.ACCOUNT_VALIDATION_FAILED);
+            }
+            return AccountBulkInquiryResultDTO.of(request.getAccount(), SuccessStatusCode.ACCOUNT_VALIDATION_OK);
+        }).toList();
+    }
+
+    // 계좌 잔액 일괄 조회 메서드 (요청 순서대로 계좌별 결과 반환)
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<AccountBulkInquiryResultDTO> getBalancesInBulk(List<String> accountNumbers) {
+        checkBulkSize(accountNumbers);
+        log.info("[계좌 잔액 일괄 조회] 서비스 진입: 요청 계좌 수 = {}", accountNumbers.size());
+
+        // 잔액은 캐시하지 않은 최신값으로 응답
+        Map<String, AccountSnapshot> snapshots = loadSnapshots(accountNumbers, false);
+
+        return accountNumbers.stream().map(accountNumber -> {
+            AccountSnapshot snapshot = snapshots.get(accountNumber);
+            if (snapshot == null) {
+                return AccountBulkInquiryResultDTO.of(accountNumber, FailureStatusCode.ACCOUNT_NOT_FOUND);
+            }
+            AccountBulkInquiryResultDTO result = AccountBulkInquiryResultDTO.of(accountNumber, SuccessStatusCode.ACCOUNT_BALANCE_OK);
+            result.setBalance(snapshot.balance());
+            return result;
+        }).toList();
+    }
+
+    private void checkBulkSize(List<?> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > bulkMaxSize
+                || requests.stream().anyMatch(Objects::isNull)) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_BULK_INVALID_REQUEST);
+        }
+    }
+
+    // 사용자 별 계좌 조회 메서드 (읽기 전용, 엔티티 대신 응답 필드만 조회)
     @Override
+    @Transactional(readOnly = true)
     public List<AccountResponseDTO> getAccountsByUsernameAndPhoneNumber(String username, String phoneNumber) {
 
         log.info("[계좌 조회] 서비스 진입: 사용자 이름 = {} , 핸드폰 번호 = {}", username, phoneNumber);
 
-        // 사용자 조회
-        User user = userRepository.findByUsernameAndPhoneNumber(username, phoneNumber)
-                .orElseThrow(() -> {
-                    log.warn("[계좌 조회] 사용자 정보 없음: 사용자 이름 = {}, 핸드폰 번호 = {}", username, phoneNumber);
-                    return new BaseException(FailureStatusCode.USER_NOT_FOUND);
-                });
-
-        // 사용자의 전체 계좌 조회
-        List<Account> accounts = accountRepository.findAllByUser(user);
-
-        List<AccountResponseDTO> result = accounts.stream().map(account -> {
-                    // createdAt 필드가 null일 경우 현재 날짜로 설정
-                    LocalDate createdAt = (account.getCreatedAt() != null) ? account.getCreatedAt().toLocalDate() : LocalDate.now();
-
-                    return AccountResponseDTO.builder()
-                            .accountNumber(aesUtil.decrypt(account.getAccountNumber()))
-                            .balance(account.getBalance())
-                            .bankCode(account.getBankCode().getIdx())
-                            .accountStatusCode(account.getAccountStatusCode().getIdx())
-                            .accountTypeCode(account.getAccountTypeCode().getIdx())
-                            .withdrawLimit(account.getWithdrawLimit())
-                            .createdAt(createdAt)  // null일 경우 기본값을 현재 날짜로 설정
-                            .updatedAt(account.getUpdatedAt() != null ? account.getUpdatedAt().toLocalDate() : LocalDate.now())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 사용자 조인으로 전체 계좌 조회 (쿼리 1회)
+        List<AccountSummaryView> rows = accountRepository.findSummariesByUsernameAndPhoneNumber(username, phoneNumber);
+
+        // 계좌가 없을 때만 사용자 존재 여부 확인
+        if (rows.isEmpty() && !userRepository.existsByUsernameAndPhoneNumber(username, phoneNumber)) {
+            log.warn("[계좌 조회] 사용자 정보 없음: 사용자 이름 = {}, 핸드폰 번호 = {}", username, phoneNumber);
+            throw new BaseException(FailureStatusCode.USER_NOT_FOUND);
+        }
+
+        // createdAt/updatedAt 필드가 null일 경우 현재 날짜로 설정
+        LocalDate today = LocalDate.now();
+        List<AccountResponseDTO> result = rows.stream()
+                .map(row -> AccountResponseDTO.builder()
+                        .accountNumber(aesUtil.decrypt(row.getAccountNumber()))
+                        .balance(row.getBalance())
+                        .bankCode(row.getBankCode().getIdx())
+                        .accountStatusCode(row.getAccountStatusCode().getIdx())
+                        .accountTypeCode(row.getAccountTypeCode().getIdx())
+                        .withdrawLimit(row.getWithdrawLimit())
+                        .createdAt(row.getCreatedAt() != null ? row.getCreatedAt().toLocalDate() : today)
+                        .updatedAt(row.getUpdatedAt() != null ? row.getUpdatedAt().toLocalDate() : today)
+                        .build())
+                .toList();
 
         log.info("[계좌 조회] 서비스 처리 성공: 사용자 이름 = {}, 계좌 수 = {}", username, result.size());
 
@@ -141,73 +312,157 @@ public class AccountServiceImpl implements AccountService{
 
     // 휴면 계좌 여부 확인 메서드
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isAccountDormant(String accountNumber) throws BaseException{
         log.info("[휴면 계좌 여부 검사] 서비스 진입: 계좌번호 = {}", accountNumber);
-        String encryptedAccountNumber = aesUtil.encrypt(accountNumber);
 
-        Account account = accountRepository.findAccountByAccountNumber(encryptedAccountNumber)
-                .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+        AccountSnapshot snapshot = getAccountSnapshot(accountNumber);
 
         log.info("[휴면 계좌 여부 검사] 서비스 처리 성공: 계좌번호 = {}, 휴면여부 = {}"
-                , accountNumber, account.getAccountStatusCode());
-
-        return account.isDormant();
-    }
-
-    // 계좌번호 채번 메서드
-    private String generateAccountNumber(AccountTypeCode accountTypeCode, BankCode bankCode) {
-        String bankPrefix = "626";
-
-        // 계좌 Prefix 임의 지정
-        switch (bankCode) {
-            case SSOK_BANK -> bankPrefix = "626";
-            case KAKAO_BANK -> bankPrefix = "090";
-            case KOOKMIN_BANK -> bankPrefix = "004";
-            case SHINHAN_BANK -> bankPrefix = "110";
-            case WOORI_BANK -> bankPrefix = "020";
-            case HANA_BANK -> bankPrefix = "081";
-            case NH_BANK -> bankPrefix = "011";
-            case IBK_BANK -> bankPrefix = "003";
-            case K_BANK -> bankPrefix = "089";
-            case TOSS_BANK -> bankPrefix = "100";
-            default -> bankPrefix = "626";
+                , accountNumber, snapshot.accountStatusCode());
+
+        return snapshot.isDormant();
+    }
+
+    // 계좌 거래 내역 페이지 조회 메서드 (키셋 페이지네이션)
+    @Override
+    @Transactional(readOnly = true)
+    public AccountTransferHistoryPageResponseDTO getTransferHistoryPage(AccountTransferHistoryPageRequestDTO request) {
+        log.info("[계좌 거래 내역 조회] 서비스 진입: 계좌번호 = {}, 송금 타입 = {}, 기간 = {} ~ {}"
+                , request.getAccount(), request.getTransferType(), request.getFrom(), request.getTo());
+
+        // 1. 조회 조건 정리 (기간은 [from 00:00, to+1 00:00) 으로 변환)
+        int size = request.getSize() == null ? DEFAULT_HISTORY_PAGE_SIZE : request.getSize();
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_HISTORY_INVALID_REQUEST);
         }
 
-        //계좌 유형 고려 (예: 01 예금, 02 적금, 03 청약)
-        String typeCode = String.format("%02d", accountTypeCode.getIdx());
+        LocalDate to = request.getTo() != null ? request.getTo() : LocalDate.now();
+        LocalDate from = request.getFrom() != null ? request.getFrom() : to.minusMonths(DEFAULT_HISTORY_MONTHS);
+        if (from.isAfter(to)) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_HISTORY_INVALID_REQUEST);
+        }
+        LocalDateTime fromAt = from.atStartOfDay();
+        LocalDateTime toAt = to.plusDays(1).atStartOfDay();
+
+        // 첫 페이지는 기간 끝을 커서로 사용
+        HistoryCursor cursor = request.getCursor() != null
+                ? decodeHistoryCursor(request.getCursor())
+                : new HistoryCursor(toAt, Long.MIN_VALUE);
+
+        // 2. 계좌 ID 조회
+        Long accountId = getAccountIdByAccountNumber(request.getAccount());
+
+        // 3. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<TransferHistoryRowView> rows = request.getTransferType() == null
+                ? transferRepository.findHistoryPage(accountId, fromAt, toAt, cursor.createdAt(), cursor.transferId(), limit)
+                : transferRepository.findHistoryPageByType(accountId, request.getTransferType(), fromAt, toAt,
+                cursor.createdAt(), cursor.transferId(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<TransferHistoryRowView> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<AccountTransferHistoryResponseDTO> histories = page.stream()
+                .map(row -> AccountTransferHistoryResponseDTO.builder()
+                        .transferType(row.getTransferTypeCode())
+                        .account(request.getAccount())
+                        .counterpartAccount(decryptCounterpart(row.getCounterpartAccount()))
+                        .transferAmount(row.getTransferAmount())
+                        .currencyCode(row.getCurrencyCode())
+                        .createdAt(row.getCreatedAt())
+                        .build())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            TransferHistoryRowView last = page.get(page.size() - 1);
+            nextCursor = encodeHistoryCursor(last.getCreatedAt(), last.getTransferId());
+        }
 
-        String formattedAccountNumber;
+        log.info("[계좌 거래 내역 조회] 서비스 처리 성공: 계좌번호 = {}, 조회 건수 = {}, 다음 페이지 = {}"
+                , request.getAccount(), histories.size(), hasNext);
 
-        do {
-            int randomPart = (int)(Math.random() * 9000) + 1000; // 4자리 랜덤
-            long timeBase = System.currentTimeMillis() % 100_000L; // 5자리 시간
-            String checkDigitSource = String.format("%02d%04d%05d", accountTypeCode.getIdx(), randomPart, timeBase);
+        return AccountTransferHistoryPageResponseDTO.builder()
+                .histories(histories)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
-            // 검증 번호
-            int checkDigit = calculateLuhnCheckDigit(checkDigitSource);
+    @Override
+    @Transactional(readOnly = true)
+    public Long getAccountIdByAccountNumber(String accountNumber) {
+        return accountRepository.findAccountIdByAccountNumber(aesUtil.encrypt(accountNumber))
+                .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+    }
 
-            // 계좌번호 마지막 자리를 검증 번호로 대체
-            long timePartWithCheck = timeBase * 10 + checkDigit; // 예: 12345 → 123451
+    // 계좌 전체 거래 내역 내보내기 메서드 (키셋 페이지 단위 조회 -> 복호화/기록/flush)
+    // 페이지마다 짧은 읽기 전용 트랜잭션으로 조회하고, 클라이언트로 flush 하는 동안에는 DB 커넥션을 점유하지 않음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportTransferHistory(Long accountId, ExportFormatCode format, OutputStream outputStream) throws IOException {
+        log.info("[계좌 거래 내역 내보내기] 서비스 진입: 계좌 ID = {}, 형식 = {}", accountId, format);
+
+        TransferHistoryExportWriter writer = new TransferHistoryExportWriter(outputStream, format);
+        writer.writeHeader();
+
+        int pageSize = Math.max(1, exportChunkSize);
+        HistoryCursor cursor = EXPORT_START_CURSOR;
+        long exported = 0;
+
+        while (true) {
+            List<TransferHistoryRowView> page = transferRepository.findExportPage(accountId,
+                    cursor.createdAt(), cursor.transferId(), Limit.of(pageSize));
+            exported += writeExportChunk(writer, page);
+            if (page.size() < pageSize) {
+                break;
+            }
+            TransferHistoryRowView last = page.get(page.size() - 1);
+            cursor = new HistoryCursor(last.getCreatedAt(), last.getTransferId());
+        }
 
-            formattedAccountNumber = String.format("%s-%s-%04d-%06d", bankPrefix, typeCode, randomPart, timePartWithCheck);
-        } while (accountRepository.existsByAccountNumber(formattedAccountNumber));
+        log.info("[계좌 거래 내역 내보내기] 서비스 처리 성공: 계좌 ID = {}, 내보낸 건수 = {}", accountId, exported);
+        return exported;
+    }
 
-        return formattedAccountNumber;
+    // 페이지 단위로 상대 계좌를 복호화하여 기록 후 flush (클라이언트가 느리면 여기서 대기)
+    private int writeExportChunk(TransferHistoryExportWriter writer, List<TransferHistoryRowView> page) throws IOException {
+        for (TransferHistoryRowView row : page) {
+            writer.writeRow(row, decryptCounterpart(row.getCounterpartAccount()));
+        }
+        writer.flush();
+        return page.size();
     }
 
-    // 검증번호 체크 알고리즘
-    private int calculateLuhnCheckDigit(String number) {
-        int sum = 0;
-        boolean alternate = false;
-        for (int i = number.length() - 1; i >= 0; i--) {
-            int n = Character.getNumericValue(number.charAt(i));
-            if (alternate) {
-                n *= 2;
-                if (n > 9) n -= 9;
-            }
-            sum += n;
-            alternate = !alternate;
+    // 상대 계좌는 암호화되어 저장됨 (보상 내역의 SYSTEM 은 평문이므로 복호화하지 않음)
+    private String decryptCounterpart(String counterpartAccount) {
+        if (counterpartAccount == null || TransferHistory.SYSTEM_COUNTERPART.equals(counterpartAccount)) {
+            return counterpartAccount;
+        }
+        return aesUtil.decrypt(counterpartAccount);
+    }
+
+    record HistoryCursor(LocalDateTime createdAt, Long transferId) {
+    }
+
+    // 내보내기 첫 페이지 커서 (모든 거래 내역보다 이전)
+    private static final HistoryCursor EXPORT_START_CURSOR = new HistoryCursor(LocalDateTime.of(1970, 1, 1, 0, 0), Long.MIN_VALUE);
+
+    // 커서 인코딩 (생성 시각|거래 ID 를 URL-safe Base64 로 변환)
+    static String encodeHistoryCursor(LocalDateTime createdAt, Long transferId) {
+        String raw = createdAt + "|" + transferId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static HistoryCursor decodeHistoryCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_HISTORY_INVALID_REQUEST);
         }
-        return (10 - (sum % 10)) % 10;
     }
 }
\ No newline at end of file
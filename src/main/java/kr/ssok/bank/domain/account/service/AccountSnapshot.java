@@ -0,0 +1,36 @@
+package kr.ssok.bank.domain.account.service;
+
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.domain.account.repository.AccountOwnerView;
+
+/**
+ * 계좌 조회 API 용 계좌 스냅샷 (AccountSnapshotCache 에 보관)
+ *
+ * @param accountId              계좌 ID
+ * @param encryptedAccountNumber 암호화된 계좌번호
+ * @param ownerName              예금주명 (사용자가 없으면 null)
+ * @param accountStatusCode      계좌 상태 코드
+ * @param withdrawLimit          출금 한도
+ * @param balance                잔액
+ */
+public record AccountSnapshot(Long accountId,
+                              String encryptedAccountNumber,
+                              String ownerName,
+                              AccountStatusCode accountStatusCode,
+                              Long withdrawLimit,
+                              Long balance) {
+
+    public static AccountSnapshot from(AccountOwnerView view) {
+        return new AccountSnapshot(
+                view.getAccountId(),
+                view.getAccountNumber(),
+                view.getOwnerName(),
+                view.getAccountStatusCode(),
+                view.getWithdrawLimit(),
+                view.getBalance());
+    }
+
+    public boolean isDormant() {
+        return accountStatusCode == AccountStatusCode.DORMANT;
+    }
+}
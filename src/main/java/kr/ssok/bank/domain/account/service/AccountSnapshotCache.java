@@ -0,0 +1,136 @@
+package kr.ssok.bank.domain.account.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 계좌 조회 API (예금주/유효성/송금 가능/잔액/휴면) 용 계좌 스냅샷 캐시
+ * - 암호화된 계좌번호를 키로 크기(max-size)와 TTL(ttl-ms) 기준으로 만료됩니다.
+ * - 잔액/상태를 바꾸는 쪽(이체, 이자 지급)은 커밋 이후에 무효화합니다.
+ *   같은 키를 적재하는 중에 무효화가 들어오면 Caffeine 이 적재가 끝날 때까지 기다렸다가 지우므로,
+ *   커밋 이전 값이 커밋 이후까지 남지 않습니다.
+ * - 캐시와 무효화는 인스턴스(JVM) 안에서만 동작합니다. 다른 인스턴스에서 커밋된 변경은 TTL(기본 30초)이 지나야 반영되므로,
+ *   예금주명/계좌 상태/출금 한도처럼 드물게 바뀌는 값만 캐시에서 응답하고, 잔액/송금 가능 여부는 캐시를 거치지 않습니다.
+ * - 적중/미적중/만료 메트릭은 cache.gets, cache.evictions (cache=account.snapshot) 로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountSnapshotCache {
+
+    public static final String CACHE_NAME = "account.snapshot";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.snapshot.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${account.snapshot.cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    private Cache<String, AccountSnapshot> cache;
+    private Counter invalidationCounter;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidationCounter = Counter.builder("account.snapshot.cache.invalidations")
+                .description("Account snapshots invalidated after a committed write")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 적재합니다. (loader 가 null 을 반환하면 캐시하지 않음)
+     *
+     * @param encryptedAccountNumber 암호화된 계좌번호
+     */
+    public AccountSnapshot get(String encryptedAccountNumber, Function<String, AccountSnapshot> loader) {
+        return cache.get(encryptedAccountNumber, loader);
+    }
+
+    /**
+     * 여러 계좌를 한 번에 조회합니다. 캐시에 있는 계좌는 캐시에서, 없는 계좌만 모아 loader 를 한 번 호출합니다.
+     * 일괄 적재는 키별 무효화와 원자적이지 않아 커밋 이전 값을 무효화 이후에 넣을 수 있으므로,
+     * loader 로 읽은 값은 응답에만 쓰고 캐시에는 넣지 않습니다. (캐시는 단건 get 으로만 채움)
+     * (loader 결과에 없는 계좌는 반환 Map 에서 빠짐)
+     *
+     * @param encryptedAccountNumbers 암호화된 계좌번호 목록
+     */
+    public Map<String, AccountSnapshot> getAll(Collection<String> encryptedAccountNumbers,
+                                               Function<Set<? extends String>, Map<String, AccountSnapshot>> loader) {
+        Map<String, AccountSnapshot> present = cache.getAllPresent(encryptedAccountNumbers);
+        Set<String> missing = new LinkedHashSet<>(encryptedAccountNumbers);
+        missing.removeAll(present.keySet());
+        if (missing.isEmpty()) {
+            return present;
+        }
+        Map<String, AccountSnapshot> result = new HashMap<>(present);
+        result.putAll(loader.apply(missing));
+        return result;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 계좌 스냅샷을 무효화합니다. (트랜잭션이 없으면 즉시)
+     */
+    public void invalidateAfterCommit(String encryptedAccountNumber) {
+        invalidateAfterCommit(List.of(encryptedAccountNumber));
+    }
+
+    public void invalidateAfterCommit(Collection<String> encryptedAccountNumbers) {
+        if (encryptedAccountNumbers.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            cache.invalidateAll(encryptedAccountNumbers);
+            invalidationCounter.increment(encryptedAccountNumbers.size());
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 전체 스냅샷을 무효화합니다. (SQL 일괄 갱신처럼 대상 계좌를 모르는 경우)
+     */
+    public void invalidateAllAfterCommit() {
+        afterCommit(() -> {
+            invalidationCounter.increment(cache.estimatedSize());
+            cache.invalidateAll();
+            log.debug("[계좌 캐시] 전체 무효화");
+        });
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
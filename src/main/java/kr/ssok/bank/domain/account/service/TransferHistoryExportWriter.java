@@ -0,0 +1,100 @@
+package kr.ssok.bank.domain.account.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import kr.ssok.bank.common.constant.ExportFormatCode;
+import kr.ssok.bank.domain.transfer.repository.TransferHistoryRowView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 거래 내역 내보내기 작성기 (NDJSON / CSV)
+ * 행을 모아 두지 않고 출력 스트림에 바로 쓰며, flush 시점에 클라이언트 소켓이 받아줄 때까지 대기합니다.
+ */
+class TransferHistoryExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    static final String CSV_HEADER = "transferId,createdAt,transferType,counterpartAccount,transferAmount,currencyCode,balanceAfter";
+
+    private final ExportFormatCode format;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    TransferHistoryExportWriter(OutputStream outputStream, ExportFormatCode format) throws IOException {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormatCode.NDJSON) {
+            this.json = JSON_FACTORY.createGenerator(writer);
+            // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+            this.json.setRootValueSeparator(null);
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            this.json = null;
+        }
+    }
+
+    void writeHeader() throws IOException {
+        if (format == ExportFormatCode.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * @param row                 거래 내역 행
+     * @param counterpartAccount 복호화된 상대 계좌
+     */
+    void writeRow(TransferHistoryRowView row, String counterpartAccount) throws IOException {
+        if (format == ExportFormatCode.NDJSON) {
+            json.writeStartObject();
+            json.writeNumberField("transferId", row.getTransferId());
+            json.writeStringField("createdAt", String.valueOf(row.getCreatedAt()));
+            json.writeStringField("transferType", row.getTransferTypeCode().name());
+            json.writeStringField("counterpartAccount", counterpartAccount);
+            json.writeNumberField("transferAmount", row.getTransferAmount());
+            json.writeStringField("currencyCode", row.getCurrencyCode().name());
+            json.writeNumberField("balanceAfter", row.getBalanceAfter());
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } else {
+            writer.write(String.valueOf(row.getTransferId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getCreatedAt()));
+            writer.write(',');
+            writer.write(row.getTransferTypeCode().name());
+            writer.write(',');
+            writer.write(csv(counterpartAccount));
+            writer.write(',');
+            writer.write(String.valueOf(row.getTransferAmount()));
+            writer.write(',');
+            writer.write(row.getCurrencyCode().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.getBalanceAfter()));
+            writer.write('\n');
+        }
+    }
+
+    void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    // 구분자/따옴표/줄바꿈이 포함된 값만 따옴표로 감쌈
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
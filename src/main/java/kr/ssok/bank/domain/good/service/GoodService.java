@@ -5,10 +5,12 @@ import kr.ssok.bank.common.exception.BaseException;
 import kr.ssok.bank.domain.account.dto.AccountResponseDTO;
 import kr.ssok.bank.domain.account.entity.Account;
 import kr.ssok.bank.domain.good.dto.GoodResponseDTO;
+import kr.ssok.bank.domain.good.entity.Good;
 import kr.ssok.bank.domain.user.entity.User;
 
 import java.util.List;
 
 public interface GoodService {
     List<GoodResponseDTO> getAllGoods();
+    Good getGoodByAccountTypeCode(AccountTypeCode accountTypeCode) throws BaseException;
 }
@@ -1,5 +1,8 @@
 package kr.ssok.bank.domain.good.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import kr.ssok.bank.common.constant.AccountStatusCode;
 import kr.ssok.bank.common.constant.AccountTypeCode;
 import kr.ssok.bank.common.constant.BankCode;
@@ -10,14 +13,17 @@ import kr.ssok.bank.domain.account.entity.Account;
 import kr.ssok.bank.domain.account.repository.AccountRepository;
 import kr.ssok.bank.domain.account.service.AccountService;
 import kr.ssok.bank.domain.good.dto.GoodResponseDTO;
+import kr.ssok.bank.domain.good.entity.Good;
 import kr.ssok.bank.domain.good.repository.GoodRepository;
 import kr.ssok.bank.domain.user.entity.User;
 import kr.ssok.bank.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +35,19 @@ public class GoodServiceImpl implements GoodService {
 
     private final GoodRepository goodRepository;
 
+    @Value("${good.cache.ttl-ms:600000}")
+    private long cacheTtlMs;
+
+    // 계좌 유형별 기본 상품 (계좌 개설 시 매번 조회하지 않도록 캐싱, 상품은 시드 데이터라 거의 바뀌지 않음)
+    private Cache<AccountTypeCode, Good> goodCache;
+
+    @PostConstruct
+    public void init() {
+        this.goodCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
+    }
+
     @Override
     public List<GoodResponseDTO> getAllGoods() {
         log.info("[상품 조회] 서비스 진입");
@@ -37,4 +56,16 @@ public class GoodServiceImpl implements GoodService {
                 .map(GoodResponseDTO::from)
                 .collect(Collectors.toList());
     }
+
+    // 계좌 유형별 기본 상품 조회 (계좌의 상품 참조용, 반환된 엔티티는 준영속 상태)
+    @Override
+    public Good getGoodByAccountTypeCode(AccountTypeCode accountTypeCode) throws BaseException {
+        Good good = accountTypeCode == null ? null
+                : goodCache.get(accountTypeCode, key -> goodRepository.findByAccountTypeCode(key).orElse(null));
+        if (good == null) {
+            log.error("[상품 조회] 실패: 상품 조회 실패. (계좌 유형 코드 = {})", accountTypeCode);
+            throw new BaseException(FailureStatusCode.GOOD_READ_FAILED);
+        }
+        return good;
+    }
 }
\ No newline at end of file
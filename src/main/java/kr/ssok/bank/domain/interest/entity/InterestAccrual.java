@@ -0,0 +1,69 @@
+package kr.ssok.bank.domain.interest.entity;
+
+import jakarta.persistence.*;
+import kr.ssok.bank.common.entity.TimeStamp;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 미지급 이자 적립 기록 (계좌당 한 행)
+ * ACCRUAL 방식에서는 매일 이자를 이 행에 누적하고, 지급일에만 잔액과 거래 내역에 한 번에 반영합니다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "interest_accrual")
+public class InterestAccrual extends TimeStamp {
+
+    // 계좌 ID (계좌당 한 행)
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    // 적립된 미지급 이자
+    @Builder.Default
+    @Column(name = "accrued_amount", nullable = false)
+    private Long accruedAmount = 0L;
+
+    // 적립 횟수 (지급 후 초기화)
+    @Builder.Default
+    @Column(name = "accrued_days", nullable = false)
+    private Integer accruedDays = 0;
+
+    // 현재 적립 기간의 첫 적립일
+    @Column(name = "period_start_date")
+    private LocalDate periodStartDate;
+
+    // 마지막 적립 기준일 (지급 거래 ID 에 사용)
+    @Column(name = "last_accrued_date")
+    private LocalDate lastAccruedDate;
+
+    // 마지막 적립 기준 시각 (이자 주기 계산 및 재개 시 중복 적립 방지)
+    @Column(name = "last_accrued_at")
+    private LocalDateTime lastAccruedAt;
+
+    public boolean hasPending() {
+        return accruedAmount != null && accruedAmount != 0L;
+    }
+
+    public void accrue(long interest, LocalDate runDate, LocalDateTime baseTime) {
+        if (!hasPending()) {
+            periodStartDate = runDate;
+        }
+        accruedAmount += interest;
+        accruedDays += 1;
+        lastAccruedDate = runDate;
+        lastAccruedAt = baseTime;
+    }
+
+    public void clear() {
+        accruedAmount = 0L;
+        accruedDays = 0;
+        periodStartDate = null;
+    }
+}
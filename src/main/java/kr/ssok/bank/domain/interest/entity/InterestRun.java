@@ -0,0 +1,65 @@
+package kr.ssok.bank.domain.interest.entity;
+
+import jakarta.persistence.*;
+import kr.ssok.bank.common.constant.InterestRunStatusCode;
+import kr.ssok.bank.common.entity.TimeStamp;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 이자 지급 실행 이력 (체크포인트)
+ * 계좌 ID 순으로 완료된 청크까지의 마지막 계좌 ID 를 기록하여, 중단된 실행은 그 다음 계좌부터 재개합니다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "interest_run")
+public class InterestRun extends TimeStamp {
+
+    @Id
+    @Column(name = "interest_run_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long interestRunId;
+
+    // 이자 지급 기준일
+    @Column(name = "run_date", nullable = false, unique = true)
+    private LocalDate runDate;
+
+    // 실행 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private InterestRunStatusCode status;
+
+    // 지급 기준 시각 (재개해도 최초 실행 시각을 사용)
+    @Column(name = "base_time", nullable = false)
+    private LocalDateTime baseTime;
+
+    // 처리 완료된 마지막 계좌 ID
+    @Builder.Default
+    @Column(name = "checkpoint_account_id", nullable = false)
+    private Long checkpointAccountId = 0L;
+
+    // 처리한 계좌 수
+    @Builder.Default
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    // 이자를 지급한 계좌 수
+    @Builder.Default
+    @Column(name = "paid_count", nullable = false)
+    private Long paidCount = 0L;
+
+    // 지급한 이자 총액
+    @Builder.Default
+    @Column(name = "total_interest", nullable = false)
+    private Long totalInterest = 0L;
+
+    // 종료 일시
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,22 @@
+package kr.ssok.bank.domain.interest.repository;
+
+import kr.ssok.bank.domain.interest.entity.InterestAccrual;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface InterestAccrualRepository extends JpaRepository<InterestAccrual, Long> {
+
+    // 미지급 적립이 남은 계좌 ID (정산 시 ID 순으로 청크 처리)
+    @Query("SELECT a.accountId FROM InterestAccrual a WHERE a.accruedAmount <> 0 AND a.accountId > :afterId ORDER BY a.accountId")
+    List<Long> findPendingAccountIds(@Param("afterId") Long afterId, Limit limit);
+
+    // 미지급 적립 총액
+    @Query("SELECT COALESCE(SUM(a.accruedAmount), 0) FROM InterestAccrual a")
+    long sumAccruedAmount();
+
+    boolean existsByAccruedAmountNot(Long accruedAmount);
+}
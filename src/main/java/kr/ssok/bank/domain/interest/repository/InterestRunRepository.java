@@ -0,0 +1,14 @@
+package kr.ssok.bank.domain.interest.repository;
+
+import kr.ssok.bank.common.constant.InterestRunStatusCode;
+import kr.ssok.bank.domain.interest.entity.InterestRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface InterestRunRepository extends JpaRepository<InterestRun, Long> {
+    Optional<InterestRun> findByRunDate(LocalDate runDate);
+    List<InterestRun> findByStatusNotOrderByRunDateAsc(InterestRunStatusCode status);
+}
@@ -0,0 +1,175 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.interest.entity.InterestAccrual;
+import kr.ssok.bank.domain.interest.repository.InterestAccrualRepository;
+import kr.ssok.bank.domain.transfer.entity.TransferHistory;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이자 적립 청크 처리기 (ACCRUAL 방식)
+ * 일 이자는 계좌별 InterestAccrual 행에만 누적하고, 지급일에 누적액을 잔액과 거래 내역 한 건으로 반영합니다.
+ * - 일 이자는 (잔액 + 미지급 적립액) 기준으로 계산하므로 매일 지급하는 CHUNKED 방식과 지급 총액이 같습니다.
+ * - 지급 거래 ID 는 마지막 적립일 기준이므로 정기 지급과 정산 지급이 겹치지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestAccrualProcessor {
+
+    private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
+    private final InterestAccrualRepository interestAccrualRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    /**
+     * @param fromId     청크 시작 계좌 ID
+     * @param toId       청크 마지막 계좌 ID
+     * @param runDate    이자 지급 기준일
+     * @param baseTime   지급 기준 시각
+     * @param products   상품 ID 별 이자 상품
+     * @param postingDay 적립액 지급일 여부
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public InterestChunkResult process(long fromId, long toId, LocalDate runDate, LocalDateTime baseTime,
+                                       Map<Long, InterestProduct> products, boolean postingDay) {
+        List<Account> accounts = accountRepository.findInterestTargetsForUpdate(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, fromId, toId);
+        Map<Long, InterestAccrual> accruals = loadAccruals(accounts);
+
+        List<InterestAccrual> created = new ArrayList<>();
+        List<TransferHistory> histories = new ArrayList<>();
+        long accruedInterest = 0L;
+        long postedInterest = 0L;
+
+        for (Account account : accounts) {
+            InterestAccrual accrual = accruals.get(account.getAccountId());
+            InterestProduct product = account.getGood() != null ? products.get(account.getGood().getGoodId()) : null;
+
+            if (product == null) {
+                log.warn("[이자 적립] 계좌 ID {} 의 상품 정보가 잘못되었거나 설정되지 않았습니다.", account.getAccountId());
+            } else {
+                boolean isNew = accrual == null;
+                if (isNew) {
+                    accrual = newAccrual(account.getAccountId());
+                }
+                long interest = accrue(account, accrual, product, runDate, baseTime);
+                // 적립한 적이 있는 계좌에만 행을 만듦
+                if (isNew && interest != 0L) {
+                    created.add(accrual);
+                }
+                accruedInterest += interest;
+            }
+
+            // 지급일에는 상품 정보와 관계없이 남은 적립액을 지급
+            if (postingDay && accrual != null && accrual.hasPending()) {
+                postedInterest += post(account, accrual, histories);
+            }
+        }
+
+        interestAccrualRepository.saveAll(created);
+        transferRepository.saveAll(histories);
+        invalidateSnapshots(histories);
+
+        log.debug("[이자 적립] 청크 처리 완료: 계좌 ID {} ~ {}, 조회 = {}, 적립액 = {}, 지급 = {}"
+                , fromId, toId, accounts.size(), accruedInterest, histories.size());
+        return new InterestChunkResult(fromId, toId, accounts.size(), histories.size(), postedInterest);
+    }
+
+    /**
+     * 미지급 적립액을 즉시 지급합니다. (정산용, 지급일/이자 주기와 무관)
+     *
+     * @param accountIds 적립액이 남은 계좌 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public InterestChunkResult postPending(Collection<Long> accountIds) {
+        List<Account> accounts = accountRepository.findAccrualTargetsForUpdate(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, accountIds);
+        Map<Long, InterestAccrual> accruals = loadAccruals(accounts);
+
+        List<TransferHistory> histories = new ArrayList<>();
+        long postedInterest = 0L;
+
+        for (Account account : accounts) {
+            InterestAccrual accrual = accruals.get(account.getAccountId());
+            if (accrual != null && accrual.hasPending()) {
+                postedInterest += post(account, accrual, histories);
+            }
+        }
+
+        transferRepository.saveAll(histories);
+        invalidateSnapshots(histories);
+
+        long fromId = accounts.isEmpty() ? 0L : accounts.get(0).getAccountId();
+        long toId = accounts.isEmpty() ? 0L : accounts.get(accounts.size() - 1).getAccountId();
+        return new InterestChunkResult(fromId, toId, accounts.size(), histories.size(), postedInterest);
+    }
+
+    // 이자 주기가 지났으면 (잔액 + 적립액) 기준 일 이자를 적립하고 금액을 반환
+    private long accrue(Account account, InterestAccrual accrual, InterestProduct product, LocalDate runDate, LocalDateTime baseTime) {
+        LocalDateTime lastPaidAt = account.getLastInterestPaidAt() != null
+                ? account.getLastInterestPaidAt()
+                : account.getCreatedAt();
+        // 마지막 지급 이후 적립했다면 적립 시각이 기준
+        if (accrual.getLastAccruedAt() != null && (lastPaidAt == null || accrual.getLastAccruedAt().isAfter(lastPaidAt))) {
+            lastPaidAt = accrual.getLastAccruedAt();
+        }
+
+        if (!InterestChunkProcessor.isDue(lastPaidAt, baseTime, product.interestCycle())) {
+            return 0L;
+        }
+
+        long interest = product.rateFactor().dailyInterest(account.getBalance() + accrual.getAccruedAmount());
+        if (interest != 0L) {
+            accrual.accrue(interest, runDate, baseTime);
+        }
+        return interest;
+    }
+
+    // 적립액을 잔액에 반영하고 지급 내역을 남긴 뒤 적립 기록을 비움
+    private long post(Account account, InterestAccrual accrual, List<TransferHistory> histories) {
+        long amount = accrual.getAccruedAmount();
+        account.setBalance(account.getBalance() + amount);
+        // 마지막 적립 시각을 지급 일시로 기록하여 이자 주기를 CHUNKED 방식과 같게 유지
+        account.setLastInterestPaidAt(accrual.getLastAccruedAt());
+        histories.add(InterestChunkProcessor.interestHistory(account,
+                InterestChunkProcessor.interestTransactionId(accrual.getLastAccruedDate(), account.getAccountId()), amount));
+        accrual.clear();
+        return amount;
+    }
+
+    // 이자를 지급한 계좌의 조회 캐시는 커밋 후 무효화
+    private void invalidateSnapshots(List<TransferHistory> histories) {
+        accountSnapshotCache.invalidateAfterCommit(histories.stream().map(history -> history.getAccount().getAccountNumber()).toList());
+    }
+
+    private Map<Long, InterestAccrual> loadAccruals(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return Map.of();
+        }
+        return interestAccrualRepository.findAllById(accounts.stream().map(Account::getAccountId).toList()).stream()
+                .collect(Collectors.toMap(InterestAccrual::getAccountId, Function.identity()));
+    }
+
+    private static InterestAccrual newAccrual(Long accountId) {
+        return InterestAccrual.builder()
+                .accountId(accountId)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package kr.ssok.bank.domain.interest.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 이자 계산기
+ */
+public final class InterestCalculator {
+
+    private InterestCalculator() {
+    }
+
+    /**
+     * 일이율 기준 이자 계산
+     *
+     * @param balance    계좌 잔액
+     * @param annualRate 연이자율 (%)
+     * @return 이자 금액 (원 단위 절사)
+     */
+    public static BigDecimal calculateDailyInterest(long balance, double annualRate) {
+        // 일이율
+        return new BigDecimal(balance)
+                .multiply(dailyRate(annualRate))
+                .setScale(0, RoundingMode.DOWN); // 정수 처리
+    }
+
+    /**
+     * 연이율(%) → 일이율 (소수점 10자리 반올림, SQL 일괄 지급에도 같은 값을 사용)
+     */
+    public static BigDecimal dailyRate(double annualRate) {
+        return BigDecimal.valueOf(annualRate).divide(BigDecimal.valueOf(100 * 365), 10, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,122 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.common.constant.*;
+import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.transfer.entity.TransferHistory;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이자 지급 청크 처리기
+ * 계좌 ID 범위 하나를 독립된 트랜잭션으로 처리하고 커밋합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestChunkProcessor {
+
+    private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    /**
+     * @param fromId   청크 시작 계좌 ID
+     * @param toId     청크 마지막 계좌 ID
+     * @param runDate  이자 지급 기준일
+     * @param baseTime 지급 기준 시각
+     * @param products 상품 ID 별 이자 상품 (실행 시작 시 한 번 생성)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public InterestChunkResult process(long fromId, long toId, LocalDate runDate, LocalDateTime baseTime, Map<Long, InterestProduct> products) {
+        List<Account> accounts = accountRepository.findInterestTargetsForUpdate(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, fromId, toId);
+
+        List<TransferHistory> histories = new ArrayList<>();
+        long totalInterest = 0L;
+
+        for (Account account : accounts) {
+            // 프록시에서 ID 만 읽으므로 상품 조회 쿼리가 발생하지 않음
+            InterestProduct product = account.getGood() != null ? products.get(account.getGood().getGoodId()) : null;
+
+            if (product == null) {
+                log.warn("[이자 지급] 계좌 ID {} 의 상품 정보가 잘못되었거나 설정되지 않았습니다.", account.getAccountId());
+                continue;
+            }
+
+            LocalDateTime lastInterestPaidAt = account.getLastInterestPaidAt() != null
+                    ? account.getLastInterestPaidAt()
+                    : account.getCreatedAt();
+
+            if (!isDue(lastInterestPaidAt, baseTime, product.interestCycle())) {
+                continue;
+            }
+
+            // 이자 계산 (상품별 고정 소수점 일이율 적용, BigDecimal 계산과 같은 결과)
+            long interestAmount = product.rateFactor().dailyInterest(account.getBalance());
+            if (interestAmount == 0L) {
+                continue;
+            }
+
+            // 잔액 및 마지막 이자 지급 일시 갱신 (커밋 시 배치 UPDATE)
+            account.setBalance(account.getBalance() + interestAmount);
+            account.setLastInterestPaidAt(baseTime);
+            totalInterest += interestAmount;
+
+            histories.add(interestHistory(account, interestTransactionId(runDate, account.getAccountId()), interestAmount));
+        }
+
+        transferRepository.saveAll(histories);
+        accountSnapshotCache.invalidateAfterCommit(histories.stream().map(history -> history.getAccount().getAccountNumber()).toList());
+
+        log.debug("[이자 지급] 청크 처리 완료: 계좌 ID {} ~ {}, 조회 = {}, 지급 = {}", fromId, toId, accounts.size(), histories.size());
+        return new InterestChunkResult(fromId, toId, accounts.size(), histories.size(), totalInterest);
+    }
+
+    /**
+     * 이자 주기가 지났는지 확인
+     * 이번 실행에서 이미 지급(적립)된 계좌는 재개 시 중복되지 않도록 제외합니다.
+     *
+     * @param lastPaidAt 마지막 지급(적립) 일시, 없으면 계좌 개설 일시
+     */
+    static boolean isDue(LocalDateTime lastPaidAt, LocalDateTime baseTime, int interestCycle) {
+        if (lastPaidAt == null) {
+            return true;
+        }
+        return lastPaidAt.isBefore(baseTime) && Duration.between(lastPaidAt, baseTime).toDays() >= interestCycle;
+    }
+
+    // 이자 지급 이체 내역 (잔액 반영 후 호출, 계좌번호는 이미 암호화되어 있으므로 그대로 사용)
+    static TransferHistory interestHistory(Account account, String transactionId, long interestAmount) {
+        return TransferHistory.builder()
+                .account(account)
+                .transactionId(transactionId)
+                .transferTypeCode(TransferTypeCode.INTEREST) // 송금 타입
+                .transferStatusCode(TransferStatusCode.SUCCESS) // 송금 상태 코드
+                .counterpartAccount(account.getAccountNumber()) // 이체 대상 계좌 번호
+                .transferAmount(interestAmount) // 이자 금액
+                .currencyCode(CurrencyCode.WON) // 통화 코드
+                .balanceAfter(account.getBalance()) // 이체 후 잔액
+                .build();
+    }
+
+    // 계좌/기준일별 거래 ID (송금 타입과 함께 유니크 제약으로 중복 지급 방지)
+    static String interestTransactionId(LocalDate runDate, Long accountId) {
+        return interestTransactionPrefix(runDate) + accountId;
+    }
+
+    static String interestTransactionPrefix(LocalDate runDate) {
+        return "interest-" + runDate + "-";
+    }
+}
@@ -0,0 +1,13 @@
+package kr.ssok.bank.domain.interest.service;
+
+/**
+ * 이자 지급 청크 처리 결과
+ *
+ * @param fromId        청크 시작 계좌 ID (상품별 일괄 지급은 0)
+ * @param toId          청크 마지막 계좌 ID (상품별 일괄 지급은 0)
+ * @param processed     조회된 계좌 수
+ * @param paid          이자를 지급한 계좌 수
+ * @param totalInterest 지급한 이자 총액
+ */
+public record InterestChunkResult(long fromId, long toId, int processed, int paid, long totalInterest) {
+}
@@ -0,0 +1,12 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.domain.interest.entity.InterestRun;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface InterestPostingService {
+    public InterestRun postInterest(LocalDate runDate);
+    public List<InterestRun> resumeIncompleteRuns();
+    public InterestReconcileResult reconcileAccruals();
+}
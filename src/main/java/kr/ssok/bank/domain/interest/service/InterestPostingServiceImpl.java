@@ -0,0 +1,374 @@
+package kr.ssok.bank.domain.interest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.constant.InterestPostingModeCode;
+import kr.ssok.bank.common.constant.InterestRunStatusCode;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.good.repository.GoodRepository;
+import kr.ssok.bank.domain.interest.entity.InterestRun;
+import kr.ssok.bank.domain.interest.repository.InterestAccrualRepository;
+import kr.ssok.bank.domain.interest.repository.InterestRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이자 지급 엔진 (interest.posting.mode)
+ * [CHUNKED]
+ * - 대상 계좌 ID 를 오름차순으로 읽어 chunk-size 개씩 ID 범위로 나눕니다.
+ * - 범위들은 parallelism 크기의 스레드 풀에서 각각 독립된 트랜잭션으로 처리/커밋됩니다.
+ * - 앞에서부터 연속으로 완료된 청크까지 InterestRun 체크포인트를 갱신하므로, 중단된 실행은 체크포인트 이후부터 재개합니다.
+ *   (체크포인트 이후에 이미 커밋된 청크는 마지막 이자 지급 일시로 걸러져 다시 지급되지 않습니다.)
+ * [SET_BASED]
+ * - 상품별로 INSERT ... SELECT / UPDATE JOIN 두 문장으로 지급합니다. (InterestSetBasedProcessor)
+ * [ACCRUAL]
+ * - CHUNKED 와 같은 청크/체크포인트 흐름으로 일 이자를 계좌별 적립 기록에만 쌓고,
+ *   매월 accrual.posting-day 일에 적립액을 잔액과 거래 내역 한 건으로 지급합니다. (InterestAccrualProcessor)
+ * - 다른 방식으로 실행할 때는 남은 적립액을 먼저 정산하므로 방식을 바꿔도 적립액이 남지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterestPostingServiceImpl implements InterestPostingService {
+
+    private final AccountRepository accountRepository;
+    private final GoodRepository goodRepository;
+    private final InterestRunRepository interestRunRepository;
+    private final InterestChunkProcessor interestChunkProcessor;
+    private final InterestSetBasedProcessor interestSetBasedProcessor;
+    private final InterestAccrualProcessor interestAccrualProcessor;
+    private final InterestAccrualRepository interestAccrualRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interest.posting.mode:CHUNKED}")
+    private InterestPostingModeCode postingMode;
+
+    @Value("${interest.chunk-size:500}")
+    private int chunkSize;
+
+    // 동시에 처리할 청크 수 (청크마다 JDBC 커넥션 하나를 사용하므로 커넥션 풀보다 작게 설정)
+    @Value("${interest.parallelism:4}")
+    private int parallelism;
+
+    @Value("${interest.chunk.max-attempts:3}")
+    private int maxAttempts;
+
+    // ACCRUAL 방식의 적립액 지급일 (매월, 말일보다 크면 말일)
+    @Value("${interest.accrual.posting-day:1}")
+    private int postingDay;
+
+    // 현재 실행의 진행 상황
+    private final AtomicLong targetCount = new AtomicLong();
+    private final AtomicLong processedCount = new AtomicLong();
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private Counter processedCounter;
+    private Counter paidCounter;
+    private Counter amountCounter;
+    private Counter failedChunkCounter;
+    private Timer chunkTimer;
+
+    @PostConstruct
+    public void init() {
+        processedCounter = Counter.builder("interest.posting.accounts")
+                .description("Accounts examined by the interest posting run")
+                .tag("result", "processed")
+                .register(meterRegistry);
+        paidCounter = Counter.builder("interest.posting.accounts")
+                .description("Accounts examined by the interest posting run")
+                .tag("result", "paid")
+                .register(meterRegistry);
+        amountCounter = Counter.builder("interest.posting.amount")
+                .description("Interest paid in won")
+                .register(meterRegistry);
+        failedChunkCounter = Counter.builder("interest.posting.chunk.failures")
+                .description("Failed interest chunk attempts")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("interest.posting.chunk.duration")
+                .description("Interest chunk processing time including commit")
+                .register(meterRegistry);
+        Gauge.builder("interest.posting.progress", this, service -> service.progress())
+                .description("Processed / target accounts of the current interest run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InterestRun postInterest(LocalDate runDate) {
+        // 한 인스턴스에서는 실행이 겹치지 않도록 함
+        if (!runLock.tryLock()) {
+            log.warn("[이자 지급] 다른 실행이 진행 중입니다: 기준일 = {}", runDate);
+            return interestRunRepository.findByRunDate(runDate).orElse(null);
+        }
+        try {
+            return execute(runDate);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    @Override
+    public List<InterestRun> resumeIncompleteRuns() {
+        return interestRunRepository.findByStatusNotOrderByRunDateAsc(InterestRunStatusCode.COMPLETED).stream()
+                .map(run -> postInterest(run.getRunDate()))
+                .toList();
+    }
+
+    @Override
+    public InterestReconcileResult reconcileAccruals() {
+        runLock.lock();
+        try {
+            return drainAccruals();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private InterestRun execute(LocalDate runDate) {
+        InterestRun run = interestRunRepository.findByRunDate(runDate).orElse(null);
+
+        if (run != null && run.getStatus() == InterestRunStatusCode.COMPLETED) {
+            log.info("[이자 지급] 이미 완료된 실행입니다: 기준일 = {}", runDate);
+            return run;
+        }
+
+        if (run == null) {
+            run = InterestRun.builder()
+                    .runDate(runDate)
+                    .status(InterestRunStatusCode.RUNNING)
+                    .baseTime(LocalDateTime.now())
+                    .build();
+        } else {
+            log.info("[이자 지급] 중단된 실행을 재개합니다: 기준일 = {}, 체크포인트 계좌 ID = {}", runDate, run.getCheckpointAccountId());
+            run.setStatus(InterestRunStatusCode.RUNNING);
+        }
+        run = interestRunRepository.save(run);
+
+        // 상품은 종류가 적으므로 한 번에 조회하고, 고정 소수점 일이율도 상품별로 한 번만 계산
+        Map<Long, InterestProduct> products = loadProducts();
+
+        InterestPostingModeCode mode = postingMode();
+        log.info("[이자 지급] 실행 시작: 기준일 = {}, 방식 = {}", runDate, mode);
+
+        long start = System.nanoTime();
+        try {
+            // 적립 방식이 아니면 이전에 적립된 이자를 먼저 지급 (적립 잔액 기준 계산과 어긋나지 않도록)
+            if (mode != InterestPostingModeCode.ACCRUAL && interestAccrualRepository.existsByAccruedAmountNot(0L)) {
+                drainAccruals();
+            }
+
+            run = mode == InterestPostingModeCode.SET_BASED
+                    ? postSetBased(run, products)
+                    : postChunked(run, products);
+
+            run.setStatus(InterestRunStatusCode.COMPLETED);
+            run.setFinishedAt(LocalDateTime.now());
+            log.info("[이자 지급] 실행 완료: 기준일 = {}, 처리 계좌 수 = {}, 지급 계좌 수 = {}, 지급 총액 = {}, 소요 시간 = {}ms"
+                    , runDate, run.getProcessedCount(), run.getPaidCount(), run.getTotalInterest()
+                    , TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            run.setStatus(InterestRunStatusCode.FAILED);
+            log.error("[이자 지급] 실행 실패: 기준일 = {}, 체크포인트 계좌 ID = {}, 에러 = {}"
+                    , runDate, run.getCheckpointAccountId(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), e);
+        } finally {
+            // 방식별 실행 시간 (청크/일괄 방식 비교용)
+            Timer.builder("interest.posting.run.duration")
+                    .description("Wall-clock time of an interest posting run")
+                    .tag("mode", mode.getValue())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return interestRunRepository.save(run);
+    }
+
+    // 계좌 ID 범위 청크를 병렬로 처리하고, 완료된 청크까지 체크포인트 갱신
+    private InterestRun postChunked(InterestRun run, Map<Long, InterestProduct> products) {
+        final LocalDate runDate = run.getRunDate();
+        final LocalDateTime baseTime = run.getBaseTime();
+
+        targetCount.set(accountRepository.countInterestTargets(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, run.getCheckpointAccountId()));
+        processedCount.set(0);
+        log.info("[이자 지급] 청크 처리 시작: 대상 계좌 수 = {}, 청크 크기 = {}, 병렬도 = {}", targetCount.get(), chunkSize, parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("interest-chunk-", 0).factory());
+        try {
+            long cursor = run.getCheckpointAccountId();
+            while (true) {
+                // 병렬도만큼의 청크를 한 번에 읽어 분배
+                List<Long> ids = accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, cursor,
+                        Limit.of(chunkSize * parallelism));
+                if (ids.isEmpty()) {
+                    return run;
+                }
+
+                List<CompletableFuture<InterestChunkResult>> futures = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    long fromId = ids.get(from);
+                    long toId = ids.get(Math.min(from + chunkSize, ids.size()) - 1);
+                    futures.add(CompletableFuture.supplyAsync(() -> processChunk(fromId, toId, runDate, baseTime, products), executor));
+                }
+
+                // 앞 청크부터 순서대로 체크포인트 반영
+                for (CompletableFuture<InterestChunkResult> future : futures) {
+                    InterestChunkResult result = future.join();
+                    run.setCheckpointAccountId(result.toId());
+                    run = accumulate(run, result);
+                }
+
+                cursor = ids.get(ids.size() - 1);
+            }
+        } finally {
+            // 진행 중인 청크는 각자 커밋/롤백되도록 종료를 기다림
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 상품별로 일괄 SQL 을 실행 (상품 하나가 한 트랜잭션, 재개 시 이미 지급된 계좌는 SQL 조건으로 제외)
+    private InterestRun postSetBased(InterestRun run, Map<Long, InterestProduct> products) {
+        targetCount.set(products.size());
+        processedCount.set(0);
+
+        for (InterestProduct product : products.values().stream().sorted(Comparator.comparing(InterestProduct::goodId)).toList()) {
+            long start = System.nanoTime();
+            InterestChunkResult result = interestSetBasedProcessor.process(product, run.getRunDate(), run.getBaseTime());
+            chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            recordMetrics(result);
+            processedCount.incrementAndGet();
+
+            log.info("[이자 지급] 상품 일괄 지급 완료: 상품 ID = {}, 지급 계좌 수 = {}, 지급 총액 = {}"
+                    , product.goodId(), result.paid(), result.totalInterest());
+            run = accumulate(run, result);
+        }
+        return run;
+    }
+
+    // 이자 정보가 설정된 상품만 포함 (설정되지 않은 상품의 계좌는 건너뜀)
+    private Map<Long, InterestProduct> loadProducts() {
+        Map<Long, InterestProduct> products = new HashMap<>();
+        for (Good good : goodRepository.findAll()) {
+            try {
+                InterestProduct product = InterestProduct.from(good);
+                if (product == null) {
+                    log.warn("[이자 지급] 상품 ID {} 의 이자 정보가 설정되지 않았습니다.", good.getGoodId());
+                    continue;
+                }
+                products.put(product.goodId(), product);
+            } catch (IllegalArgumentException e) {
+                log.warn("[이자 지급] 상품 ID {} 의 이자율이 지원 범위를 벗어났습니다: {}", good.getGoodId(), good.getInterestRate());
+            }
+        }
+        return products;
+    }
+
+    private InterestRun accumulate(InterestRun run, InterestChunkResult result) {
+        run.setProcessedCount(run.getProcessedCount() + result.processed());
+        run.setPaidCount(run.getPaidCount() + result.paid());
+        run.setTotalInterest(run.getTotalInterest() + result.totalInterest());
+        return interestRunRepository.save(run);
+    }
+
+    // 청크 하나를 처리 (실패 시 max-attempts 까지 재시도, 교착 상태 등 일시적 오류 대비)
+    private InterestChunkResult processChunk(long fromId, long toId, LocalDate runDate, LocalDateTime baseTime, Map<Long, InterestProduct> products) {
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= Math.max(1, maxAttempts); attempt++) {
+            long start = System.nanoTime();
+            try {
+                InterestChunkResult result = postingMode() == InterestPostingModeCode.ACCRUAL
+                        ? interestAccrualProcessor.process(fromId, toId, runDate, baseTime, products, isPostingDay(runDate))
+                        : interestChunkProcessor.process(fromId, toId, runDate, baseTime, products);
+                chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                recordMetrics(result);
+                processedCount.addAndGet(result.processed());
+                return result;
+            } catch (RuntimeException e) {
+                lastError = e;
+                failedChunkCounter.increment();
+                log.warn("[이자 지급] 청크 처리 실패: 계좌 ID {} ~ {}, 시도 = {}/{}, 에러 = {}", fromId, toId, attempt, maxAttempts, e.getMessage());
+            }
+        }
+        throw lastError;
+    }
+
+    // 미지급 적립액이 남은 계좌를 청크 단위로 모두 지급하고, 적립 총액과 지급 총액을 대조
+    private InterestReconcileResult drainAccruals() {
+        long pendingBefore = interestAccrualRepository.sumAccruedAmount();
+        log.info("[이자 정산] 적립 이자 정산 시작: 미지급 적립 총액 = {}", pendingBefore);
+
+        int postedAccounts = 0;
+        long postedInterest = 0L;
+        long cursor = 0L;
+        while (true) {
+            List<Long> ids = interestAccrualRepository.findPendingAccountIds(cursor, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            InterestChunkResult result = interestAccrualProcessor.postPending(ids);
+            paidCounter.increment(result.paid());
+            amountCounter.increment(result.totalInterest());
+            postedAccounts += result.paid();
+            postedInterest += result.totalInterest();
+            cursor = ids.get(ids.size() - 1);
+        }
+
+        InterestReconcileResult result = new InterestReconcileResult(pendingBefore, postedAccounts, postedInterest,
+                interestAccrualRepository.sumAccruedAmount());
+        if (result.balanced()) {
+            log.info("[이자 정산] 적립 이자 정산 완료: 지급 계좌 수 = {}, 지급 총액 = {}, 남은 적립 총액 = {}"
+                    , postedAccounts, postedInterest, result.pendingAfter());
+        } else {
+            // 정산 중 적립이 함께 일어난 경우 (다른 인스턴스의 ACCRUAL 실행 등)
+            log.warn("[이자 정산] 적립 총액과 지급 총액이 일치하지 않습니다: 정산 전 = {}, 지급 = {}, 정산 후 = {}"
+                    , pendingBefore, postedInterest, result.pendingAfter());
+        }
+        return result;
+    }
+
+    // 매월 지급일 (지급일이 말일보다 크면 말일)
+    boolean isPostingDay(LocalDate runDate) {
+        return runDate.getDayOfMonth() == Math.min(Math.max(1, postingDay), runDate.lengthOfMonth());
+    }
+
+    private InterestPostingModeCode postingMode() {
+        return postingMode != null ? postingMode : InterestPostingModeCode.CHUNKED;
+    }
+
+    private void recordMetrics(InterestChunkResult result) {
+        processedCounter.increment(result.processed());
+        paidCounter.increment(result.paid());
+        amountCounter.increment(result.totalInterest());
+    }
+
+    // 진행률 (청크 방식은 계좌, 일괄 방식은 상품 기준)
+    private double progress() {
+        long target = targetCount.get();
+        return target == 0 ? 0.0 : Math.min(1.0, (double) processedCount.get() / target);
+    }
+}
@@ -0,0 +1,23 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.domain.good.entity.Good;
+
+/**
+ * 이자 지급 실행 동안 사용하는 상품 스냅샷 (실행 시작 시 상품별로 한 번 생성)
+ *
+ * @param goodId        상품 ID
+ * @param interestCycle 이자 지급 주기 (일)
+ * @param rateFactor    고정 소수점 일이율
+ */
+public record InterestProduct(Long goodId, int interestCycle, InterestRateFactor rateFactor) {
+
+    /**
+     * @return 이자 정보가 설정되지 않은 상품이면 null
+     */
+    public static InterestProduct from(Good good) {
+        if (good.getInterestRate() == null || good.getInterestCycle() == null) {
+            return null;
+        }
+        return new InterestProduct(good.getGoodId(), good.getInterestCycle(), InterestRateFactor.of(good.getInterestRate()));
+    }
+}
@@ -0,0 +1,53 @@
+package kr.ssok.bank.domain.interest.service;
+
+import java.math.BigDecimal;
+
+/**
+ * 고정 소수점 일이율 (상품별로 한 번만 계산)
+ * 일이율(소수점 10자리)을 10^10 배한 정수로 보관하고, 계좌별 이자는 long 연산만으로 계산합니다.
+ * 결과는 InterestCalculator.calculateDailyInterest (BigDecimal, RoundingMode.DOWN) 와 모든 long 잔액에서 같습니다.
+ *
+ * @param scaledDailyRate 일이율 * 10^10
+ */
+public record InterestRateFactor(long scaledDailyRate) {
+
+    static final int SCALE = 10;
+    static final long ONE = 10_000_000_000L; // 10^SCALE
+
+    // 나머지(< 10^10) * 일이율 이 long 범위를 넘지 않는 최대 일이율 (연이율 약 3,366% 까지)
+    // 일이율이 1 보다 작으므로 결과와 중간값도 |잔액| 을 넘지 않음
+    static final long MAX_SCALED_DAILY_RATE = Long.MAX_VALUE / ONE;
+
+    public InterestRateFactor {
+        if (Math.abs(scaledDailyRate) > MAX_SCALED_DAILY_RATE) {
+            throw new IllegalArgumentException("daily rate out of fixed-point range: " + scaledDailyRate);
+        }
+    }
+
+    /**
+     * @param annualRate 연이자율 (%)
+     */
+    public static InterestRateFactor of(double annualRate) {
+        return new InterestRateFactor(InterestCalculator.dailyRate(annualRate).unscaledValue().longValueExact());
+    }
+
+    /**
+     * 잔액에 대한 일 이자 (0 방향 절사)
+     * |잔액| = q * 10^10 + r 로 나누어 q * 일이율 + (r * 일이율) / 10^10 으로 계산하므로 중간값이 넘치지 않습니다.
+     */
+    public long dailyInterest(long balance) {
+        // Long.MIN_VALUE 의 절댓값도 부호 없는 값으로 다룸
+        long magnitude = Math.abs(balance);
+        long quotient = Long.divideUnsigned(magnitude, ONE);
+        long remainder = Long.remainderUnsigned(magnitude, ONE);
+        long interest = quotient * scaledDailyRate + (remainder * scaledDailyRate) / ONE;
+        return balance < 0 ? -interest : interest;
+    }
+
+    /**
+     * SQL 일괄 지급에 바인딩할 일이율
+     */
+    public BigDecimal dailyRate() {
+        return BigDecimal.valueOf(scaledDailyRate, SCALE);
+    }
+}
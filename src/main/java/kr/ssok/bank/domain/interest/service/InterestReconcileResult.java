@@ -0,0 +1,17 @@
+package kr.ssok.bank.domain.interest.service;
+
+/**
+ * 적립 이자 정산 결과
+ *
+ * @param pendingBefore  정산 전 미지급 적립 총액
+ * @param postedAccounts 지급한 계좌 수
+ * @param postedInterest 지급한 이자 총액
+ * @param pendingAfter   정산 후 남은 미지급 적립 총액 (활성 계좌가 아니면 남음)
+ */
+public record InterestReconcileResult(long pendingBefore, int postedAccounts, long postedInterest, long pendingAfter) {
+
+    // 적립 기록에서 빠진 금액과 지급한 금액이 일치하는지
+    public boolean balanced() {
+        return pendingBefore == postedInterest + pendingAfter;
+    }
+}
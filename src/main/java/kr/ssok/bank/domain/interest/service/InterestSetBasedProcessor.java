@@ -0,0 +1,75 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.common.entity.SnowflakeIdGenerator;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.repository.InterestCohortView;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 단위 일괄 이자 지급 처리기
+ * 상품 하나의 대상 계좌 전체를 한 트랜잭션 안에서 SQL 두 문장으로 처리합니다.
+ * 0. 대상 건수/총액을 잠금 읽기로 집계 (커밋까지 대상이 바뀌지 않으므로 예약한 ID 블록 크기와 기록 건수가 일치)
+ * 1. INSERT ... SELECT 로 계좌별 이자 거래 내역 기록 (이자 = FLOOR(잔액 * 일이율), ID 는 예약한 SnowflakeId 블록에서 계산)
+ * 2. 기록한 거래 내역과 UPDATE JOIN 하여 잔액/마지막 이자 지급 일시 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestSetBasedProcessor {
+
+    private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    /**
+     * @param product  이자 상품
+     * @param runDate  이자 지급 기준일
+     * @param baseTime 지급 기준 시각
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public InterestChunkResult process(InterestProduct product, LocalDate runDate, LocalDateTime baseTime) {
+        // 엔티티 방식과 같은 일이율을 DECIMAL 로 전달하여 원 단위 결과를 일치시킴
+        BigDecimal dailyRate = product.rateFactor().dailyRate();
+
+        InterestCohortView cohort = accountRepository.summarizeInterestCohort(product.goodId(), baseTime, dailyRate);
+        long targetCount = cohort.getTargetCount() != null ? cohort.getTargetCount() : 0L;
+        if (targetCount == 0) {
+            return new InterestChunkResult(0L, 0L, 0, 0, 0L);
+        }
+
+        SnowflakeIdGenerator.IdBlock ids = SnowflakeIdGenerator.reserveBlock(targetCount);
+        String transactionPrefix = InterestChunkProcessor.interestTransactionPrefix(runDate);
+
+        int inserted = transferRepository.insertInterestHistories(product.goodId(), baseTime, dailyRate, transactionPrefix,
+                ids.base(), ids.count());
+
+        // 집계한 대상 건수와 기록 건수가 다르면 (예약 블록 밖으로 누락된 계좌가 있으면) 전체 롤백
+        if (inserted != targetCount) {
+            log.error("[이자 지급] 상품 일괄 지급 대상 건수 불일치: 상품 ID = {}, 대상 = {}, 내역 = {}", product.goodId(), targetCount, inserted);
+            throw new IllegalStateException("interest cohort/history count mismatch for good " + product.goodId());
+        }
+
+        int updated = accountRepository.applyInterestCohort(product.goodId(), transactionPrefix, baseTime);
+
+        // 거래 내역과 잔액 반영 건수가 다르면 전체 롤백
+        if (inserted != updated) {
+            log.error("[이자 지급] 상품 일괄 지급 건수 불일치: 상품 ID = {}, 내역 = {}, 잔액 반영 = {}", product.goodId(), inserted, updated);
+            throw new IllegalStateException("interest history/balance count mismatch for good " + product.goodId());
+        }
+
+        // 대상 계좌를 따로 읽지 않으므로 커밋 후 조회 캐시 전체 무효화
+        accountSnapshotCache.invalidateAllAfterCommit();
+
+        return new InterestChunkResult(0L, 0L, (int) targetCount, inserted, cohort.getTotalInterest());
+    }
+}
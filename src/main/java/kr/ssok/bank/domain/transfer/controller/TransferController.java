@@ -6,7 +6,9 @@ import kr.ssok.bank.common.constant.SuccessStatusCode;
 import kr.ssok.bank.common.exception.BaseException;
 import kr.ssok.bank.common.response.ApiResponse;
 import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferInternalRequestDTO;
 import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
+import kr.ssok.bank.domain.transfer.service.TransferLaneExecutor;
 import kr.ssok.bank.domain.transfer.service.TransferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TransferController {
 
     private final TransferService transferService;
+    private final TransferLaneExecutor transferLaneExecutor;
 
     // 출금 이체 API
     @Operation(summary = "출금 이체", description = "이용기관이 등록된 한 개의 사용자 계좌로부터 대금을 출금합니다.")
@@ -29,7 +32,8 @@ public class TransferController {
     public ApiResponse<String> createWithdraw(@RequestBody TransferWithdrawRequestDTO transferWithdrawRequestDTO) {
         try {
             log.info("[출금 이체] 컨트롤러 진입: 요청 수신 = {}", transferWithdrawRequestDTO);
-            transferService.withdraw(transferWithdrawRequestDTO);
+            transferLaneExecutor.execute(transferWithdrawRequestDTO.getWithdrawAccount(),
+                    () -> transferService.withdraw(transferWithdrawRequestDTO));
             log.info("[출금 이체] 성공: 계좌 = {}, 금액 = {}",
                     transferWithdrawRequestDTO.getWithdrawAccount(),
                     transferWithdrawRequestDTO.getTransferAmount()
@@ -53,7 +57,8 @@ public class TransferController {
     public ApiResponse<String> createDeposit(@RequestBody TransferDepositRequestDTO transferDepositRequestDTO) {
         try {
             log.info("[입금 이체] 컨트롤러 진입: 요청 수신 = {}", transferDepositRequestDTO);
-            transferService.deposit(transferDepositRequestDTO);
+            transferLaneExecutor.execute(transferDepositRequestDTO.getDepositAccount(),
+                    () -> transferService.deposit(transferDepositRequestDTO));
             log.info("[입금 이체] 성공: 계좌 = {}, 금액 = {}",
                     transferDepositRequestDTO.getDepositAccount(),
                     transferDepositRequestDTO.getTransferAmount()
@@ -70,4 +75,30 @@ public class TransferController {
             throw new BaseException(FailureStatusCode._INTERNAL_SERVER_ERROR);
         }
     }
+
+    // 당행 이체 API
+    @Operation(summary = "당행 이체", description = "당행 계좌 간 출금과 입금을 하나의 트랜잭션으로 처리합니다.")
+    @PostMapping("/internal")
+    public ApiResponse<String> createInternalTransfer(@RequestBody TransferInternalRequestDTO transferInternalRequestDTO) {
+        try {
+            log.info("[당행 이체] 컨트롤러 진입: 요청 수신 = {}", transferInternalRequestDTO);
+            transferLaneExecutor.execute(transferInternalRequestDTO.getWithdrawAccount(),
+                    () -> transferService.transferInternal(transferInternalRequestDTO));
+            log.info("[당행 이체] 성공: 출금 계좌 = {}, 입금 계좌 = {}, 금액 = {}",
+                    transferInternalRequestDTO.getWithdrawAccount(),
+                    transferInternalRequestDTO.getDepositAccount(),
+                    transferInternalRequestDTO.getTransferAmount()
+            );
+            return ApiResponse.of(SuccessStatusCode.TRANSFER_OK, null);
+        } catch (BaseException e) {
+            log.warn("[당행 이체] 실패: 출금 계좌 = {}, 사유 = {}",
+                    transferInternalRequestDTO.getWithdrawAccount(),
+                    e.getStatus().getMessage()
+            );
+            throw e;
+        } catch (Exception e) {
+            log.error("[당행 이체] 오류: {}", e.getMessage(), e);
+            throw new BaseException(FailureStatusCode._INTERNAL_SERVER_ERROR);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package kr.ssok.bank.domain.transfer.dto;
+
+import kr.ssok.bank.common.constant.CurrencyCode;
+import kr.ssok.bank.common.constant.TransferTypeCode;
+import kr.ssok.bank.common.response.BaseCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 일괄 처리 모드에서 하나의 계좌에 적용할 입/출금 요청
+ * 처리 결과 코드는 result 에 기록됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TransferBatchCommand {
+    private final String transactionId; // 오픈뱅킹 트랜잭션 ID
+    private final TransferTypeCode transferTypeCode; // 출금(WITHDRAW) 또는 입금(DEPOSIT)
+    private final String accountNumber; // 대상 계좌 (평문)
+    private final String counterAccount; // 상대 계좌 (평문)
+    private final Long transferAmount; // 거래 금액
+    private final CurrencyCode currencyCode; // 통화 코드
+
+    @Setter
+    private BaseCode result; // 처리 결과
+
+    public static TransferBatchCommand from(TransferWithdrawRequestDTO dto) {
+        return TransferBatchCommand.builder()
+                .transactionId(dto.getTransactionId())
+                .transferTypeCode(TransferTypeCode.WITHDRAW)
+                .accountNumber(dto.getWithdrawAccount())
+                .counterAccount(dto.getCounterAccount())
+                .transferAmount(dto.getTransferAmount())
+                .currencyCode(dto.getCurrencyCode())
+                .build();
+    }
+
+    public static TransferBatchCommand from(TransferDepositRequestDTO dto) {
+        return TransferBatchCommand.builder()
+                .transactionId(dto.getTransactionId())
+                .transferTypeCode(TransferTypeCode.DEPOSIT)
+                .accountNumber(dto.getDepositAccount())
+                .counterAccount(dto.getCounterAccount())
+                .transferAmount(dto.getTransferAmount())
+                .currencyCode(dto.getCurrencyCode())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package kr.ssok.bank.domain.transfer.dto;
+
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.constant.CurrencyCode;
+import lombok.Getter;
+
+@Getter
+public class TransferInternalRequestDTO {
+    private String transactionId; // 오픈뱅킹 트랜잭션 ID
+    private BankCode withdrawBankCode; // 출금 은행 코드
+    private String withdrawAccount; // 출금 계좌
+    private BankCode depositBankCode; // 입금 은행 코드
+    private String depositAccount; // 입금 계좌
+    private Long transferAmount; // 이체 금액
+    private CurrencyCode currencyCode; // 통화 코드
+}
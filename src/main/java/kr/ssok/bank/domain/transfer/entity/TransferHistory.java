@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import kr.ssok.bank.common.constant.CurrencyCode;
 import kr.ssok.bank.common.constant.TransferStatusCode;
 import kr.ssok.bank.common.constant.TransferTypeCode;
+import kr.ssok.bank.common.entity.SnowflakeId;
 import kr.ssok.bank.common.entity.TimeStamp;
 import kr.ssok.bank.domain.account.entity.Account;
 import lombok.*;
@@ -16,12 +17,18 @@ import lombok.*;
 @AllArgsConstructor
 @Table(uniqueConstraints = {
         @UniqueConstraint(columnNames = {"transaction_id", "transfer_type"})
+}, indexes = {
+        // 계좌별 거래 내역 키셋 페이지 조회용
+        @Index(name = "idx_transfer_history_account_created", columnList = "account_id, created_at, transfer_id")
 })
 public class TransferHistory extends TimeStamp {
 
+    // 보상 등 시스템 거래의 상대 계좌 (암호화하지 않고 저장)
+    public static final String SYSTEM_COUNTERPART = "SYSTEM";
+
     @Id
     @Column(name = "transfer_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long transferId;
 
     // 오픈뱅킹 트랜잭션 ID
@@ -1,14 +1,23 @@
 package kr.ssok.bank.domain.transfer.listener;
 
+import kr.ssok.bank.common.audit.AuditEvent;
+import kr.ssok.bank.common.audit.AuditLogger;
 import kr.ssok.bank.common.comm.CommunicationProtocol;
 import kr.ssok.bank.common.comm.JsonUtil;
+import kr.ssok.bank.common.constant.AuditEventTypeCode;
 import kr.ssok.bank.common.constant.FailureStatusCode;
 import kr.ssok.bank.common.constant.SuccessStatusCode;
 import kr.ssok.bank.common.exception.BaseException;
-import kr.ssok.bank.common.response.ApiResponse;
+import kr.ssok.bank.common.response.BaseCode;
+import kr.ssok.bank.common.response.ReplyEncoder;
 import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferBatchCommand;
 import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferInternalRequestDTO;
 import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
+import kr.ssok.bank.domain.transfer.service.TransferLaneExecutor;
+import kr.ssok.bank.domain.transfer.service.TransferMetrics;
+import kr.ssok.bank.domain.transfer.service.TransferMetrics.Stage;
 import kr.ssok.bank.domain.transfer.service.TransferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,23 +26,44 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TransferListener {
 
+    // 일괄 처리 묶음의 메트릭 cmd 태그
+    private static final String BATCH_CMD_TAG = "batch";
+
     @Value("${spring.kafka.request-topic-dlt}")
     private String deadLetterTopic;
+
+    // 인스턴스당 컨슈머 스레드 수 (2 이상이면 단건 요청을 계좌 레인에서 실행)
+    @Value("${transfer.listener.concurrency:1}")
+    private int listenerConcurrency;
+
     private final TransferService transferService;
-    private final KafkaTemplate<String, Object> replyTemplate;
+    private final TransferLaneExecutor transferLaneExecutor;
+    private final TransferMetrics transferMetrics;
+    private final AuditLogger auditLogger;
+    private final ReplyEncoder replyEncoder;
+    private final KafkaTemplate<String, byte[]> replyTemplate;
+    private final KafkaTemplate<String, Object> deadLetterTemplate;
 
     /**
      * 프로미스 요청에 대한 카프카 리스너
@@ -46,78 +76,271 @@ public class TransferListener {
      * @param cmd           통신 프로토콜
      * @return
      */
-    @KafkaListener(topics = "${spring.kafka.request-topic}", groupId = "request-server-group", containerFactory = "kafkaListenerReplyContainerFactory")
+    @KafkaListener(topics = "${spring.kafka.request-topic}", groupId = "request-server-group", containerFactory = "kafkaListenerReplyContainerFactory",
+            autoStartup = "#{'${transfer.listener.mode:record}' != 'batch'}")
     @SendTo // 응답은 헤더에 지정된 replyTopic으로 전송됨
-    public String handleTransferRequest(ConsumerRecord<String, String> record,
+    public byte[] handleTransferRequest(ConsumerRecord<String, byte[]> record,
                                         @Header(KafkaHeaders.REPLY_TOPIC) String replyTopic,
                                         @Header(KafkaHeaders.CORRELATION_ID) String correlationId,
                                         @Header(value = "CMD", required = false) String cmd) {
+        return processTransferRequest(record, cmd);
+    }
 
-        log.info("Received TransferRequest in bank service: {}", record.value());
-        log.info("Received CMD: {}", cmd);
-        log.info("Correlation ID: {}", correlationId);
-        log.info("Reply topic: {}", replyTopic);
+    /**
+     * 프로미스 요청에 대한 일괄 처리 카프카 리스너
+     * 한 번의 poll 로 받은 입/출금 요청을 대상 계좌별로 묶어 계좌당 하나의 트랜잭션으로 처리합니다.
+     * 응답은 레코드마다 상관 ID를 붙여 발송하며, DB 커밋과 응답 발송이 끝난 뒤 오프셋을 커밋합니다.
+     * (kafkaListenerBatchContainerFactory 사용, transfer.listener.mode=batch 일 때 동작)
+     *
+     * @param records 레코드 목록
+     * @param ack     오프셋 커밋 핸들
+     */
+    @KafkaListener(topics = "${spring.kafka.request-topic}", groupId = "request-server-group", containerFactory = "kafkaListenerBatchContainerFactory",
+            autoStartup = "#{'${transfer.listener.mode:record}' == 'batch'}")
+    public void handleTransferRequestBatch(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        log.info("Received TransferRequest batch in bank service: size = {}", records.size());
+
+        List<CompletableFuture<?>> replies = new ArrayList<>(records.size());
+        Map<String, List<BatchEntry>> groups = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+            String cmd = headerValue(record, "CMD");
+            try {
+                BatchEntry entry = toBatchEntry(record, cmd);
+                if (entry != null) {
+                    groups.computeIfAbsent(entry.command.getAccountNumber(), key -> new ArrayList<>()).add(entry);
+                    continue;
+                }
+            } catch (Exception e) {
+                log.error(e.getMessage(), e);
+                replies.add(sendReply(record, replyEncoder.encode(FailureStatusCode._INTERNAL_SERVER_ERROR)));
+                continue;
+            }
+
+            // 묶을 수 없는 요청(보상, 만료 등)은 계좌별 처리 순서를 지키기 위해 앞선 묶음을 먼저 적용
+            applyGroups(groups, replies);
+            replies.add(sendReply(record, processTransferRequest(record, cmd)));
+        }
+        applyGroups(groups, replies);
+
+        // 응답 발송 완료 후 오프셋 커밋
+        CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])).join();
+        ack.acknowledge();
+    }
 
+    /**
+     * 묶음 처리 대상이면 BatchEntry 로 변환, 아니면 null 반환
+     */
+    private BatchEntry toBatchEntry(ConsumerRecord<String, byte[]> record, String cmd) throws Exception {
+        if (cmd == null || isExpired(record.timestamp())) {
+            return null;
+        }
+        switch (cmd) {
+            case CommunicationProtocol.REQUEST_WITHDRAW:
+                TransferWithdrawRequestDTO withdrawDTO = TransferRequestReader.read(cmd, record.value());
+                return new BatchEntry(record, cmd, TransferBatchCommand.from(withdrawDTO));
+            case CommunicationProtocol.REQUEST_DEPOSIT:
+                TransferDepositRequestDTO depositDTO = TransferRequestReader.read(cmd, record.value());
+                return new BatchEntry(record, cmd, TransferBatchCommand.from(depositDTO));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 계좌별 묶음을 적용하고 응답을 발송합니다.
+     * 묶음은 계좌의 실행 레인에 동시에 제출되어 서로 다른 계좌끼리 병렬로 처리됩니다.
+     * 묶음 트랜잭션이 실패하면(롤백) 해당 묶음은 단건 처리로 다시 시도합니다.
+     */
+    private void applyGroups(Map<String, List<BatchEntry>> groups, List<CompletableFuture<?>> replies) {
+        Map<String, CompletableFuture<Void>> applied = new LinkedHashMap<>();
+        Map<String, TransferMetrics.StageContext> contexts = new LinkedHashMap<>();
+        for (Map.Entry<String, List<BatchEntry>> group : groups.entrySet()) {
+            List<TransferBatchCommand> commands = group.getValue().stream().map(entry -> entry.command).toList();
+
+            // 묶음 단위 단계별 지연 시간 (대기 시간은 묶음에서 가장 오래된 요청 기준)
+            TransferMetrics.StageContext context = TransferMetrics.startContext();
+            long oldest = group.getValue().stream().mapToLong(entry -> entry.record.timestamp()).min().orElse(System.currentTimeMillis());
+            context.add(Stage.QUEUE, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - oldest));
+            contexts.put(group.getKey(), context);
+
+            applied.put(group.getKey(), transferLaneExecutor.submit(group.getKey(), () -> {
+                transferService.applyBatch(group.getKey(), commands);
+                return null;
+            }));
+            TransferMetrics.clearContext();
+        }
+
+        for (Map.Entry<String, List<BatchEntry>> group : groups.entrySet()) {
+            List<BatchEntry> entries = group.getValue();
+            try {
+                TransferLaneExecutor.await(applied.get(group.getKey()));
+                transferMetrics.record(contexts.get(group.getKey()), BATCH_CMD_TAG, SuccessStatusCode._OK);
+                for (BatchEntry entry : entries) {
+                    replies.add(sendReply(entry.record, replyEncoder.encode(entry.command.getResult())));
+                }
+            } catch (Exception e) {
+                transferMetrics.record(contexts.get(group.getKey()), BATCH_CMD_TAG,
+                        e instanceof BaseException baseException ? baseException.getStatus() : FailureStatusCode._INTERNAL_SERVER_ERROR);
+                log.error("Batch apply failed. Fallback to single record processing. account size = {}", entries.size(), e);
+                for (BatchEntry entry : entries) {
+                    replies.add(sendReply(entry.record, processTransferRequest(entry.record, entry.cmd)));
+                }
+            }
+        }
+        groups.clear();
+    }
+
+    /**
+     * 요청 헤더의 replyTopic, 상관 ID로 응답을 발송합니다.
+     */
+    private CompletableFuture<?> sendReply(ConsumerRecord<String, byte[]> record, byte[] payload) {
+        String replyTopic = headerValue(record, KafkaHeaders.REPLY_TOPIC);
+        if (replyTopic == null) {
+            log.warn("Reply topic is missing. Skipping reply. offset: {}", record.offset());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        org.apache.kafka.common.header.Header replyPartition = record.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
+        Integer partition = replyPartition != null ? ByteBuffer.wrap(replyPartition.value()).getInt() : null;
+
+        ProducerRecord<String, byte[]> reply = new ProducerRecord<>(replyTopic, partition, null, payload);
+        org.apache.kafka.common.header.Header correlationId = record.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+        if (correlationId != null) {
+            reply.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.value());
+        }
+        return replyTemplate.send(reply);
+    }
+
+    private String headerValue(ConsumerRecord<String, byte[]> record, String key) {
+        org.apache.kafka.common.header.Header header = record.headers().lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 단건 요청 처리 (단건 리스너, 일괄 처리 리스너 공용)
+     * 컨슈머 스레드가 여럿이면 입/출금/이체/보상을 계좌 레인에서 실행합니다. (runOnAccountLane)
+     * 처리 단계별 지연 시간을 CMD/결과 코드별로 기록하고, 처리 결과를 감사 이벤트로 남깁니다.
+     *
+     * @param record 레코드
+     * @param cmd    통신 프로토콜
+     * @return 응답 JSON 바이트
+     */
+    private byte[] processTransferRequest(ConsumerRecord<String, byte[]> record, String cmd) {
+        TransferMetrics.StageContext context = TransferMetrics.startContext();
+        context.add(Stage.QUEUE, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - record.timestamp()));
+        BaseCode result = FailureStatusCode._INTERNAL_SERVER_ERROR;
+        try {
+            result = handleTransferCommand(record, cmd);
+            return replyEncoder.encode(result);
+        } finally {
+            transferMetrics.record(context, cmd, result);
+            auditLogger.record(AuditEvent.of(AuditEventTypeCode.REQUEST, cmd, result));
+            TransferMetrics.clearContext();
+        }
+    }
+
+    private BaseCode handleTransferCommand(ConsumerRecord<String, byte[]> record, String cmd) {
         if (cmd == null) {
             log.info("Transfer ERROR : {}", record);
-            ApiResponse<String> response = ApiResponse.of(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
-            return JsonUtil.toJson(response);
+            return FailureStatusCode._INTERNAL_SERVER_ERROR;
         }
         try {
             long messageCreatedAt = record.timestamp(); // 프로듀서가 메시지를 생성한 시간 (CreateTime)
 
             switch (cmd) {
                 case CommunicationProtocol.REQUEST_WITHDRAW: // 출금
-                    log.info("REQUEST_WITHDRAW: {}", record);
-
-                    TransferWithdrawRequestDTO withdrawDTO = JsonUtil.fromJson(record.value(), TransferWithdrawRequestDTO.class);
+                    TransferWithdrawRequestDTO withdrawDTO = parse(record, cmd);
 
                     if (isExpired(messageCreatedAt)) {
                         log.warn("Expired withdraw message. Skipping process. transactionId: {}", withdrawDTO.getTransactionId());
-                        return ApiResponse.ofJson(FailureStatusCode.REQUEST_TIMEOUT, null);
+                        return FailureStatusCode.REQUEST_TIMEOUT;
                     }
 
-                    transferService.withdraw(withdrawDTO);
+                    runOnAccountLane(withdrawDTO::getWithdrawAccount, () -> transferService.withdraw(withdrawDTO));
 
-                    return ApiResponse.ofJson(SuccessStatusCode.TRANSFER_WITHDRAW_OK, null);
+                    return SuccessStatusCode.TRANSFER_WITHDRAW_OK;
 
                 case CommunicationProtocol.REQUEST_DEPOSIT: // 입금
-                    log.info("REQUEST_DEPOSIT : {}", record);
-
-                    TransferDepositRequestDTO depositDTO = JsonUtil.fromJson(record.value(), TransferDepositRequestDTO.class);
+                    TransferDepositRequestDTO depositDTO = parse(record, cmd);
 
                     if (isExpired(messageCreatedAt)) {
                         log.warn("Expired deposit message. Skipping process. transactionId: {}", depositDTO.getTransactionId());
-                        return ApiResponse.ofJson(FailureStatusCode.REQUEST_TIMEOUT, null);
+                        return FailureStatusCode.REQUEST_TIMEOUT;
+                    }
+
+                    runOnAccountLane(depositDTO::getDepositAccount, () -> transferService.deposit(depositDTO));
+
+                    return SuccessStatusCode.TRANSFER_DEPOSIT_OK;
+
+                case CommunicationProtocol.REQUEST_TRANSFER_INTERNAL: // 당행 계좌 간 이체
+                    TransferInternalRequestDTO internalDTO = parse(record, cmd);
+
+                    if (isExpired(messageCreatedAt)) {
+                        log.warn("Expired internal transfer message. Skipping process. transactionId: {}", internalDTO.getTransactionId());
+                        return FailureStatusCode.REQUEST_TIMEOUT;
                     }
 
-                    transferService.deposit(depositDTO);
+                    runOnAccountLane(internalDTO::getWithdrawAccount, () -> transferService.transferInternal(internalDTO));
 
-                    return ApiResponse.ofJson(SuccessStatusCode.TRANSFER_DEPOSIT_OK, null);
+                    return SuccessStatusCode.TRANSFER_OK;
 
                 case CommunicationProtocol.REQUEST_COMPENSATE: // 보상
-                    log.info("REQUEST_COMPENSATE : {}", record);
-                    CompensateRequestDTO compensateDTO = JsonUtil.fromJson(record.value(), CompensateRequestDTO.class);
+                    CompensateRequestDTO compensateDTO = parse(record, cmd);
                     try
                     {
-                        transferService.compensate(compensateDTO);
+                        // 원 출금 계좌의 레인에서 실행 (출금 내역이 없으면 transactionId 기준)
+                        runOnAccountLane(() -> compensateLaneKey(compensateDTO.getTransactionId()),
+                                () -> transferService.compensate(compensateDTO));
                     }
                     catch (Exception e)
                     {
                         log.error("COMPENSATE ERROR : Database Failed => Send Message to DLQ(DeadLetterQueue)");
                         this.sendToDeadLetterQueue(record, cmd, e);
-                        return ApiResponse.ofJson(FailureStatusCode.TRANSFER_COMPENSATE_FAILED, null);
+                        return FailureStatusCode.TRANSFER_COMPENSATE_FAILED;
                     }
-                    return ApiResponse.ofJson(SuccessStatusCode.TRANSFER_COMPENSATE_OK, null);
+                    return SuccessStatusCode.TRANSFER_COMPENSATE_OK;
             }
         } catch (BaseException e) {
             log.error(e.getMessage(), e);
-            return ApiResponse.ofJson(e.getStatus(), null);
+            return e.getStatus();
         } catch (Exception e) {
             log.error(e.getMessage(), e);
-            return ApiResponse.ofJson(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
+            return FailureStatusCode._INTERNAL_SERVER_ERROR;
+        }
+        return FailureStatusCode._INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 컨슈머 스레드가 여럿이면 같은 계좌 요청을 계좌 레인에서 순서대로 실행합니다.
+     * 여러 컨슈머 스레드가 인기 계좌의 행 락을 JDBC 커넥션을 쥔 채 기다리는 대신 레인 큐에서 기다리고,
+     * 보상은 같은 계좌의 출금과 같은 레인에서 순서가 지켜집니다.
+     * 컨슈머 스레드가 하나면 요청이 이미 하나씩 순서대로 처리되므로 리스너 스레드에서 바로 실행합니다.
+     *
+     * @param accountNumber 레인 선택 키 (레인을 쓸 때만 조회)
+     * @param task          실행할 작업
+     */
+    private void runOnAccountLane(Supplier<String> accountNumber, Runnable task) {
+        if (listenerConcurrency > 1) {
+            transferLaneExecutor.execute(accountNumber.get(), task);
+        } else {
+            task.run();
+        }
+    }
+
+    private String compensateLaneKey(String transactionId) {
+        String withdrawAccount = transferService.getWithdrawAccountNumber(transactionId);
+        return withdrawAccount != null ? withdrawAccount : transactionId;
+    }
+
+    // CMD 별 DTO 로 역직렬화 (소요 시간은 parse 단계로 기록)
+    private <T> T parse(ConsumerRecord<String, byte[]> record, String cmd) {
+        long start = System.nanoTime();
+        try {
+            return TransferRequestReader.read(cmd, record.value());
+        } finally {
+            TransferMetrics.addToCurrent(Stage.PARSE, System.nanoTime() - start);
         }
-        return ApiResponse.ofJson(FailureStatusCode._INTERNAL_SERVER_ERROR, null);
     }
 
     @KafkaListener(topics = "${spring.kafka.request-topic-dlt}", groupId = "request-server-group")
@@ -149,8 +372,8 @@ public class TransferListener {
      */
     @KafkaListener(topics = "${spring.kafka.push-topic}", containerFactory = "kafkaListenerUnidirectionalContainerFactory")
     public void receiveMessage(@Header(value = "CMD", required = false) String cmd,
-                               ConsumerRecord<String, String> record) {
-        log.info("Received unidirectional message in bank service: {}", record.value());
+                               ConsumerRecord<String, byte[]> record) {
+        log.info("Received unidirectional message in bank service: {} bytes", record.value() != null ? record.value().length : 0);
         log.info("Received CMD: {}", cmd);
 
         if (cmd == null) return;
@@ -176,21 +399,29 @@ public class TransferListener {
     private boolean isExpired(long messageCreatedAt) {
         long currentTime = System.currentTimeMillis();
         long diff = currentTime - messageCreatedAt;
-        log.info("요청 발생 후 도착까지 걸린 시간: {}ms", diff);
+        log.debug("요청 발생 후 도착까지 걸린 시간: {}ms", diff);
         return diff > 10000L; // 10초
     }
 
+    // 일괄 처리 단위 (원본 레코드와 계좌 적용 요청)
+    @RequiredArgsConstructor
+    private static class BatchEntry {
+        private final ConsumerRecord<String, byte[]> record;
+        private final String cmd;
+        private final TransferBatchCommand command;
+    }
+
     // 해당 메서드는 재시도 요청을 하지않음, 재시도 요청은 KafkaListener에서 예외를 발생시켜야 동작
     // KafkaConfig ErrorHandler 에서 예외 라우팅 필요
-    private void sendToDeadLetterQueue(ConsumerRecord<String, String> record, String cmd, Exception e) {
+    private void sendToDeadLetterQueue(ConsumerRecord<String, byte[]> record, String cmd, Exception e) {
         // 별도 스레드에서 DLQ 처리 (응답 지연 방지)
         CompletableFuture.runAsync(() -> {
             try {
                 ProducerRecord<String, Object> producer =
-                        new ProducerRecord<>(deadLetterTopic, record.key(), record.value());
+                        new ProducerRecord<>(deadLetterTopic, record.key(), TransferRequestReader.toJsonText(record.value()));
                 producer.headers().add("CMD", cmd.getBytes(StandardCharsets.UTF_8));
                 // DLQ로 메시지 전송
-                replyTemplate.send(producer);
+                deadLetterTemplate.send(producer);
                 log.info("Message sent to DLQ: {}", record);
             } catch (Exception dlqException) {
                 log.error("Failed to send message to DLQ", dlqException);
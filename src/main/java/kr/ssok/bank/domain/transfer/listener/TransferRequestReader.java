@@ -0,0 +1,87 @@
+package kr.ssok.bank.domain.transfer.listener;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import kr.ssok.bank.common.comm.CommunicationProtocol;
+import kr.ssok.bank.common.comm.JsonUtil;
+import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferInternalRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 송금 요청 역직렬화
+ * CMD 헤더로 요청 DTO 타입을 고르고, 미리 만든 ObjectReader 로 레코드의 byte[] 를 DTO 로 한 번에 변환합니다.
+ * - JSON 객체 본문은 중간 String 없이 바로 DTO 로 변환합니다.
+ * - JSON 문자열로 한 번 더 감싼 기존 형식("{\"transactionId\":...}")도 풀어서 처리합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransferRequestReader {
+
+    private static final ObjectReader TEXT_READER = JsonUtil.readerFor(String.class);
+
+    private static final Map<String, ObjectReader> READERS = Map.of(
+            CommunicationProtocol.REQUEST_WITHDRAW, JsonUtil.readerFor(TransferWithdrawRequestDTO.class),
+            CommunicationProtocol.REQUEST_DEPOSIT, JsonUtil.readerFor(TransferDepositRequestDTO.class),
+            CommunicationProtocol.REQUEST_TRANSFER_INTERNAL, JsonUtil.readerFor(TransferInternalRequestDTO.class),
+            CommunicationProtocol.REQUEST_COMPENSATE, JsonUtil.readerFor(CompensateRequestDTO.class)
+    );
+
+    /**
+     * @param cmd   통신 프로토콜 (CMD 헤더)
+     * @param value 레코드 값
+     * @return CMD 에 해당하는 요청 DTO
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T read(String cmd, byte[] value) {
+        ObjectReader reader = cmd != null ? READERS.get(cmd) : null;
+        if (reader == null) {
+            throw new IllegalArgumentException("[TransferRequestReader] 지원하지 않는 CMD: " + cmd);
+        }
+        try {
+            if (isQuoted(value)) {
+                return (T) reader.readValue(TEXT_READER.<String>readValue(value));
+            }
+            return (T) reader.readValue(value);
+        } catch (Exception e) {
+            throw new RuntimeException("[TransferRequestReader] JSON 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 레코드 값을 JSON 본문 문자열로 변환합니다. (DLQ 재발행용, 감싼 문자열이면 한 겹 벗김)
+     *
+     * @param value 레코드 값
+     * @return JSON 본문
+     */
+    public static String toJsonText(byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        if (isQuoted(value)) {
+            try {
+                return TEXT_READER.readValue(value);
+            } catch (Exception e) {
+                throw new RuntimeException("[TransferRequestReader] JSON 파싱 실패", e);
+            }
+        }
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    // 공백을 건너뛴 첫 바이트가 따옴표면 JSON 문자열로 감싼 형식
+    private static boolean isQuoted(byte[] value) {
+        for (byte b : value) {
+            if (b == '"') {
+                return true;
+            }
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return false;
+    }
+}
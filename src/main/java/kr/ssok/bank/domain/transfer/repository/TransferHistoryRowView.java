@@ -0,0 +1,19 @@
+package kr.ssok.bank.domain.transfer.repository;
+
+import kr.ssok.bank.common.constant.CurrencyCode;
+import kr.ssok.bank.common.constant.TransferTypeCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 페이지 조회용 프로젝션 (엔티티/연관 계좌를 로딩하지 않음)
+ */
+public interface TransferHistoryRowView {
+    Long getTransferId();
+    TransferTypeCode getTransferTypeCode();
+    String getCounterpartAccount();
+    Long getTransferAmount();
+    CurrencyCode getCurrencyCode();
+    Long getBalanceAfter();
+    LocalDateTime getCreatedAt();
+}
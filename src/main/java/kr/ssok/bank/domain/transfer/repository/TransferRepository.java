@@ -2,12 +2,88 @@ package kr.ssok.bank.domain.transfer.repository;
 
 import kr.ssok.bank.common.constant.TransferTypeCode;
 import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
 import kr.ssok.bank.domain.transfer.entity.TransferHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TransferRepository extends JpaRepository<TransferHistory, Long>  {
     boolean existsByTransactionIdAndTransferTypeCode(String transactionId, TransferTypeCode transferTypeCode);
     Optional<TransferHistory> findByTransactionIdAndTransferTypeCode(String transactionId, TransferTypeCode transferTypeCode);
+
+    @Query("SELECT a.accountNumber FROM TransferHistory t JOIN t.account a WHERE t.transactionId = :transactionId AND t.transferTypeCode = :transferTypeCode")
+    Optional<String> findAccountNumberByTransactionIdAndTransferTypeCode(@Param("transactionId") String transactionId,
+                                                                         @Param("transferTypeCode") TransferTypeCode transferTypeCode);
+
+    // 중복 거래 인덱스 초기화용 (transactionId, 송금 타입)
+    @Query("SELECT t.transactionId, t.transferTypeCode FROM TransferHistory t WHERE t.createdAt >= :since")
+    List<Object[]> findTransactionKeysCreatedAfter(@Param("since") LocalDateTime since);
+
+    // 계좌별 거래 내역 키셋 페이지 조회 (created_at, transfer_id 내림차순, 커서 이전 행만)
+    @Query("SELECT t.transferId AS transferId, t.transferTypeCode AS transferTypeCode, t.counterpartAccount AS counterpartAccount, " +
+            "t.transferAmount AS transferAmount, t.currencyCode AS currencyCode, t.balanceAfter AS balanceAfter, t.createdAt AS createdAt " +
+            "FROM TransferHistory t " +
+            "WHERE t.account.accountId = :accountId AND t.createdAt >= :from AND t.createdAt < :to " +
+            "AND (t.createdAt < :cursorAt OR (t.createdAt = :cursorAt AND t.transferId < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.transferId DESC")
+    List<TransferHistoryRowView> findHistoryPage(@Param("accountId") Long accountId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Limit limit);
+
+    // 송금 타입 필터를 적용한 키셋 페이지 조회
+    @Query("SELECT t.transferId AS transferId, t.transferTypeCode AS transferTypeCode, t.counterpartAccount AS counterpartAccount, " +
+            "t.transferAmount AS transferAmount, t.currencyCode AS currencyCode, t.balanceAfter AS balanceAfter, t.createdAt AS createdAt " +
+            "FROM TransferHistory t " +
+            "WHERE t.account.accountId = :accountId AND t.transferTypeCode = :transferTypeCode " +
+            "AND t.createdAt >= :from AND t.createdAt < :to " +
+            "AND (t.createdAt < :cursorAt OR (t.createdAt = :cursorAt AND t.transferId < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.transferId DESC")
+    List<TransferHistoryRowView> findHistoryPageByType(@Param("accountId") Long accountId,
+                                                       @Param("transferTypeCode") TransferTypeCode transferTypeCode,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to,
+                                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Limit limit);
+
+    // 계좌 전체 거래 내역 내보내기용 키셋 페이지 조회 (created_at, transfer_id 오름차순, 커서 이후 행만)
+    @Query("SELECT t.transferId AS transferId, t.transferTypeCode AS transferTypeCode, t.counterpartAccount AS counterpartAccount, " +
+            "t.transferAmount AS transferAmount, t.currencyCode AS currencyCode, t.balanceAfter AS balanceAfter, t.createdAt AS createdAt " +
+            "FROM TransferHistory t " +
+            "WHERE t.account.accountId = :accountId " +
+            "AND (t.createdAt > :cursorAt OR (t.createdAt = :cursorAt AND t.transferId > :cursorId)) " +
+            "ORDER BY t.createdAt ASC, t.transferId ASC")
+    List<TransferHistoryRowView> findExportPage(@Param("accountId") Long accountId,
+                                                @Param("cursorAt") LocalDateTime cursorAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Limit limit);
+
+    // 상품별 일괄 이자 거래 내역 기록
+    // transfer_id 는 예약한 SnowflakeId 블록에서 계산 (idBase + ((rn / 4096) << 22) + rn % 4096), 예약 개수를 넘는 행은 제외
+    @Modifying
+    @Query(value = "INSERT INTO transfer_history (transfer_id, transaction_id, transfer_type, transfer_status, counterpart_account, " +
+            "transfer_amount, currency_code, balance_after, account_id, created_at, updated_at) " +
+            "SELECT :idBase + ((t.rn DIV 4096) << 22) + MOD(t.rn, 4096), CONCAT(:transactionPrefix, t.account_id), 'INTEREST', 'SUCCESS', " +
+            "t.account_number, t.interest, 'WON', t.balance + t.interest, t.account_id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM (SELECT a.account_id, a.account_number, a.balance, FLOOR(a.balance * :dailyRate) AS interest, " +
+            "ROW_NUMBER() OVER (ORDER BY a.account_id) - 1 AS rn " +
+            "FROM account a JOIN good g ON g.good_id = a.good_id " + AccountRepository.INTEREST_COHORT_CONDITION + ") t " +
+            "WHERE t.rn < :idCount", nativeQuery = true)
+    int insertInterestHistories(@Param("goodId") Long goodId,
+                                @Param("baseTime") LocalDateTime baseTime,
+                                @Param("dailyRate") BigDecimal dailyRate,
+                                @Param("transactionPrefix") String transactionPrefix,
+                                @Param("idBase") Long idBase,
+                                @Param("idCount") Long idCount);
 }
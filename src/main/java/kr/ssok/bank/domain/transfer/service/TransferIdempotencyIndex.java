@@ -0,0 +1,239 @@
+package kr.ssok.bank.domain.transfer.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.ssok.bank.common.constant.TransferTypeCode;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * transactionId 중복 여부 인메모리 인덱스
+ * 최근 시간 구간에 기록된 (transactionId, 송금 타입)을 블룸 필터와 최근 키 집합으로 관리합니다.
+ *
+ * - mightContain 이 false 이면 이 인스턴스가 아는 범위에서 확실히 없는 키이므로 DB 조회를 생략할 수 있습니다.
+ * - containsRecent 가 true 이면 커밋된 기록이 확실히 존재합니다.
+ * - 다른 인스턴스가 기록했거나 구간을 벗어난 키는 (transaction_id, transfer_type) 유니크 제약이 최종적으로 막습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferIdempotencyIndex {
+
+    @Value("${transfer.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${transfer.idempotency.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${transfer.idempotency.expected-insertions:1000000}")
+    private int expectedInsertions;
+
+    @Value("${transfer.idempotency.max-recent:200000}")
+    private int maxRecent;
+
+    private final TransferRepository transferRepository;
+
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+    private final Queue<RecentKey> recentOrder = new ConcurrentLinkedQueue<>();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt;
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("[중복 거래 인덱스] 비활성화 상태입니다.");
+            return;
+        }
+
+        this.current = new BloomFilter(expectedInsertions);
+        this.previous = new BloomFilter(expectedInsertions);
+        this.rotatedAt = System.currentTimeMillis();
+
+        // 최근 구간의 거래 내역으로 인덱스 초기화
+        try {
+            LocalDateTime since = LocalDateTime.now().minusMinutes(windowMinutes);
+            List<Object[]> keys = transferRepository.findTransactionKeysCreatedAfter(since);
+            for (Object[] key : keys) {
+                record((String) key[0], (TransferTypeCode) key[1]);
+            }
+            this.ready = true;
+            log.info("[중복 거래 인덱스] 초기화 완료: 최근 {}분, 거래 수 = {}", windowMinutes, keys.size());
+        } catch (Exception e) {
+            // 초기화에 실패하면 모든 조회를 DB로 위임
+            log.error("[중복 거래 인덱스] 초기화 실패: DB 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 해당 키가 기록되었을 가능성이 있는지 확인합니다.
+     * false 이면 확실히 기록되지 않은 키입니다. (인덱스가 준비되지 않은 경우 항상 true)
+     */
+    public boolean mightContain(String transactionId, TransferTypeCode transferTypeCode) {
+        if (!ready) {
+            return true;
+        }
+        rotateIfExpired();
+        String key = toKey(transactionId, transferTypeCode);
+        return current.mightContain(key) || previous.mightContain(key);
+    }
+
+    /**
+     * 최근 커밋된 기록에 확실히 존재하는지 확인합니다.
+     */
+    public boolean containsRecent(String transactionId, TransferTypeCode transferTypeCode) {
+        if (!ready) {
+            return false;
+        }
+        Long recordedAt = recent.get(toKey(transactionId, transferTypeCode));
+        return recordedAt != null && System.currentTimeMillis() - recordedAt < windowMillis();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 키를 기록합니다. (트랜잭션이 없으면 즉시 기록)
+     */
+    public void recordAfterCommit(String transactionId, TransferTypeCode transferTypeCode) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(transactionId, transferTypeCode);
+                }
+            });
+        } else {
+            record(transactionId, transferTypeCode);
+        }
+    }
+
+    private void record(String transactionId, TransferTypeCode transferTypeCode) {
+        rotateIfExpired();
+        String key = toKey(transactionId, transferTypeCode);
+        long now = System.currentTimeMillis();
+
+        current.put(key);
+        recent.put(key, now);
+        recentOrder.add(new RecentKey(key, now));
+        evictRecent(now);
+    }
+
+    // 최근 키 집합은 크기와 시간 구간을 모두 넘지 않도록 오래된 순으로 제거
+    private void evictRecent(long now) {
+        RecentKey oldest;
+        while ((oldest = recentOrder.peek()) != null
+                && (recent.size() > maxRecent || now - oldest.recordedAt >= windowMillis())) {
+            RecentKey polled = recentOrder.poll();
+            if (polled != null) {
+                recent.remove(polled.key, polled.recordedAt);
+            }
+        }
+    }
+
+    // 시간 구간이 지나면 블룸 필터 세대 교체 (직전 구간까지 유지)
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt < windowMillis()) {
+            return;
+        }
+        synchronized (this) {
+            if (now - rotatedAt < windowMillis()) {
+                return;
+            }
+            this.previous = current;
+            this.current = new BloomFilter(expectedInsertions);
+            this.rotatedAt = now;
+        }
+    }
+
+    private long windowMillis() {
+        return windowMinutes * 60_000L;
+    }
+
+    private static String toKey(String transactionId, TransferTypeCode transferTypeCode) {
+        return transactionId + ":" + transferTypeCode.name();
+    }
+
+    @RequiredArgsConstructor
+    private static class RecentKey {
+        private final String key;
+        private final long recordedAt;
+    }
+
+    /**
+     * 오탐률 1% 기준 블룸 필터 (스레드 안전)
+     */
+    static class BloomFilter {
+        private static final double FALSE_POSITIVE_RATE = 0.01;
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions) {
+            long size = (long) (-expectedInsertions * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        void put(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                int slot = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                while (((value = bits.get(slot)) & mask) == 0) {
+                    if (bits.compareAndSet(slot, value, value | mask)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64bit + 비트 믹싱
+        private static long hash64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package kr.ssok.bank.domain.transfer.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.exception.BaseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 계좌별 단일 작성자(single-writer) 실행 레인
+ * 같은 계좌번호의 요청은 항상 같은 레인에서 순서대로 실행되고,
+ * 서로 다른 계좌의 요청은 다른 레인에서 병렬로 실행됩니다.
+ * 인기 계좌 요청이 DB 행 락을 기다리며 JDBC 커넥션을 점유하는 대신 레인 큐에서 대기합니다.
+ * 여러 호출자가 동시에 작업을 넘기는 경우(일괄 처리 리스너의 계좌별 묶음, 동시 HTTP 요청, 컨슈머 스레드가 여럿인 단건 리스너)에 사용합니다.
+ * 컨슈머 스레드가 하나인 단건 리스너처럼 제출 직후 완료를 기다리는 단일 호출자는 병렬성 없이 스레드 전환 비용만 늘어납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferLaneExecutor {
+
+    @Value("${transfer.lane.count:8}")
+    private int laneCount;
+
+    @Value("${transfer.lane.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // execute 호출자가 레인 큐에서 기다리는 최대 시간 (0 이하면 제한 없음)
+    @Value("${transfer.lane.await-timeout-ms:5000}")
+    private long awaitTimeoutMs;
+
+    // 레인 작업자를 가상 스레드로 실행 (JDBC 대기 중 캐리어 스레드를 점유하지 않음)
+    @Value("${transfer.lane.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadLocal<Integer> currentLane = new ThreadLocal<>();
+    private ThreadPoolExecutor[] lanes;
+
+    @PostConstruct
+    public void init() {
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            final int lane = i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> newLaneThread(lane, () -> {
+                        currentLane.set(lane);
+                        runnable.run();
+                    }));
+
+            // 레인별 대기 큐 길이
+            Gauge.builder("transfer.lane.queue.depth", lanes[i], executor -> executor.getQueue().size())
+                    .description("Pending transfer commands per execution lane")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        log.info("[이체 레인] 초기화 완료: 레인 수 = {}, 레인별 큐 크기 = {}, 대기 제한 = {}ms, 가상 스레드 = {}",
+                laneCount, queueCapacity, awaitTimeoutMs, virtualThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                lane.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 계좌번호의 레인에 작업을 제출합니다.
+     *
+     * @param accountNumber 레인 선택 키 (계좌번호)
+     * @param task          실행할 작업
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> submit(String accountNumber, Supplier<T> task) {
+        int lane = laneOf(accountNumber);
+
+        // 이미 같은 레인 스레드에서 호출된 경우 대기 교착을 피하기 위해 바로 실행
+        Integer running = currentLane.get();
+        if (running != null && running == lane) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        // 호출 스레드의 단계별 지연 시간 컨텍스트를 레인 스레드로 전달
+        TransferMetrics.StageContext context = TransferMetrics.currentContext();
+        Supplier<T> laneTask = context == null ? task : () -> {
+            TransferMetrics.attachContext(context);
+            try {
+                return task.get();
+            } finally {
+                TransferMetrics.clearContext();
+            }
+        };
+
+        try {
+            return CompletableFuture.supplyAsync(laneTask, lanes[lane]);
+        } catch (RejectedExecutionException e) {
+            log.error("[이체 레인] 작업 거부: 레인 = {}, 대기 작업 수 = {}", lane, getQueueDepth(lane));
+            return CompletableFuture.failedFuture(new BaseException(FailureStatusCode.TRANSFER_FAILED));
+        }
+    }
+
+    /**
+     * 계좌번호의 레인에서 작업을 실행하고 완료될 때까지 기다립니다.
+     * 작업에서 발생한 예외(BaseException 등)는 그대로 다시 던집니다.
+     * 대기 시간(transfer.lane.await-timeout-ms) 안에 작업이 시작되지 않으면 작업을 취소하고 REQUEST_TIMEOUT 을 던집니다.
+     * 이미 시작된 작업은 커밋 여부를 알 수 없으므로 끝날 때까지 기다립니다. (DB 락 대기 시간으로 한정)
+     *
+     * @param accountNumber 레인 선택 키 (계좌번호)
+     * @param task          실행할 작업
+     */
+    public void execute(String accountNumber, Runnable task) throws BaseException {
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<Void> future = submit(accountNumber, () -> {
+            // 대기 시간 초과로 호출자가 포기한 작업은 실행하지 않음
+            if (started.compareAndSet(false, true)) {
+                task.run();
+            }
+            return null;
+        });
+        if (awaitTimeoutMs > 0 && !awaitWithin(future, awaitTimeoutMs) && started.compareAndSet(false, true)) {
+            int lane = laneOf(accountNumber);
+            log.warn("[이체 레인] 대기 시간 초과: 레인 = {}, 대기 작업 수 = {}", lane, getQueueDepth(lane));
+            throw new BaseException(FailureStatusCode.REQUEST_TIMEOUT);
+        }
+        await(future);
+    }
+
+    /**
+     * 레인 작업 완료를 기다리고, 작업 예외를 원래 예외로 풀어서 던집니다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(FailureStatusCode.TRANSFER_FAILED);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    // 제한 시간 안에 끝났으면 true (작업 예외는 await 에서 풀어서 던짐)
+    private static boolean awaitWithin(CompletableFuture<?> future, long timeoutMs) {
+        try {
+            future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(FailureStatusCode.TRANSFER_FAILED);
+        } catch (ExecutionException | CompletionException e) {
+            // 완료됨
+        }
+        return true;
+    }
+
+    public int laneOf(String accountNumber) {
+        return Math.floorMod(accountNumber == null ? 0 : accountNumber.hashCode(), lanes.length);
+    }
+
+    public int getQueueDepth(int lane) {
+        return lanes[lane].getQueue().size();
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    private Thread newLaneThread(int lane, Runnable runnable) {
+        String name = "transfer-lane-" + lane;
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name).unstarted(runnable);
+        }
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(cause);
+    }
+}
@@ -0,0 +1,184 @@
+package kr.ssok.bank.domain.transfer.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.ssok.bank.common.response.BaseCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 송금 처리 단계별 지연 시간 메트릭
+ * 요청 하나의 단계별 소요 시간을 스레드별 StageContext 에 모아 두었다가,
+ * 처리 결과가 정해지면 CMD/결과 코드 태그와 함께 transfer.stage.duration 히스토그램에 기록합니다.
+ * (실행 레인으로 넘어간 작업에는 TransferLaneExecutor 가 컨텍스트를 전달합니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferMetrics {
+
+    public static final String METRIC_NAME = "transfer.stage.duration";
+
+    private static final ThreadLocal<StageContext> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+        QUEUE("queue"), // 메시지 생성 ~ 수신
+        PARSE("parse"), // JSON 역직렬화
+        ENCRYPT("encrypt"), // 계좌번호 암호화
+        LOCK_WAIT("lock_wait"), // 계좌 행 락 획득 (ATOMIC 모드는 조건부 UPDATE)
+        HISTORY_INSERT("history_insert"), // 거래 내역 저장
+        COMMIT("commit"); // 트랜잭션 커밋 (flush 포함)
+
+        private final String value;
+    }
+
+    /**
+     * 요청 하나의 단계별 누적 소요 시간
+     */
+    public static class StageContext {
+        private final long[] nanos = new long[Stage.values().length];
+        private final boolean[] measured = new boolean[Stage.values().length];
+
+        public synchronized void add(Stage stage, long elapsedNanos) {
+            nanos[stage.ordinal()] += Math.max(0L, elapsedNanos);
+            measured[stage.ordinal()] = true;
+        }
+    }
+
+    /**
+     * 현재 스레드에 새 컨텍스트를 시작합니다.
+     */
+    public static StageContext startContext() {
+        StageContext context = new StageContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static StageContext currentContext() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 다른 스레드에서 시작된 컨텍스트를 현재 스레드에 연결합니다. (null 이면 해제)
+     */
+    public static void attachContext(StageContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+
+    public static void clearContext() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 측정한 소요 시간을 현재 컨텍스트의 단계에 누적합니다.
+     */
+    public static void addToCurrent(Stage stage, long elapsedNanos) {
+        StageContext context = CURRENT.get();
+        if (context != null) {
+            context.add(stage, elapsedNanos);
+        }
+    }
+
+    /**
+     * 작업 소요 시간을 현재 컨텍스트의 단계에 누적합니다. (컨텍스트가 없으면 작업만 실행)
+     */
+    public static <T> T time(Stage stage, Supplier<T> task) {
+        StageContext context = CURRENT.get();
+        if (context == null) {
+            return task.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            context.add(stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 소요 시간을 측정하도록 등록합니다.
+     */
+    public static void timeCommit() {
+        StageContext context = CURRENT.get();
+        if (context == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStartedAt;
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStartedAt = System.nanoTime();
+                committing = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED && committing) {
+                    context.add(Stage.COMMIT, System.nanoTime() - commitStartedAt);
+                }
+            }
+        });
+    }
+
+    /**
+     * 컨텍스트에 측정된 단계들을 CMD/결과 코드 태그로 기록합니다.
+     *
+     * @param context 단계별 소요 시간
+     * @param cmd     통신 프로토콜 (CMD 헤더)
+     * @param outcome 처리 결과 코드
+     */
+    public void record(StageContext context, String cmd, BaseCode outcome) {
+        if (context == null) {
+            return;
+        }
+        String cmdTag = toCmdTag(cmd);
+        String outcomeTag = outcome != null ? outcome.getReasonHttpStatus().getCode() : "UNKNOWN";
+        synchronized (context) {
+            for (Stage stage : Stage.values()) {
+                if (context.measured[stage.ordinal()]) {
+                    timer(stage, cmdTag, outcomeTag).record(context.nanos[stage.ordinal()], TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    private Timer timer(Stage stage, String cmd, String outcome) {
+        return timers.computeIfAbsent(stage.getValue() + '|' + cmd + '|' + outcome, key -> Timer.builder(METRIC_NAME)
+                .description("Transfer pipeline latency per stage")
+                .tag("stage", stage.getValue())
+                .tag("cmd", cmd)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+    }
+
+    // kr.ssok.kafka.messaging.request.withdraw -> withdraw
+    private static String toCmdTag(String cmd) {
+        if (cmd == null) {
+            return "unknown";
+        }
+        return cmd.substring(cmd.lastIndexOf('.') + 1);
+    }
+}
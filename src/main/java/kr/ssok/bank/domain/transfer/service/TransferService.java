@@ -2,11 +2,18 @@ package kr.ssok.bank.domain.transfer.service;
 
 import kr.ssok.bank.common.exception.BaseException;
 import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferBatchCommand;
 import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferInternalRequestDTO;
 import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
 
+import java.util.List;
+
 public interface TransferService {
     public void withdraw(TransferWithdrawRequestDTO transferWithdrawRequestDTO) throws BaseException;
     public void deposit(TransferDepositRequestDTO transferDepositRequestDTO) throws BaseException;
     public void compensate(CompensateRequestDTO compensateRequestDTO) throws BaseException;
+    public void transferInternal(TransferInternalRequestDTO transferInternalRequestDTO) throws BaseException;
+    public String getWithdrawAccountNumber(String transactionId);
+    public void applyBatch(String accountNumber, List<TransferBatchCommand> commands) throws BaseException;
 }
@@ -1,44 +1,64 @@
 package kr.ssok.bank.domain.transfer.service;
 
+import kr.ssok.bank.common.audit.AuditEvent;
+import kr.ssok.bank.common.audit.AuditLogger;
+import kr.ssok.bank.common.constant.AuditEventTypeCode;
+import kr.ssok.bank.common.constant.BankCode;
 import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.LedgerModeCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
 import kr.ssok.bank.common.constant.TransferStatusCode;
 import kr.ssok.bank.common.constant.TransferTypeCode;
 import kr.ssok.bank.common.exception.BaseException;
 import kr.ssok.bank.common.util.AESUtil;
 import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountBalanceView;
 import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
 import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferBatchCommand;
 import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferInternalRequestDTO;
 import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
 import kr.ssok.bank.domain.transfer.entity.TransferHistory;
 import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import kr.ssok.bank.domain.transfer.service.TransferMetrics.Stage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransferServiceImpl implements TransferService{
 
-    private Map<String, ReentrantLock> lockMap = new HashMap<>();
-
     private final AccountRepository accountRepository;
     private final TransferRepository transferRepository;
     private final AESUtil aesUtil;
+    private final TransferIdempotencyIndex idempotencyIndex;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final AuditLogger auditLogger;
+
+    // 잔액 갱신 방식 (PESSIMISTIC: SELECT ... FOR UPDATE, ATOMIC: 조건부 UPDATE)
+    @Value("${transfer.ledger.mode:PESSIMISTIC}")
+    private LedgerModeCode ledgerMode;
 
     // 출금 이체
     @Transactional
     public void withdraw(TransferWithdrawRequestDTO dto) throws BaseException {
-        log.info("[출금 이체] 서비스 진입: 출금 계좌 = {}", dto.getWithdrawAccount());
+        TransferMetrics.timeCommit();
 
-        // 0. 중복 transactionId 방지
-        if (transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), TransferTypeCode.WITHDRAW)) {
+        // 0. 중복 transactionId 방지 (인덱스에 확실히 없으면 DB 조회 생략, 최종 방어는 유니크 제약)
+        if (idempotencyIndex.mightContain(dto.getTransactionId(), TransferTypeCode.WITHDRAW)
+                && transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), TransferTypeCode.WITHDRAW)) {
             log.error("[출금 이체] 서비스 처리 실패: 중복 transferId = {}", dto.getTransactionId());
             throw new BaseException(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
         }
@@ -51,11 +71,14 @@ public class TransferServiceImpl implements TransferService{
 
         // 1. 출금 계좌 락 걸고 조회
         // 1-1. 암호화: 출금 계좌번호
-        log.info("[출금 이체] 출금 계좌 암호화 처리 전: 계좌번호 = {}", dto.getWithdrawAccount());
-        String encrypted = aesUtil.encrypt(dto.getWithdrawAccount());
-        log.info("[출금 이체] 출금 계좌 암호화 처리 완료: 계좌번호 = {} ", encrypted);
+        String encrypted = encrypt(dto.getWithdrawAccount());
+
+        if (ledgerMode == LedgerModeCode.ATOMIC) {
+            withdrawAtomic(dto, encrypted);
+            return;
+        }
 
-        Account withdrawAccount = accountRepository.findWithPessimisticLockByAccountNumber(encrypted)
+        Account withdrawAccount = findWithLock(encrypted)
                 .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
 
         // 2. 출금 가능 여부 확인 및 처리
@@ -68,9 +91,7 @@ public class TransferServiceImpl implements TransferService{
 
         // 3. 출금 내역 기록
         // 3-1. 암호화: 상대 계좌 (입금 계좌)
-        log.info("[출금 이체] 입금 계좌 암호화 처리 전: 계좌번호 = {}", dto.getCounterAccount());
-        String encryptedCounterAccount = aesUtil.encrypt(dto.getCounterAccount());
-        log.info("[출금 이체] 입금 계좌 암호화 처리 완료: 계좌번호 = {} ", encryptedCounterAccount);
+        String encryptedCounterAccount = encrypt(dto.getCounterAccount());
 
         TransferHistory history = TransferHistory.builder()
                 .account(withdrawAccount)
@@ -82,19 +103,23 @@ public class TransferServiceImpl implements TransferService{
                 .currencyCode(dto.getCurrencyCode())
                 .transactionId(dto.getTransactionId())
                 .build();
-        transferRepository.save(history);
+        saveHistory(history);
 
-        // 4. 변경된 계좌 저장
+        // 4. 변경된 계좌 저장 (조회 캐시는 커밋 후 무효화)
         accountRepository.save(withdrawAccount);
+        accountSnapshotCache.invalidateAfterCommit(encrypted);
 
-        log.info("[출금 이체] 서비스 처리 완료");
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.WITHDRAW, dto.getTransactionId(),
+                dto.getWithdrawAccount(), dto.getCounterAccount(), dto.getTransferAmount()));
     }
 
     // 입금 이체
     @Transactional
     public void deposit(TransferDepositRequestDTO dto) throws BaseException {
-        // 0. 중복 transactionId 방지
-        if (transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), TransferTypeCode.DEPOSIT)) {
+        TransferMetrics.timeCommit();
+        // 0. 중복 transactionId 방지 (인덱스에 확실히 없으면 DB 조회 생략, 최종 방어는 유니크 제약)
+        if (idempotencyIndex.mightContain(dto.getTransactionId(), TransferTypeCode.DEPOSIT)
+                && transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), TransferTypeCode.DEPOSIT)) {
             log.error("[입금 이체] 서비스 처리 실패: 중복 transferId = {}", dto.getTransactionId());
             throw new BaseException(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
         }
@@ -105,8 +130,9 @@ public class TransferServiceImpl implements TransferService{
             throw new BaseException(FailureStatusCode.INVALID_TRANSFER_AMOUNT);
         }
 
-        // 1. 선출금 내역 존재 확인
-        boolean withdrawExists = transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), TransferTypeCode.WITHDRAW);
+        // 1. 선출금 내역 존재 확인 (최근 커밋된 출금이면 DB 조회 생략)
+        boolean withdrawExists = idempotencyIndex.containsRecent(dto.getTransactionId(), TransferTypeCode.WITHDRAW)
+                || transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), TransferTypeCode.WITHDRAW);
         if (!withdrawExists) {
             log.error("[입금 이체] 서비스 처리 실패: 선출금 기록 없음 (transactionId = {})", dto.getTransactionId());
             throw new BaseException(FailureStatusCode.MISSING_WITHDRAW_FOR_DEPOSIT);
@@ -114,11 +140,14 @@ public class TransferServiceImpl implements TransferService{
 
         // 2. 입금 계좌 락 걸고 조회
         // 2-1. 암호화: 입금 계좌번호
-        log.info("[입금 이체] 입금 계좌 암호화 처리 전: 계좌번호 = {}", dto.getDepositAccount());
-        String encrypted = aesUtil.encrypt(dto.getDepositAccount());
-        log.info("[입금 이체] 입금 계좌 암호화 처리 완료: 계좌번호 = {} ", encrypted);
+        String encrypted = encrypt(dto.getDepositAccount());
+
+        if (ledgerMode == LedgerModeCode.ATOMIC) {
+            depositAtomic(dto, encrypted);
+            return;
+        }
 
-        Account depositAccount = accountRepository.findWithPessimisticLockByAccountNumber(encrypted)
+        Account depositAccount = findWithLock(encrypted)
                 .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
 
         // 3. 입금 처리
@@ -126,9 +155,7 @@ public class TransferServiceImpl implements TransferService{
 
         // 4. 입금 내역 기록
         // 4-1. 암호화: 상대 계좌 (출금 계좌)
-        log.info("[입금 이체] 출금 계좌 암호화 처리 전: 계좌번호 = {}", dto.getCounterAccount());
-        String encryptedCounterAccount = aesUtil.encrypt(dto.getCounterAccount());
-        log.info("[입금 이체] 출금 계좌 암호화 처리 전: 계좌번호 = {}", encryptedCounterAccount);
+        String encryptedCounterAccount = encrypt(dto.getCounterAccount());
 
         TransferHistory history = TransferHistory.builder()
                 .account(depositAccount)
@@ -141,18 +168,181 @@ public class TransferServiceImpl implements TransferService{
                 .transactionId(dto.getTransactionId())
                 .build();
 
-        transferRepository.save(history);
+        saveHistory(history);
+
+        // 5. 변경된 계좌 저장 (조회 캐시는 커밋 후 무효화)
+        accountRepository.save(depositAccount);
+        accountSnapshotCache.invalidateAfterCommit(encrypted);
+
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.DEPOSIT, dto.getTransactionId(),
+                dto.getDepositAccount(), dto.getCounterAccount(), dto.getTransferAmount()));
+    }
+
+    // 출금 이체 (ATOMIC 모드): 암호화를 먼저 끝내고 조건부 UPDATE 로 차감하여 행 락 보유 구간을 줄임
+    private void withdrawAtomic(TransferWithdrawRequestDTO dto, String encrypted) throws BaseException {
+        String encryptedCounterAccount = encrypt(dto.getCounterAccount());
+
+        // 1. 잔액이 충분할 때만 차감
+        if (TransferMetrics.time(Stage.LOCK_WAIT, () -> accountRepository.debitIfSufficient(encrypted, dto.getTransferAmount())) == 0) {
+            if (!accountRepository.existsByAccountNumber(encrypted)) {
+                throw new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND);
+            }
+            log.error("[출금 이체] 출금 계좌 잔액 부족 : 거래 요청 금액 = {}", dto.getTransferAmount());
+            throw new BaseException(FailureStatusCode.TRANSFER_NO_BALANCE);
+        }
+        accountSnapshotCache.invalidateAfterCommit(encrypted);
+
+        // 2. 출금 내역 기록 (차감 후 잔액은 같은 트랜잭션에서 조회)
+        AccountBalanceView balance = accountRepository.findBalanceByAccountNumber(encrypted)
+                .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+        saveHistory(TransferHistory.builder()
+                .account(accountRepository.getReferenceById(balance.getAccountId()))
+                .counterpartAccount(encryptedCounterAccount) // 암호화해서 저장
+                .transferAmount(dto.getTransferAmount())
+                .balanceAfter(balance.getBalance())
+                .transferTypeCode(TransferTypeCode.WITHDRAW)
+                .transferStatusCode(TransferStatusCode.SUCCESS)
+                .currencyCode(dto.getCurrencyCode())
+                .transactionId(dto.getTransactionId())
+                .build());
+
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.WITHDRAW, dto.getTransactionId(),
+                dto.getWithdrawAccount(), dto.getCounterAccount(), dto.getTransferAmount()));
+    }
+
+    // 입금 이체 (ATOMIC 모드): 무조건 증액 UPDATE
+    private void depositAtomic(TransferDepositRequestDTO dto, String encrypted) throws BaseException {
+        String encryptedCounterAccount = encrypt(dto.getCounterAccount());
+
+        // 1. 입금 처리
+        if (TransferMetrics.time(Stage.LOCK_WAIT, () -> accountRepository.credit(encrypted, dto.getTransferAmount())) == 0) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND);
+        }
+        accountSnapshotCache.invalidateAfterCommit(encrypted);
+
+        // 2. 입금 내역 기록 (입금 후 잔액은 같은 트랜잭션에서 조회)
+        AccountBalanceView balance = accountRepository.findBalanceByAccountNumber(encrypted)
+                .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+        saveHistory(TransferHistory.builder()
+                .account(accountRepository.getReferenceById(balance.getAccountId()))
+                .counterpartAccount(encryptedCounterAccount) // 암호화해서 저장
+                .transferAmount(dto.getTransferAmount())
+                .balanceAfter(balance.getBalance())
+                .transferTypeCode(TransferTypeCode.DEPOSIT)
+                .transferStatusCode(TransferStatusCode.SUCCESS)
+                .currencyCode(dto.getCurrencyCode())
+                .transactionId(dto.getTransactionId())
+                .build());
+
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.DEPOSIT, dto.getTransactionId(),
+                dto.getDepositAccount(), dto.getCounterAccount(), dto.getTransferAmount()));
+    }
+
+    // 당행 계좌 간 이체 (출금/입금을 하나의 트랜잭션으로 처리)
+    @Transactional
+    public void transferInternal(TransferInternalRequestDTO dto) throws BaseException {
+        TransferMetrics.timeCommit();
+
+        // 0. 양쪽 모두 당행 계좌인지 확인
+        if (dto.getWithdrawBankCode() != BankCode.SSOK_BANK || dto.getDepositBankCode() != BankCode.SSOK_BANK
+                || dto.getWithdrawAccount() == null || dto.getWithdrawAccount().equals(dto.getDepositAccount())) {
+            log.error("[당행 이체] 서비스 처리 실패: 당행 계좌 간 이체가 아님 (transactionId = {})", dto.getTransactionId());
+            throw new BaseException(FailureStatusCode.TRANSFER_INTERNAL_NOT_ALLOWED);
+        }
+
+        // 중복 transactionId 방지 (출금/입금 어느 쪽이든 기록이 있으면 중복)
+        for (TransferTypeCode type : new TransferTypeCode[]{TransferTypeCode.WITHDRAW, TransferTypeCode.DEPOSIT}) {
+            if (idempotencyIndex.mightContain(dto.getTransactionId(), type)
+                    && transferRepository.existsByTransactionIdAndTransferTypeCode(dto.getTransactionId(), type)) {
+                log.error("[당행 이체] 서비스 처리 실패: 중복 transferId = {}", dto.getTransactionId());
+                throw new BaseException(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
+            }
+        }
+
+        // 유효하지 않은 금액 방지
+        if (dto.getTransferAmount() == null || dto.getTransferAmount() <= 0) {
+            log.error("[당행 이체] 서비스 처리 실패: 유효하지 않은 금액 = {}", dto.getTransferAmount());
+            throw new BaseException(FailureStatusCode.INVALID_TRANSFER_AMOUNT);
+        }
+
+        // 1. 암호화: 출금/입금 계좌번호
+        String encryptedWithdraw = encrypt(dto.getWithdrawAccount());
+        String encryptedDeposit = encrypt(dto.getDepositAccount());
+
+        // 2. 교착 방지를 위해 암호화된 계좌번호 순서로 락 획득
+        boolean withdrawFirst = encryptedWithdraw.compareTo(encryptedDeposit) < 0;
+        Account first = lockAccount(withdrawFirst ? encryptedWithdraw : encryptedDeposit);
+        Account second = lockAccount(withdrawFirst ? encryptedDeposit : encryptedWithdraw);
+        Account withdrawAccount = withdrawFirst ? first : second;
+        Account depositAccount = withdrawFirst ? second : first;
+
+        // 3. 출금 가능 여부 확인 및 처리
+        if (withdrawAccount.getBalance() < dto.getTransferAmount()) {
+            log.error("[당행 이체] 출금 계좌 잔액 부족 : 출금 계좌 잔액 = {} < 거래 요청 금액 = {}"
+                    , withdrawAccount.getBalance(), dto.getTransferAmount());
+            throw new BaseException(FailureStatusCode.TRANSFER_NO_BALANCE);
+        }
+        withdrawAccount.withdraw(dto.getTransferAmount());
+        depositAccount.deposit(dto.getTransferAmount());
+
+        // 4. 출금/입금 내역 기록 (같은 transactionId)
+        saveHistory(TransferHistory.builder()
+                .account(withdrawAccount)
+                .counterpartAccount(encryptedDeposit) // 암호화해서 저장
+                .transferAmount(dto.getTransferAmount())
+                .balanceAfter(withdrawAccount.getBalance())
+                .transferTypeCode(TransferTypeCode.WITHDRAW)
+                .transferStatusCode(TransferStatusCode.SUCCESS)
+                .currencyCode(dto.getCurrencyCode())
+                .transactionId(dto.getTransactionId())
+                .build());
+        saveHistory(TransferHistory.builder()
+                .account(depositAccount)
+                .counterpartAccount(encryptedWithdraw) // 암호화해서 저장
+                .transferAmount(dto.getTransferAmount())
+                .balanceAfter(depositAccount.getBalance())
+                .transferTypeCode(TransferTypeCode.DEPOSIT)
+                .transferStatusCode(TransferStatusCode.SUCCESS)
+                .currencyCode(dto.getCurrencyCode())
+                .transactionId(dto.getTransactionId())
+                .build());
 
         // 5. 변경된 계좌 저장
+        accountRepository.save(withdrawAccount);
         accountRepository.save(depositAccount);
+        accountSnapshotCache.invalidateAfterCommit(List.of(encryptedWithdraw, encryptedDeposit));
+
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.TRANSFER_INTERNAL, dto.getTransactionId(),
+                dto.getWithdrawAccount(), dto.getDepositAccount(), dto.getTransferAmount()));
+    }
+
+    // 계좌번호 암호화 (단계별 지연 시간 측정)
+    private String encrypt(String plainText) {
+        return TransferMetrics.time(Stage.ENCRYPT, () -> aesUtil.encrypt(plainText));
+    }
+
+    // 비관적 락 조회 (락 대기 시간 측정)
+    private Optional<Account> findWithLock(String encryptedAccountNumber) {
+        return TransferMetrics.time(Stage.LOCK_WAIT, () -> accountRepository.findWithPessimisticLockByAccountNumber(encryptedAccountNumber));
+    }
+
+    private Account lockAccount(String encryptedAccountNumber) throws BaseException {
+        return findWithLock(encryptedAccountNumber)
+                .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+    }
 
-        log.info("[입금 이체] 서비스 처리 완료");
+    // 일괄 처리용 거래 내역 저장 (flush 하지 않아 커밋 시 JDBC 배치로 INSERT, 실제 INSERT 시간은 COMMIT 단계에 포함)
+    // 묶음 안의 중복은 applyBatch 에서, 이미 알려진 중복은 사전 조회로 거르고,
+    // 그 외 제약 위반은 커밋 시 묶음 전체 롤백 후 단건 처리로 재시도됩니다.
+    private void saveHistoryBatched(TransferHistory history) {
+        TransferMetrics.time(Stage.HISTORY_INSERT, () -> transferRepository.save(history));
+        idempotencyIndex.recordAfterCommit(history.getTransactionId(), history.getTransferTypeCode());
     }
 
     // 보상 처리
     @Transactional
     public void compensate(CompensateRequestDTO compensateRequestDTO) throws BaseException {
-        log.info("[보상] 서비스 진입 완료");
+        TransferMetrics.timeCommit();
 
         // 1. 실패한 출금 내역을 찾는다.
         TransferHistory failedWithdrawal = transferRepository
@@ -175,32 +365,163 @@ public class TransferServiceImpl implements TransferService{
             throw new BaseException(FailureStatusCode.INVALID_TRANSFER_AMOUNT);
         }
 
-        // 3. 출금 계좌 찾기
-        Account account = failedWithdrawal.getAccount();
-        log.info("[보상] 보상 대상 계좌 조회 완료: 계좌번호 = {}", account.getAccountNumber());
-
-        // 4. 보상 처리 (입금)
-        account.deposit(failedWithdrawal.getTransferAmount()); // 실패한 금액을 다시 입금
+        // 3~4. 출금 계좌 찾기 및 보상 처리 (실패한 금액을 다시 입금)
+        // 동시 입/출금의 잔액 변경을 덮어쓰지 않도록 PESSIMISTIC 모드는 행 락 조회 후, ATOMIC 모드는 증액 UPDATE 로 반영
+        Long amount = failedWithdrawal.getTransferAmount();
+        Account account;
+        Long balanceAfter;
+        if (ledgerMode == LedgerModeCode.ATOMIC) {
+            account = failedWithdrawal.getAccount();
+            String accountNumber = account.getAccountNumber();
+            if (TransferMetrics.time(Stage.LOCK_WAIT, () -> accountRepository.credit(accountNumber, amount)) == 0) {
+                throw new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND);
+            }
+            balanceAfter = accountRepository.findBalanceByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND))
+                    .getBalance();
+        } else {
+            // 지연 로딩 프록시를 락 없이 먼저 초기화하면 락 조회가 그 잔액을 그대로 돌려주므로 ID 로 바로 락 조회
+            Long accountId = failedWithdrawal.getAccount().getAccountId();
+            account = TransferMetrics.time(Stage.LOCK_WAIT, () -> accountRepository.findWithPessimisticLockByAccountId(accountId))
+                    .orElseThrow(() -> new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND));
+            account.deposit(amount);
+            balanceAfter = account.getBalance();
+        }
 
         // 5. 보상 처리 후 TransferHistory에 보상 내역 추가
         transferRepository.save(TransferHistory.builder()
                 .transactionId(compensateRequestDTO.getTransactionId())
                 .transferTypeCode(TransferTypeCode.COMPENSATE)
-                .counterpartAccount("SYSTEM")
-                .transferAmount(failedWithdrawal.getTransferAmount())
+                .counterpartAccount(TransferHistory.SYSTEM_COUNTERPART)
+                .transferAmount(amount)
                 .currencyCode(failedWithdrawal.getCurrencyCode())
-                .balanceAfter(account.getBalance())
+                .balanceAfter(balanceAfter)
                 .account(account)
                 .transferStatusCode(TransferStatusCode.COMPENSATED) // 보상 처리 완료 상태
                 .build());
 
-        // 6. 계좌 정보 저장
-        accountRepository.save(account);
+        // 6. 계좌 정보 저장 (ATOMIC 모드는 UPDATE 로 이미 반영)
+        if (ledgerMode != LedgerModeCode.ATOMIC) {
+            accountRepository.save(account);
+        }
+        accountSnapshotCache.invalidateAfterCommit(account.getAccountNumber());
 
         // 7. 실패했던 출금 내역 상태 업데이트
         failedWithdrawal.setTransferStatusCode(TransferStatusCode.COMPENSATED); // 상태 변경
         transferRepository.save(failedWithdrawal);
 
-        log.info("[보상] 서비스 처리 완료");
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.COMPENSATE, compensateRequestDTO.getTransactionId(),
+                null, null, failedWithdrawal.getTransferAmount()));
+    }
+
+    // 보상 대상 출금 계좌번호 조회 (평문, 실행 레인 선택용)
+    @Transactional(readOnly = true)
+    public String getWithdrawAccountNumber(String transactionId) {
+        return transferRepository.findAccountNumberByTransactionIdAndTransferTypeCode(transactionId, TransferTypeCode.WITHDRAW)
+                .map(aesUtil::decrypt)
+                .orElse(null);
+    }
+
+    // 일괄 입/출금 처리 (동일 계좌 요청을 하나의 트랜잭션, 한 번의 락으로 처리)
+    @Transactional
+    public void applyBatch(String accountNumber, List<TransferBatchCommand> commands) throws BaseException {
+        TransferMetrics.timeCommit();
+
+        // 1. 대상 계좌 락 걸고 한 번만 조회
+        String encrypted = encrypt(accountNumber);
+        Account account = findWithLock(encrypted).orElse(null);
+
+        // 2. 요청 순서대로 적용, 업무 오류는 요청별 결과 코드로 기록
+        Set<String> appliedKeys = new HashSet<>();
+        for (TransferBatchCommand command : commands) {
+            try {
+                // 같은 묶음 안의 중복 transactionId 방지 (업무 오류로 실패한 요청의 재시도는 단건 처리와 같이 허용)
+                String key = command.getTransactionId() + ":" + command.getTransferTypeCode();
+                if (appliedKeys.contains(key)) {
+                    throw new BaseException(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
+                }
+                applyBatchCommand(account, command);
+                appliedKeys.add(key);
+            } catch (BaseException e) {
+                log.error("[일괄 이체] 요청 처리 실패: transactionId = {}, 사유 = {}", command.getTransactionId(), e.getMessage());
+                command.setResult(e.getStatus());
+            }
+        }
+
+        // 3. 변경된 계좌 저장
+        if (account != null) {
+            accountRepository.save(account);
+            accountSnapshotCache.invalidateAfterCommit(encrypted);
+        }
+
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.BATCH, accountNumber, "commands=" + commands.size()));
+    }
+
+    // 일괄 처리 단건 적용 (단건 withdraw/deposit 과 동일한 검증 순서)
+    private void applyBatchCommand(Account account, TransferBatchCommand command) throws BaseException {
+        boolean isWithdraw = command.getTransferTypeCode() == TransferTypeCode.WITHDRAW;
+
+        // 0. 중복 transactionId 방지
+        if (idempotencyIndex.mightContain(command.getTransactionId(), command.getTransferTypeCode())
+                && transferRepository.existsByTransactionIdAndTransferTypeCode(command.getTransactionId(), command.getTransferTypeCode())) {
+            throw new BaseException(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
+        }
+
+        // 유효하지 않은 금액 방지
+        if (command.getTransferAmount() == null || command.getTransferAmount() <= 0) {
+            throw new BaseException(FailureStatusCode.INVALID_TRANSFER_AMOUNT);
+        }
+
+        // 입금은 선출금 내역 존재 확인
+        if (!isWithdraw
+                && !idempotencyIndex.containsRecent(command.getTransactionId(), TransferTypeCode.WITHDRAW)
+                && !transferRepository.existsByTransactionIdAndTransferTypeCode(command.getTransactionId(), TransferTypeCode.WITHDRAW)) {
+            throw new BaseException(FailureStatusCode.MISSING_WITHDRAW_FOR_DEPOSIT);
+        }
+
+        if (account == null) {
+            throw new BaseException(FailureStatusCode.ACCOUNT_NOT_FOUND);
+        }
+
+        // 1. 입/출금 처리
+        if (isWithdraw) {
+            if (account.getBalance() < command.getTransferAmount()) {
+                throw new BaseException(FailureStatusCode.TRANSFER_NO_BALANCE);
+            }
+            account.withdraw(command.getTransferAmount());
+        } else {
+            account.deposit(command.getTransferAmount());
+        }
+
+        // 2. 거래 내역 기록
+        TransferHistory history = TransferHistory.builder()
+                .account(account)
+                .counterpartAccount(encrypt(command.getCounterAccount())) // 암호화해서 저장
+                .transferAmount(command.getTransferAmount())
+                .balanceAfter(account.getBalance())
+                .transferTypeCode(command.getTransferTypeCode())
+                .transferStatusCode(TransferStatusCode.SUCCESS)
+                .currencyCode(command.getCurrencyCode())
+                .transactionId(command.getTransactionId())
+                .build();
+        saveHistoryBatched(history);
+
+        command.setResult(isWithdraw ? SuccessStatusCode.TRANSFER_WITHDRAW_OK : SuccessStatusCode.TRANSFER_DEPOSIT_OK);
+    }
+
+    // 거래 내역 저장 (유니크 제약 위반은 중복 거래로 처리) 후 커밋 시 중복 거래 인덱스에 기록
+    // ID 를 미리 발급하므로 INSERT 가 flush 까지 미뤄지며, 제약 위반을 여기서 잡기 위해 바로 flush 합니다.
+    private void saveHistory(TransferHistory history) throws BaseException {
+        try {
+            TransferMetrics.time(Stage.HISTORY_INSERT, () -> {
+                transferRepository.save(history);
+                transferRepository.flush();
+                return history;
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.error("[이체] 거래 내역 저장 실패: 중복 transactionId = {}", history.getTransactionId());
+            throw new BaseException(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
+        }
+        idempotencyIndex.recordAfterCommit(history.getTransactionId(), history.getTransferTypeCode());
     }
 }
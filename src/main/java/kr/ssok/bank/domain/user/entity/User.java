@@ -19,6 +19,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// 핸드폰 번호당 사용자 한 명 (계좌 개설 시 사용자 생성/조회를 INSERT ... ON DUPLICATE KEY 로 처리)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_phone_number", columnNames = "phone_number"))
 public class User extends TimeStamp {
 
     @Id
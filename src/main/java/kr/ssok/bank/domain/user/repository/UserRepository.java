@@ -1,7 +1,12 @@
 package kr.ssok.bank.domain.user.repository;
 
+import jakarta.persistence.LockModeType;
 import kr.ssok.bank.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,6 +14,21 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsernameAndPhoneNumber(String username, String phoneNumber);
+    boolean existsByUsernameAndPhoneNumber(String username, String phoneNumber);
     Optional<User> findByUsername(String username);
     Optional<User> findByPhoneNumber(String phoneNumber);
+
+    // 공유 락 조회 (LOCK IN SHARE MODE), 트랜잭션 스냅샷이 아닌 최신 커밋 행을 읽음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT u FROM User u WHERE u.phoneNumber = :phoneNumber")
+    Optional<User> findWithSharedLockByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+    // 핸드폰 번호 기준 사용자 생성 (이미 있으면 기존 행을 그대로 둠, 동시 요청이어도 uk_user_phone_number 로 한 명만 생성)
+    @Modifying
+    @Query(value = "INSERT INTO user (username, phone_number, daily_transaction_total, user_type_code, created_at, updated_at) " +
+            "VALUES (:username, :phoneNumber, 0, :userTypeCode, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    void insertIfAbsent(@Param("username") String username,
+                        @Param("phoneNumber") String phoneNumber,
+                        @Param("userTypeCode") String userTypeCode);
 }
@@ -2,12 +2,14 @@ package kr.ssok.bank.domain.user.service;
 
 import kr.ssok.bank.common.exception.BaseException;
 import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.UserTypeCode;
 import kr.ssok.bank.domain.user.dto.UserRequestDTO;
 import kr.ssok.bank.domain.user.entity.User;
 import kr.ssok.bank.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,8 +40,44 @@ public class UserServiceImpl implements UserService{
                 .dailyTransactionTotal(0L)
                 .build();
 
-        this.userRepository.save(user);
+        try {
+            this.userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 같은 번호로 동시에 가입한 경우 (uk_user_phone_number)
+            log.warn("[사용자 생성] 실패: 동시 가입으로 핸드폰 번호 중복. (사용자 이름 = {})", userDto.getUsername());
+            throw new BaseException(FailureStatusCode.USER_ALREADY_EXISTS);
+        }
+
+        return user;
+    }
+
+    // 계좌 개설용 사용자 조회/생성 (기존 사용자: 조회 1회, 신규: 조회 + INSERT ... ON DUPLICATE KEY + 잠금 조회)
+    @Override
+    public User resolveUser(String username, String phoneNumber, UserTypeCode userTypeCode) throws BaseException {
+        log.info("[사용자 조회] 서비스 진입: 사용자 이름 = {}", username);
+
+        // 1. 기존 사용자 조회
+        User user = this.userRepository.findByPhoneNumber(phoneNumber).orElse(null);
+
+        if (user == null) {
+            if (userTypeCode == null) {
+                log.error("[사용자 조회] 실패: 유효하지 않은 사용자 유형 코드. (사용자 이름 = {})", username);
+                throw new BaseException(FailureStatusCode.USER_TYPE_ERROR);
+            }
+
+            // 2. 없으면 생성 (동시 요청으로 이미 생겼으면 아무것도 바꾸지 않음)
+            this.userRepository.insertIfAbsent(username, phoneNumber, userTypeCode.name());
+            // 3. 재조회는 잠금 읽기로 수행
+            //    REPEATABLE READ 에서는 1번 조회 시점의 스냅샷이 유지되므로, 다른 트랜잭션이 먼저 커밋한 행은 일반 조회로 보이지 않음
+            user = this.userRepository.findWithSharedLockByPhoneNumber(phoneNumber)
+                    .orElseThrow(() -> new BaseException(FailureStatusCode.USER_CREATION_FAILED));
+            log.info("[사용자 조회] 사용자 생성 완료: 사용자 이름 = {}", username);
+        }
 
+        // 동일한 번호로 가입된 사용자가 있는데 이름이 다를 경우 예외 처리
+        if (!user.getUsername().equals(username)) {
+            throw new BaseException(FailureStatusCode.PHONE_ALREADY_USED_BY_DIFFERENT_NAME);
+        }
         return user;
     }
 }
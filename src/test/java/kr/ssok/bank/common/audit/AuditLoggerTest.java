@@ -0,0 +1,125 @@
+package kr.ssok.bank.common.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.bank.common.constant.AuditEventTypeCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLoggerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogger auditLogger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditLogger = new AuditLogger(meterRegistry);
+        ReflectionTestUtils.setField(auditLogger, "bufferSize", 2);
+        ReflectionTestUtils.setField(auditLogger, "sampleRates", "REQUEST=0,BATCH=abc");
+        // 기록 스레드 없이 버퍼만 초기화하고 drain 을 직접 호출
+        auditLogger.initBuffer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 이벤트를 버리고 dropped 카운터를 올린다.")
+    void drops_when_buffer_full() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            auditLogger.record(AuditEvent.of(AuditEventTypeCode.WITHDRAW, "tx-" + i, "111-1111-1111", "222-2222-2222", 1_000L));
+        }
+        int drained = auditLogger.drain();
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        assertThat(count("dropped")).isEqualTo(1.0);
+        assertThat(count("written")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 인 유형은 기록하지 않고, 잘못된 설정은 전부 기록으로 처리한다.")
+    void samples_per_event_type() {
+        // when
+        auditLogger.record(AuditEvent.of(AuditEventTypeCode.REQUEST, "cmd", SuccessStatusCode.TRANSFER_OK));
+        auditLogger.record(AuditEvent.of(AuditEventTypeCode.BATCH, "cmd", SuccessStatusCode._OK));
+        auditLogger.drain();
+
+        // then
+        assertThat(count("sampled_out")).isEqualTo(1.0);
+        assertThat(count("written")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 이벤트는 커밋 이후에 큐에 넣고, 롤백되면 넣지 않는다.")
+    void records_only_after_commit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when (롤백)
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.WITHDRAW, "tx-1", "111-1111-1111", "222-2222-2222", 1_000L));
+        int beforeCompletion = auditLogger.drain();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(beforeCompletion).isZero();
+        assertThat(auditLogger.drain()).isZero();
+
+        // when (커밋)
+        TransactionSynchronizationManager.initSynchronization();
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.DEPOSIT, "tx-2", "111-1111-1111", "222-2222-2222", 1_000L));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(auditLogger.drain()).isEqualTo(1);
+        assertThat(count("written")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 즉시 큐에 넣는다.")
+    void records_immediately_without_transaction() {
+        // when
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEventTypeCode.WITHDRAW, "tx-1", "111-1111-1111", "222-2222-2222", 1_000L));
+
+        // then
+        assertThat(auditLogger.drain()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계좌번호는 마지막 4자리 숫자만 남기고 마스킹한다.")
+    void masks_account_number() {
+        assertThat(AuditLogger.mask("111-2222-3456")).isEqualTo("***-****-3456");
+        assertThat(AuditLogger.mask("123")).isEqualTo("123");
+        assertThat(AuditLogger.mask(null)).isNull();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(AuditLogger.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package kr.ssok.bank.common.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    @DisplayName("크기는 2의 거듭제곱으로 올리고, 가득 차면 넣지 못한다.")
+    void offer_fails_when_full() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 비어 있으면 null 을 반환한다.")
+    void poll_in_fifo_order() {
+        // given
+        AuditRingBuffer<String> buffer = new AuditRingBuffer<>(2);
+
+        // when & then (여러 바퀴 순환)
+        for (int round = 0; round < 5; round++) {
+            buffer.offer("a" + round);
+            buffer.offer("b" + round);
+            assertThat(buffer.size()).isEqualTo(2);
+            assertThat(buffer.poll()).isEqualTo("a" + round);
+            assertThat(buffer.poll()).isEqualTo("b" + round);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 넣은 원소는 유실/중복 없이 한 번씩 꺼내진다.")
+    void concurrent_producers() throws Exception {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 10_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        List<Integer> polled = new ArrayList<>();
+        executor.shutdown();
+        while (!executor.isTerminated() || buffer.size() > 0) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                polled.add(value);
+            }
+        }
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        for (Integer value = buffer.poll(); value != null; value = buffer.poll()) {
+            polled.add(value);
+        }
+
+        // then
+        Set<Integer> unique = new HashSet<>(polled);
+        assertThat(unique).hasSize(polled.size());
+        assertThat(polled).hasSize(accepted.get());
+    }
+}
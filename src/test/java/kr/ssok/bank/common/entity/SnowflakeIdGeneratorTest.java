@@ -0,0 +1,105 @@
+package kr.ssok.bank.common.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("같은 노드에서 발급한 ID 는 단조 증가한다.")
+    void ids_are_monotonic() {
+        // given
+        long previous = SnowflakeIdGenerator.nextId();
+
+        // when & then
+        for (int i = 0; i < 100_000; i++) {
+            long next = SnowflakeIdGenerator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 ID 가 중복되지 않는다.")
+    void ids_are_unique_across_threads() throws Exception {
+        // given
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            tasks.add(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(SnowflakeIdGenerator.nextId());
+                }
+                return null;
+            });
+        }
+
+        // when
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("ID 에 노드 ID 가 포함되고 양수이다.")
+    void id_contains_node_id() {
+        // when
+        long id = SnowflakeIdGenerator.nextId();
+
+        // then
+        assertThat(id).isPositive();
+        assertThat((id >> 12) & 0x3FF).isEqualTo(SnowflakeIdGenerator.getNodeId());
+    }
+
+    @Test
+    @DisplayName("예약한 ID 블록은 서로 겹치지 않고, 이후 발급하는 ID 는 블록보다 크다.")
+    void reserved_block_does_not_overlap() {
+        // given
+        long before = SnowflakeIdGenerator.nextId();
+
+        // when
+        SnowflakeIdGenerator.IdBlock block = SnowflakeIdGenerator.reserveBlock(10_000);
+        long after = SnowflakeIdGenerator.nextId();
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        long previous = before;
+        for (int i = 0; i < 10_000; i++) {
+            long id = block.idAt(i);
+            assertThat(id).isGreaterThan(previous);
+            assertThat((id >> 12) & 0x3FF).isEqualTo(SnowflakeIdGenerator.getNodeId());
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(10_000);
+        assertThat(after).isGreaterThan(previous);
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 없거나 범위를 벗어나면 호스트명으로 추정하지 않고 실패한다.")
+    void node_id_is_required() {
+        assertThat(SnowflakeIdGenerator.parseNodeId(" 7 ")).isEqualTo(7L);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.parseNodeId(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.parseNodeId(" ")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.parseNodeId("abc")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.parseNodeId("1024")).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package kr.ssok.bank.common.response;
+
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplyEncoderTest {
+
+    private ReplyEncoder replyEncoder;
+
+    @BeforeEach
+    void setUp() {
+        replyEncoder = new ReplyEncoder();
+        replyEncoder.init();
+    }
+
+    @Test
+    @DisplayName("결과가 없는 응답은 한 번만 직렬화된 JSON 이며, 기존 ofJson 결과와 같다.")
+    void encode_is_single_pass_json() {
+        // when
+        byte[] encoded = replyEncoder.encode(FailureStatusCode.TRANSFER_NO_BALANCE);
+
+        // then
+        String json = new String(encoded, StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{\"isSuccess\":false");
+        assertThat(json).isEqualTo(ApiResponse.ofJson(FailureStatusCode.TRANSFER_NO_BALANCE, null));
+    }
+
+    @Test
+    @DisplayName("같은 상태 코드의 응답은 미리 인코딩한 바이트를 재사용한다.")
+    void encode_reuses_cached_bytes() {
+        // when
+        byte[] first = replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+        byte[] second = replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+}
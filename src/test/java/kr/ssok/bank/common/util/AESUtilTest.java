@@ -0,0 +1,157 @@
+package kr.ssok.bank.common.util;
+
+import kr.ssok.bank.common.exception.BaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AESUtilTest {
+
+    private static final String KEY = "0123456789abcdef";
+
+    private AESUtil aesUtil;
+
+    @BeforeEach
+    void setUp() {
+        aesUtil = new AESUtil();
+        ReflectionTestUtils.setField(aesUtil, "key", KEY);
+        ReflectionTestUtils.setField(aesUtil, "cacheMaxSize", 100L);
+        aesUtil.init();
+    }
+
+    @Test
+    @DisplayName("기존 구현과 같은 암호문을 생성하고 복호화할 수 있다.")
+    void encrypt_matches_legacy_cipher() throws Exception {
+        // given
+        String accountNumber = "111-1111-1111";
+        Cipher legacy = Cipher.getInstance("AES");
+        legacy.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(), "AES"));
+        String expected = Base64.getEncoder().encodeToString(legacy.doFinal(accountNumber.getBytes()));
+
+        // when
+        String encrypted = aesUtil.encrypt(accountNumber);
+
+        // then
+        assertThat(encrypted).isEqualTo(expected);
+        assertThat(aesUtil.decrypt(encrypted)).isEqualTo(accountNumber);
+    }
+
+    @Test
+    @DisplayName("바이트 배열과 ByteBuffer API 는 문자열 API 와 같은 결과를 낸다.")
+    void byte_apis_match_string_api() {
+        // given
+        String accountNumber = "222-2222-2222";
+        byte[] plain = accountNumber.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] encrypted = aesUtil.encrypt(plain);
+        ByteBuffer output = ByteBuffer.allocate(aesUtil.getOutputSize(plain.length));
+        int written = aesUtil.encrypt(ByteBuffer.wrap(plain), output);
+
+        // then
+        assertThat(Base64.getEncoder().encodeToString(encrypted)).isEqualTo(aesUtil.encrypt(accountNumber));
+        assertThat(written).isEqualTo(encrypted.length);
+        assertThat(output.flip().remaining()).isEqualTo(encrypted.length);
+        assertThat(aesUtil.decrypt(encrypted)).isEqualTo(plain);
+    }
+
+    @Test
+    @DisplayName("잘못된 암호문은 복호화 실패 예외가 발생하고 이후 호출은 정상 동작한다.")
+    void invalid_cipher_text_throws_and_recovers() {
+        // when & then
+        assertThatThrownBy(() -> aesUtil.decrypt("not-base64!"))
+                .isInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> aesUtil.decrypt(Base64.getEncoder().encodeToString(new byte[]{1, 2, 3})))
+                .isInstanceOf(BaseException.class);
+        assertThat(aesUtil.decrypt(aesUtil.encrypt("333-3333-3333"))).isEqualTo("333-3333-3333");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 호출해도 결과가 일관된다.")
+    void concurrent_calls_are_consistent() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String accountNumber = "444-4444-" + i;
+            tasks.add(() -> aesUtil.decrypt(aesUtil.encrypt(accountNumber)).equals(accountNumber));
+        }
+
+        // when
+        List<Future<Boolean>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 암호화는 단건 암호화와 같은 결과를 내고 중복 계좌번호는 한 번만 포함한다.")
+    void encryptAll_matches_single_encrypt() {
+        // given
+        String cached = "555-5555-5555";
+        String cachedEncrypted = aesUtil.encrypt(cached);
+
+        // when
+        Map<String, String> encrypted = aesUtil.encryptAll(List.of(cached, "666-6666-6666", "777-7777-7777", "666-6666-6666"));
+
+        // then
+        assertThat(encrypted).hasSize(3);
+        assertThat(encrypted.get(cached)).isEqualTo(cachedEncrypted);
+        assertThat(encrypted.get("666-6666-6666")).isEqualTo(aesUtil.encrypt("666-6666-6666"));
+        assertThat(aesUtil.decrypt(encrypted.get("777-7777-7777"))).isEqualTo("777-7777-7777");
+        assertThatThrownBy(() -> aesUtil.encryptAll(Arrays.asList("888-8888-8888", null)))
+                .isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    @DisplayName("가상 스레드마다 Cipher 를 새로 만들지 않고 풀 크기 이내에서 재사용한다.")
+    void virtual_threads_reuse_pooled_ciphers() throws Exception {
+        // given
+        AESUtil pooled = new AESUtil();
+        ReflectionTestUtils.setField(pooled, "key", KEY);
+        ReflectionTestUtils.setField(pooled, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(pooled, "cipherPoolSize", 2);
+        pooled.init();
+        byte[] expected = pooled.encrypt("999-9999-9999".getBytes(StandardCharsets.UTF_8));
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(() -> Arrays.equals(pooled.encrypt("999-9999-9999".getBytes(StandardCharsets.UTF_8)), expected));
+        }
+
+        // when
+        List<Future<Boolean>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = executor.invokeAll(tasks);
+        }
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        BlockingQueue<?> pool = (BlockingQueue<?>) ReflectionTestUtils.getField(pooled, "encryptCiphers");
+        assertThat(pool.size()).isBetween(1, 2);
+    }
+}
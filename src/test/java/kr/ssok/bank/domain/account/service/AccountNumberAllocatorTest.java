@@ -0,0 +1,177 @@
+package kr.ssok.bank.domain.account.service;
+
+import kr.ssok.bank.common.constant.AccountTypeCode;
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.domain.account.service.AccountNumberBlockReserver.AccountNumberBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+
+    @Mock
+    private AccountNumberBlockReserver accountNumberBlockReserver;
+
+    private AccountNumberAllocator accountNumberAllocator;
+
+    // 구간별 DB 카운터 대용
+    private final Map<String, Long> counters = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        accountNumberAllocator = new AccountNumberAllocator(accountNumberBlockReserver);
+        ReflectionTestUtils.setField(accountNumberAllocator, "blockSize", 10);
+
+        lenient().when(accountNumberBlockReserver.reserve(anyString(), anyInt(), anyLong())).thenAnswer(invocation -> {
+            String namespace = invocation.getArgument(0);
+            int blockSize = invocation.getArgument(1);
+            synchronized (counters) {
+                long start = counters.getOrDefault(namespace, 0L);
+                counters.put(namespace, start + blockSize);
+                return new AccountNumberBlock(start, start + blockSize);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("블록을 다 쓸 때만 카운터를 예약하고, 발급한 번호는 모두 검증 번호가 맞다.")
+    void allocates_from_memory_until_block_is_used_up() {
+        // when
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            numbers.add(accountNumberAllocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.DEPOSIT));
+        }
+
+        // then
+        assertThat(numbers).doesNotHaveDuplicates();
+        assertThat(numbers.get(0)).isEqualTo(AccountNumberAllocator.formatAccountNumber("626", 1, 0, 0L));
+        assertThat(numbers.get(24)).startsWith("626-01-0000-00024");
+        assertThat(numbers).allSatisfy(number -> {
+            assertThat(number).matches("626-01-0\\d{3}-\\d{6}");
+            assertThat(isLuhnValid(number)).isTrue();
+        });
+        verify(accountNumberBlockReserver, times(3)).reserve(eq("626-01"), eq(10), eq(AccountNumberAllocator.MAX_SERIAL));
+    }
+
+    @Test
+    @DisplayName("은행/계좌 유형별로 채번 구간을 따로 사용한다.")
+    void uses_separate_namespace_per_bank_and_type() {
+        // when
+        String ssok = accountNumberAllocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.DEPOSIT);
+        String kakao = accountNumberAllocator.allocate(BankCode.KAKAO_BANK, AccountTypeCode.DEPOSIT);
+        String savings = accountNumberAllocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.SAVINGS);
+
+        // then
+        assertThat(ssok).startsWith("626-01-");
+        assertThat(kakao).startsWith("090-01-");
+        assertThat(savings).startsWith("626-02-");
+        assertThat(counters).containsOnlyKeys("626-01", "090-01", "626-02");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 번호가 겹치지 않는다.")
+    void concurrent_allocation_is_unique() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            tasks.add(() -> issued.add(accountNumberAllocator.allocate(BankCode.TOSS_BANK, AccountTypeCode.DEPOSIT)));
+        }
+
+        // when
+        List<Future<Boolean>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        assertThat(issued).hasSize(2000);
+        assertThat(counters.get("100-01")).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스와 카운터 행을 동시에 만들어 실패하면 한 번 더 예약한다.")
+    void retries_when_counter_row_is_created_concurrently() {
+        // given
+        when(accountNumberBlockReserver.reserve(anyString(), anyInt(), anyLong()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(new AccountNumberBlock(100L, 110L));
+
+        // when
+        String number = accountNumberAllocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.DEPOSIT);
+
+        // then
+        assertThat(number).startsWith("626-01-0000-00100");
+        verify(accountNumberBlockReserver, times(2)).reserve(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터 행 생성 중 갭 락 교착/락 획득 실패가 나면 다시 예약한다.")
+    void retries_when_counter_row_creation_deadlocks() {
+        // given
+        when(accountNumberBlockReserver.reserve(anyString(), anyInt(), anyLong()))
+                .thenThrow(new DeadlockLoserDataAccessException("deadlock", null))
+                .thenThrow(new CannotAcquireLockException("lock wait timeout"))
+                .thenReturn(new AccountNumberBlock(200L, 210L));
+
+        // when
+        String number = accountNumberAllocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.DEPOSIT);
+
+        // then
+        assertThat(number).startsWith("626-01-0000-00200");
+        verify(accountNumberBlockReserver, times(3)).reserve(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 마지막 예외를 그대로 던진다.")
+    void gives_up_after_max_attempts() {
+        // given
+        when(accountNumberBlockReserver.reserve(anyString(), anyInt(), anyLong()))
+                .thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> accountNumberAllocator.allocate(BankCode.SSOK_BANK, AccountTypeCode.DEPOSIT))
+                .isInstanceOf(CannotAcquireLockException.class);
+        verify(accountNumberBlockReserver, times(3)).reserve(anyString(), anyInt(), anyLong());
+    }
+
+    // 검증 번호는 유형 + 일련번호 (prefix 제외) 기준
+    private static boolean isLuhnValid(String accountNumber) {
+        String digits = accountNumber.substring(4).replace("-", "");
+        String body = digits.substring(0, digits.length() - 1);
+        int checkDigit = Character.getNumericValue(digits.charAt(digits.length() - 1));
+        return AccountNumberAllocator.calculateLuhnCheckDigit(body) == checkDigit;
+    }
+}
@@ -0,0 +1,68 @@
+package kr.ssok.bank.domain.account.service;
+
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.exception.BaseException;
+import kr.ssok.bank.domain.account.entity.AccountNumberSequence;
+import kr.ssok.bank.domain.account.repository.AccountNumberSequenceRepository;
+import kr.ssok.bank.domain.account.service.AccountNumberBlockReserver.AccountNumberBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberBlockReserverTest {
+
+    @Mock
+    private AccountNumberSequenceRepository accountNumberSequenceRepository;
+
+    @InjectMocks
+    private AccountNumberBlockReserver accountNumberBlockReserver;
+
+    @Test
+    @DisplayName("카운터가 없으면 0 부터 예약하고, 있으면 다음 번호부터 예약하여 카운터를 올린다.")
+    void reserve_advances_counter() {
+        // given
+        AccountNumberSequence sequence = AccountNumberSequence.builder().namespace("626-01").build();
+        when(accountNumberSequenceRepository.findForUpdate("626-01"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(sequence));
+        when(accountNumberSequenceRepository.saveAndFlush(any(AccountNumberSequence.class))).thenReturn(sequence);
+
+        // when
+        AccountNumberBlock first = accountNumberBlockReserver.reserve("626-01", 100, 1_000L);
+        AccountNumberBlock second = accountNumberBlockReserver.reserve("626-01", 100, 1_000L);
+
+        // then
+        assertThat(first).isEqualTo(new AccountNumberBlock(0L, 100L));
+        assertThat(second).isEqualTo(new AccountNumberBlock(100L, 200L));
+        assertThat(sequence.getNextValue()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("남은 번호가 블록보다 적으면 남은 만큼만 예약하고, 다 쓰면 예외가 발생한다.")
+    void reserve_stops_at_max_value() {
+        // given
+        AccountNumberSequence sequence = AccountNumberSequence.builder().namespace("626-01").nextValue(950L).build();
+        when(accountNumberSequenceRepository.findForUpdate("626-01")).thenReturn(Optional.of(sequence));
+
+        // when
+        AccountNumberBlock last = accountNumberBlockReserver.reserve("626-01", 100, 1_000L);
+
+        // then
+        assertThat(last).isEqualTo(new AccountNumberBlock(950L, 1_000L));
+        assertThatThrownBy(() -> accountNumberBlockReserver.reserve("626-01", 100, 1_000L))
+                .isInstanceOf(BaseException.class)
+                .extracting("status")
+                .isEqualTo(FailureStatusCode.ACCOUNT_NUMBER_EXHAUSTED);
+    }
+}
@@ -1,13 +1,27 @@
 package kr.ssok.bank.domain.account.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.ssok.bank.common.constant.AccountStatusCode;
 import kr.ssok.bank.common.constant.AccountTypeCode;
 import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.constant.CurrencyCode;
+import kr.ssok.bank.common.constant.ExportFormatCode;
 import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import kr.ssok.bank.common.constant.TransferTypeCode;
 import kr.ssok.bank.common.exception.BaseException;
+import kr.ssok.bank.common.util.AESUtil;
+import kr.ssok.bank.domain.account.dto.AccountBulkInquiryResultDTO;
 import kr.ssok.bank.domain.account.dto.AccountResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryPageRequestDTO;
+import kr.ssok.bank.domain.account.dto.AccountTransferHistoryPageResponseDTO;
+import kr.ssok.bank.domain.account.dto.AccountValidRequestDTO;
 import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountOwnerView;
 import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.repository.AccountSummaryView;
+import kr.ssok.bank.domain.transfer.repository.TransferHistoryRowView;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
 import kr.ssok.bank.domain.user.entity.User;
 import kr.ssok.bank.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,17 +30,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +63,18 @@ class AccountServiceImplTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private TransferRepository transferRepository;
+
+    @Mock
+    private AESUtil aesUtil;
+
+    @Spy
+    private AccountSnapshotCache accountSnapshotCache = snapshotCache();
+
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -133,27 +170,19 @@ class AccountServiceImplTest {
     }
 
     @Test
-    @DisplayName("사용자명과 전화번호로 계좌 목록 조회 테스트 - 성공")
+    @DisplayName("사용자명과 전화번호로 계좌 목록 조회 테스트 - 성공 (조인 쿼리 한 번, 사용자 별도 조회 없음)")
     void testGetAccountsByUsernameAndPhoneNumber_Success() {
         // Given
         String username = "testuser";
         String phoneNumber = "01012345678";
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 9, 0);
 
-        Account testAccount2 = Account.builder()
-                .accountId(2L)
-                .accountTypeCode(AccountTypeCode.DEPOSIT)
-                .accountNumber("626-02-5678-789012")
-                .balance(20000L)
-                .bankCode(BankCode.SSOK_BANK)
-                .accountStatusCode(AccountStatusCode.ACTIVE)
-                .withdrawLimit(300000L)
-                .user(testUser)
-                .build();
-
-        List<Account> accounts = Arrays.asList(testAccount, testAccount2);
-
-        when(userRepository.findByUsernameAndPhoneNumber(username, phoneNumber)).thenReturn(Optional.of(testUser));
-        when(accountRepository.findAllByUser(testUser)).thenReturn(accounts);
+        List<AccountSummaryView> rows = List.of(
+                summaryRow("encrypted-1", 10000L, AccountTypeCode.SAVINGS, createdAt),
+                summaryRow("encrypted-2", 20000L, AccountTypeCode.DEPOSIT, null));
+        when(accountRepository.findSummariesByUsernameAndPhoneNumber(username, phoneNumber)).thenReturn(rows);
+        when(aesUtil.decrypt("encrypted-1")).thenReturn("626-01-1234-123456");
+        when(aesUtil.decrypt("encrypted-2")).thenReturn("626-02-5678-789012");
 
         // When
         List<AccountResponseDTO> result = accountService.getAccountsByUsernameAndPhoneNumber(username, phoneNumber);
@@ -161,13 +190,17 @@ class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals(testAccount.getAccountNumber(), result.get(0).getAccountNumber());
-        assertEquals(testAccount.getBalance(), result.get(0).getBalance());
-        assertEquals(testAccount2.getAccountNumber(), result.get(1).getAccountNumber());
-        assertEquals(testAccount2.getBalance(), result.get(1).getBalance());
-
-        verify(userRepository, times(1)).findByUsernameAndPhoneNumber(username, phoneNumber);
-        verify(accountRepository, times(1)).findAllByUser(testUser);
+        assertEquals("626-01-1234-123456", result.get(0).getAccountNumber());
+        assertEquals(10000L, result.get(0).getBalance());
+        assertEquals(AccountTypeCode.SAVINGS.getIdx(), result.get(0).getAccountTypeCode());
+        assertEquals(createdAt.toLocalDate(), result.get(0).getCreatedAt());
+        assertEquals("626-02-5678-789012", result.get(1).getAccountNumber());
+        assertEquals(20000L, result.get(1).getBalance());
+        assertEquals(LocalDate.now(), result.get(1).getCreatedAt());
+
+        verify(accountRepository, times(1)).findSummariesByUsernameAndPhoneNumber(username, phoneNumber);
+        verifyNoInteractions(userRepository);
+        verify(accountRepository, never()).findAllByUser(any(User.class));
     }
 
     @Test
@@ -177,16 +210,30 @@ class AccountServiceImplTest {
         String username = "nonexistentuser";
         String phoneNumber = "01012345678";
 
-        when(userRepository.findByUsernameAndPhoneNumber(username, phoneNumber)).thenReturn(Optional.empty());
+        when(accountRepository.findSummariesByUsernameAndPhoneNumber(username, phoneNumber)).thenReturn(List.of());
+        when(userRepository.existsByUsernameAndPhoneNumber(username, phoneNumber)).thenReturn(false);
 
         // When & Then
         BaseException exception = assertThrows(BaseException.class, () -> {
             accountService.getAccountsByUsernameAndPhoneNumber(username, phoneNumber);
         });
 
-        assertEquals(FailureStatusCode.USER_NOT_FOUND, FailureStatusCode.USER_NOT_FOUND);
-        verify(userRepository, times(1)).findByUsernameAndPhoneNumber(username, phoneNumber);
-        verify(accountRepository, never()).findAllByUser(any(User.class));
+        assertEquals(FailureStatusCode.USER_NOT_FOUND, exception.getStatus());
+        verify(userRepository, times(1)).existsByUsernameAndPhoneNumber(username, phoneNumber);
+    }
+
+    @Test
+    @DisplayName("사용자명과 전화번호로 계좌 목록 조회 테스트 - 계좌 없는 사용자는 빈 목록")
+    void testGetAccountsByUsernameAndPhoneNumber_NoAccounts() {
+        // Given
+        when(accountRepository.findSummariesByUsernameAndPhoneNumber("testuser", "01012345678")).thenReturn(List.of());
+        when(userRepository.existsByUsernameAndPhoneNumber("testuser", "01012345678")).thenReturn(true);
+
+        // When
+        List<AccountResponseDTO> result = accountService.getAccountsByUsernameAndPhoneNumber("testuser", "01012345678");
+
+        // Then
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -196,14 +243,16 @@ class AccountServiceImplTest {
         String accountNumber = "626-01-1234-123456";
         testAccount.setAccountStatusCode(AccountStatusCode.ACTIVE);
 
-        when(accountRepository.findAccountByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(aesUtil.encrypt(accountNumber)).thenReturn(accountNumber);
+        AccountOwnerView view = ownerView(testAccount);
+        when(accountRepository.findOwnerViewByAccountNumber(accountNumber)).thenReturn(Optional.of(view));
 
         // When
         boolean result = accountService.isAccountDormant(accountNumber);
 
         // Then
         assertFalse(result);
-        verify(accountRepository, times(1)).findAccountByAccountNumber(accountNumber);
+        verify(accountRepository, times(1)).findOwnerViewByAccountNumber(accountNumber);
     }
 
     @Test
@@ -213,13 +262,335 @@ class AccountServiceImplTest {
         String accountNumber = "626-01-1234-123456";
         testAccount.setAccountStatusCode(AccountStatusCode.DORMANT);
 
-        when(accountRepository.findAccountByAccountNumber(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(aesUtil.encrypt(accountNumber)).thenReturn(accountNumber);
+        AccountOwnerView view = ownerView(testAccount);
+        when(accountRepository.findOwnerViewByAccountNumber(accountNumber)).thenReturn(Optional.of(view));
 
         // When
         boolean result = accountService.isAccountDormant(accountNumber);
 
         // Then
         assertTrue(result);
-        verify(accountRepository, times(1)).findAccountByAccountNumber(accountNumber);
+        verify(accountRepository, times(1)).findOwnerViewByAccountNumber(accountNumber);
+    }
+
+    @Test
+    @DisplayName("거래 내역 페이지 조회 테스트 - 다음 페이지가 있으면 마지막 행으로 커서를 만든다")
+    void testGetTransferHistoryPage_HasNext() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+        when(aesUtil.encrypt("626-01-1234-123456")).thenReturn("encrypted");
+        when(aesUtil.decrypt("encrypted-counterpart")).thenReturn("110-01-1234-123456");
+        when(accountRepository.findAccountIdByAccountNumber("encrypted")).thenReturn(Optional.of(1L));
+        when(transferRepository.findHistoryPage(eq(1L), eq(LocalDateTime.of(2025, 4, 1, 0, 0)), eq(LocalDateTime.of(2025, 5, 2, 0, 0)),
+                eq(LocalDateTime.of(2025, 5, 2, 0, 0)), eq(Long.MIN_VALUE), eq(Limit.of(3))))
+                .thenReturn(List.of(
+                        historyRow(30L, now, "encrypted-counterpart"),
+                        historyRow(20L, now, "SYSTEM"),
+                        historyRow(10L, now.minusDays(1), "encrypted-counterpart")));
+
+        AccountTransferHistoryPageRequestDTO request = AccountTransferHistoryPageRequestDTO.builder()
+                .account("626-01-1234-123456")
+                .from(LocalDate.of(2025, 4, 1))
+                .to(LocalDate.of(2025, 5, 1))
+                .size(2)
+                .build();
+
+        // When
+        AccountTransferHistoryPageResponseDTO result = accountService.getTransferHistoryPage(request);
+
+        // Then
+        assertTrue(result.isHasNext());
+        assertEquals(2, result.getHistories().size());
+        assertEquals("110-01-1234-123456", result.getHistories().get(0).getCounterpartAccount());
+        assertEquals("SYSTEM", result.getHistories().get(1).getCounterpartAccount());
+        verify(aesUtil, never()).decrypt("SYSTEM");  // 보상 내역은 복호화하지 않음
+        assertEquals(AccountServiceImpl.encodeHistoryCursor(now, 20L), result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("거래 내역 페이지 조회 테스트 - 커서와 송금 타입 필터로 다음 페이지를 조회한다")
+    void testGetTransferHistoryPage_CursorAndType() {
+        // Given
+        LocalDateTime cursorAt = LocalDateTime.of(2025, 5, 1, 12, 0, 0, 123_000);
+        String cursor = AccountServiceImpl.encodeHistoryCursor(cursorAt, 20L);
+        when(aesUtil.encrypt("626-01-1234-123456")).thenReturn("encrypted");
+        when(accountRepository.findAccountIdByAccountNumber("encrypted")).thenReturn(Optional.of(1L));
+        when(transferRepository.findHistoryPageByType(eq(1L), eq(TransferTypeCode.INTEREST), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(cursorAt), eq(20L), eq(Limit.of(21))))
+                .thenReturn(List.of());
+
+        AccountTransferHistoryPageRequestDTO request = AccountTransferHistoryPageRequestDTO.builder()
+                .account("626-01-1234-123456")
+                .transferType(TransferTypeCode.INTEREST)
+                .cursor(cursor)
+                .build();
+
+        // When
+        AccountTransferHistoryPageResponseDTO result = accountService.getTransferHistoryPage(request);
+
+        // Then
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertTrue(result.getHistories().isEmpty());
+        verify(transferRepository, never()).findHistoryPage(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("거래 내역 페이지 조회 테스트 - 잘못된 기간, 크기, 커서는 조회하지 않고 실패한다")
+    void testGetTransferHistoryPage_InvalidRequest() {
+        // Given
+        AccountTransferHistoryPageRequestDTO invertedRange = AccountTransferHistoryPageRequestDTO.builder()
+                .account("626-01-1234-123456")
+                .from(LocalDate.of(2025, 5, 2))
+                .to(LocalDate.of(2025, 5, 1))
+                .build();
+        AccountTransferHistoryPageRequestDTO tooLarge = AccountTransferHistoryPageRequestDTO.builder()
+                .account("626-01-1234-123456")
+                .size(1000)
+                .build();
+        AccountTransferHistoryPageRequestDTO badCursor = AccountTransferHistoryPageRequestDTO.builder()
+                .account("626-01-1234-123456")
+                .cursor("not-a-cursor")
+                .build();
+
+        // When & Then
+        for (AccountTransferHistoryPageRequestDTO request : List.of(invertedRange, tooLarge, badCursor)) {
+            BaseException exception = assertThrows(BaseException.class, () -> accountService.getTransferHistoryPage(request));
+            assertEquals(FailureStatusCode.ACCOUNT_HISTORY_INVALID_REQUEST, exception.getStatus());
+        }
+        verifyNoInteractions(accountRepository, transferRepository);
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 테스트 - NDJSON 으로 한 줄에 한 건씩 기록한다")
+    void testExportTransferHistory_Ndjson() throws IOException {
+        // Given
+        ReflectionTestUtils.setField(accountService, "exportChunkSize", 2);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+        when(aesUtil.decrypt("encrypted-counterpart")).thenReturn("110-01-1234-123456");
+        when(transferRepository.findExportPage(eq(1L), any(LocalDateTime.class), eq(Long.MIN_VALUE), eq(Limit.of(2))))
+                .thenReturn(List.of(
+                        historyRow(10L, createdAt, "encrypted-counterpart"),
+                        historyRow(20L, createdAt, "encrypted-counterpart")));
+        when(transferRepository.findExportPage(1L, createdAt, 20L, Limit.of(2)))
+                .thenReturn(List.of(historyRow(30L, createdAt, "encrypted-counterpart")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = accountService.exportTransferHistory(1L, ExportFormatCode.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, exported);
+        assertEquals(3, lines.length);
+        assertEquals("{\"transferId\":10,\"createdAt\":\"2025-05-01T12:00\",\"transferType\":\"DEPOSIT\","
+                + "\"counterpartAccount\":\"110-01-1234-123456\",\"transferAmount\":1000,\"currencyCode\":\"WON\",\"balanceAfter\":5000}", lines[0]);
+        assertTrue(lines[2].startsWith("{\"transferId\":30,"));
+        // 마지막 페이지가 페이지 크기보다 작으면 더 조회하지 않음
+        verify(transferRepository, times(2)).findExportPage(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 테스트 - CSV 는 헤더 다음에 행을 기록하고 특수 문자를 이스케이프한다")
+    void testExportTransferHistory_Csv() throws IOException {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+        when(transferRepository.findExportPage(eq(1L), any(LocalDateTime.class), eq(Long.MIN_VALUE), any(Limit.class)))
+                .thenReturn(List.of(historyRow(10L, createdAt, "SYSTEM")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = accountService.exportTransferHistory(1L, ExportFormatCode.CSV, out);
+
+        // Then
+        assertEquals(1, exported);
+        assertEquals(TransferHistoryExportWriter.CSV_HEADER + "\n"
+                + "10,2025-05-01T12:00,DEPOSIT,SYSTEM,1000,WON,5000\n", out.toString(StandardCharsets.UTF_8));
+        verify(aesUtil, never()).decrypt(anyString());
+        assertEquals("\"a,\"\"b\"\"\"", TransferHistoryExportWriter.csv("a,\"b\""));
+    }
+
+    private TransferHistoryRowView historyRow(Long transferId, LocalDateTime createdAt, String counterpartAccount) {
+        TransferHistoryRowView row = mock(TransferHistoryRowView.class);
+        lenient().when(row.getTransferId()).thenReturn(transferId);
+        lenient().when(row.getTransferTypeCode()).thenReturn(TransferTypeCode.DEPOSIT);
+        lenient().when(row.getCounterpartAccount()).thenReturn(counterpartAccount);
+        lenient().when(row.getTransferAmount()).thenReturn(1000L);
+        lenient().when(row.getCurrencyCode()).thenReturn(CurrencyCode.WON);
+        lenient().when(row.getBalanceAfter()).thenReturn(5000L);
+        lenient().when(row.getCreatedAt()).thenReturn(createdAt);
+        return row;
+    }
+
+    @Test
+    @DisplayName("계좌 스냅샷 조회 테스트 - 두 번째 조회는 캐시에서 응답하고 커밋 후 무효화되면 다시 조회한다")
+    void testGetAccountSnapshot_CachedUntilInvalidated() {
+        // Given
+        String accountNumber = "626-01-1234-123456";
+        when(aesUtil.encrypt(accountNumber)).thenReturn("encrypted");
+        AccountOwnerView view = ownerView(testAccount);
+        when(accountRepository.findOwnerViewByAccountNumber("encrypted")).thenReturn(Optional.of(view));
+
+        // When
+        AccountSnapshot first = accountService.getAccountSnapshot(accountNumber);
+        AccountSnapshot second = accountService.getAccountSnapshot(accountNumber);
+        testAccount.setBalance(20000L);
+        accountSnapshotCache.invalidateAfterCommit("encrypted");
+        AccountSnapshot reloaded = accountService.getAccountSnapshot(accountNumber);
+
+        // Then
+        assertEquals("testuser", first.ownerName());
+        assertEquals(10000L, second.balance());
+        assertEquals(20000L, reloaded.balance());
+        verify(accountRepository, times(2)).findOwnerViewByAccountNumber("encrypted");
+    }
+
+    @Test
+    @DisplayName("잔액 응답용 스냅샷 조회 테스트 - 캐시에 있어도 매번 DB 최신 잔액을 조회한다")
+    void testGetLatestAccountSnapshot_BypassesCache() {
+        // Given
+        String accountNumber = "626-01-1234-123456";
+        when(aesUtil.encrypt(accountNumber)).thenReturn("encrypted");
+        AccountOwnerView view = ownerView(testAccount);
+        when(accountRepository.findOwnerViewByAccountNumber("encrypted")).thenReturn(Optional.of(view));
+
+        // When (다른 인스턴스에서 커밋되어 이 인스턴스의 캐시는 무효화되지 않은 상황)
+        accountService.getAccountSnapshot(accountNumber);
+        testAccount.setBalance(20000L);
+        AccountSnapshot cached = accountService.getAccountSnapshot(accountNumber);
+        AccountSnapshot latest = accountService.getLatestAccountSnapshot(accountNumber);
+
+        // Then
+        assertEquals(10000L, cached.balance());
+        assertEquals(20000L, latest.balance());
+        verify(accountRepository, times(2)).findOwnerViewByAccountNumber("encrypted");
+    }
+
+    @Test
+    @DisplayName("계좌 스냅샷 조회 테스트 - 없는 계좌는 캐시하지 않고 예외가 발생한다")
+    void testGetAccountSnapshot_NotFound() {
+        // Given
+        when(aesUtil.encrypt("000")).thenReturn("encrypted-000");
+        when(accountRepository.findOwnerViewByAccountNumber("encrypted-000")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BaseException.class, () -> accountService.getAccountSnapshot("000"));
+        assertThrows(BaseException.class, () -> accountService.getAccountSnapshot("000"));
+        verify(accountRepository, times(2)).findOwnerViewByAccountNumber("encrypted-000");
+    }
+
+    @Test
+    @DisplayName("계좌 잔액 일괄 조회 테스트 - IN 쿼리 한 번으로 조회하고 요청 순서대로 계좌별 결과를 반환한다")
+    void testGetBalancesInBulk_SingleQueryForMisses() {
+        // Given
+        ReflectionTestUtils.setField(accountService, "bulkMaxSize", 10);
+        Account other = Account.builder()
+                .accountId(2L)
+                .accountNumber("encrypted-222")
+                .balance(500L)
+                .accountStatusCode(AccountStatusCode.ACTIVE)
+                .withdrawLimit(300000L)
+                .user(testUser)
+                .build();
+        testAccount.setAccountNumber("encrypted-111");
+        stubEncryptAll();
+        List<AccountOwnerView> views = List.of(ownerView(testAccount), ownerView(other));
+        when(accountRepository.findOwnerViewsByAccountNumberIn(anyCollection())).thenReturn(views);
+
+        // When
+        List<AccountBulkInquiryResultDTO> first = accountService.getBalancesInBulk(List.of("111", "000", "222", "111"));
+        List<AccountBulkInquiryResultDTO> second = accountService.getBalancesInBulk(List.of("111", "222"));
+
+        // Then
+        assertEquals(List.of("111", "000", "222", "111"), first.stream().map(AccountBulkInquiryResultDTO::getAccount).toList());
+        assertEquals(10000L, first.get(0).getBalance());
+        assertEquals(FailureStatusCode.ACCOUNT_NOT_FOUND.getCode(), first.get(1).getCode());
+        assertFalse(first.get(1).getIsSuccess());
+        assertEquals(500L, first.get(2).getBalance());
+        assertEquals(SuccessStatusCode.ACCOUNT_BALANCE_OK.getCode(), first.get(3).getCode());
+        assertEquals(500L, second.get(1).getBalance());
+        // 잔액은 캐시를 거치지 않으므로 요청마다 IN 쿼리 한 번으로 조회
+        verify(accountRepository, times(2)).findOwnerViewsByAccountNumberIn(anyCollection());
+        verify(accountRepository, never()).findOwnerViewByAccountNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 조회 테스트 - 예금주명 조회와 유효성 검사는 계좌별 결과 코드를 반환한다")
+    void testOwnersAndValidationInBulk() {
+        // Given
+        ReflectionTestUtils.setField(accountService, "bulkMaxSize", 10);
+        testAccount.setAccountNumber("encrypted-111");
+        stubEncryptAll();
+        AccountOwnerView view = ownerView(testAccount);
+        when(accountRepository.findOwnerViewsByAccountNumberIn(anyCollection())).thenReturn(List.of(view));
+
+        // When
+        List<AccountBulkInquiryResultDTO> owners = accountService.getOwnersInBulk(List.of("111", "000"));
+        List<AccountBulkInquiryResultDTO> validations = accountService.validateAccountsInBulk(List.of(
+                new AccountValidRequestDTO("testuser", "111"),
+                new AccountValidRequestDTO("someone", "111"),
+                new AccountValidRequestDTO("testuser", "000")));
+
+        // Then
+        assertEquals("testuser", owners.get(0).getUsername());
+        assertEquals(FailureStatusCode.ACCOUNT_OWNER_CHECK_FAILED.getCode(), owners.get(1).getCode());
+        assertEquals(SuccessStatusCode.ACCOUNT_VALIDATION_OK.getCode(), validations.get(0).getCode());
+        assertEquals(FailureStatusCode.ACCOUNT_VALIDATION_FAILED.getCode(), validations.get(1).getCode());
+        assertEquals(FailureStatusCode.ACCOUNT_NOT_FOUND.getCode(), validations.get(2).getCode());
+    }
+
+    @Test
+    @DisplayName("계좌 일괄 조회 테스트 - 요청 계좌 수가 없거나 최대치를 넘으면 예외가 발생한다")
+    void testBulkInquiry_InvalidSize() {
+        // Given
+        ReflectionTestUtils.setField(accountService, "bulkMaxSize", 2);
+
+        // When & Then
+        BaseException empty = assertThrows(BaseException.class, () -> accountService.getBalancesInBulk(List.of()));
+        BaseException tooMany = assertThrows(BaseException.class, () -> accountService.getOwnersInBulk(List.of("1", "2", "3")));
+        assertEquals(FailureStatusCode.ACCOUNT_BULK_INVALID_REQUEST, empty.getStatus());
+        assertEquals(FailureStatusCode.ACCOUNT_BULK_INVALID_REQUEST, tooMany.getStatus());
+        verifyNoInteractions(accountRepository);
+    }
+
+    private AccountSummaryView summaryRow(String accountNumber, Long balance, AccountTypeCode accountTypeCode, LocalDateTime createdAt) {
+        AccountSummaryView row = mock(AccountSummaryView.class);
+        lenient().when(row.getAccountNumber()).thenReturn(accountNumber);
+        lenient().when(row.getBalance()).thenReturn(balance);
+        lenient().when(row.getBankCode()).thenReturn(BankCode.SSOK_BANK);
+        lenient().when(row.getAccountStatusCode()).thenReturn(AccountStatusCode.ACTIVE);
+        lenient().when(row.getAccountTypeCode()).thenReturn(accountTypeCode);
+        lenient().when(row.getWithdrawLimit()).thenReturn(300000L);
+        lenient().when(row.getCreatedAt()).thenReturn(createdAt);
+        lenient().when(row.getUpdatedAt()).thenReturn(createdAt);
+        return row;
+    }
+
+    // 계좌 엔티티의 현재 값을 그대로 돌려주는 프로젝션
+    private AccountOwnerView ownerView(Account account) {
+        AccountOwnerView view = mock(AccountOwnerView.class);
+        lenient().when(view.getAccountId()).thenAnswer(invocation -> account.getAccountId());
+        lenient().when(view.getAccountNumber()).thenAnswer(invocation -> account.getAccountNumber());
+        lenient().when(view.getOwnerName()).thenAnswer(invocation -> account.getUser() != null ? account.getUser().getUsername() : null);
+        lenient().when(view.getAccountStatusCode()).thenAnswer(invocation -> account.getAccountStatusCode());
+        lenient().when(view.getWithdrawLimit()).thenAnswer(invocation -> account.getWithdrawLimit());
+        lenient().when(view.getBalance()).thenAnswer(invocation -> account.getBalance());
+        return view;
+    }
+
+    private void stubEncryptAll() {
+        when(aesUtil.encryptAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> accountNumbers = invocation.getArgument(0);
+            return accountNumbers.stream().distinct().collect(Collectors.toMap(Function.identity(), accountNumber -> "encrypted-" + accountNumber));
+        });
+    }
+
+    private static AccountSnapshotCache snapshotCache() {
+        AccountSnapshotCache cache = new AccountSnapshotCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        cache.init();
+        return cache;
     }
 }
@@ -0,0 +1,159 @@
+package kr.ssok.bank.domain.account.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountSnapshotCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountSnapshotCache accountSnapshotCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountSnapshotCache = new AccountSnapshotCache(meterRegistry);
+        ReflectionTestUtils.setField(accountSnapshotCache, "maxSize", 2L);
+        ReflectionTestUtils.setField(accountSnapshotCache, "ttlMs", 60_000L);
+        accountSnapshotCache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("적중/미적중 횟수가 cache.gets 메트릭으로 기록된다.")
+    void records_hit_and_miss_metrics() {
+        // when
+        accountSnapshotCache.get("encrypted-1", this::load);
+        accountSnapshotCache.get("encrypted-1", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", AccountSnapshotCache.CACHE_NAME, "result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", AccountSnapshotCache.CACHE_NAME, "result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 무효화는 커밋 이후에 반영되고, 롤백되면 반영되지 않는다.")
+    void invalidates_only_after_commit() {
+        // given
+        accountSnapshotCache.get("encrypted-1", this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when (커밋 전)
+        accountSnapshotCache.invalidateAfterCommit("encrypted-1");
+        accountSnapshotCache.get("encrypted-1", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+
+        // when (롤백)
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        accountSnapshotCache.get("encrypted-1", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+
+        // when (커밋)
+        TransactionSynchronizationManager.initSynchronization();
+        accountSnapshotCache.invalidateAfterCommit("encrypted-1");
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        accountSnapshotCache.get("encrypted-1", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("account.snapshot.cache.invalidations").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 모든 계좌를 다시 적재한다.")
+    void invalidate_all_reloads_every_account() {
+        // given
+        accountSnapshotCache.get("encrypted-1", this::load);
+        accountSnapshotCache.get("encrypted-2", this::load);
+
+        // when (트랜잭션 밖에서는 즉시 무효화)
+        accountSnapshotCache.invalidateAllAfterCommit();
+        accountSnapshotCache.get("encrypted-1", this::load);
+        accountSnapshotCache.get("encrypted-2", this::load);
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("없는 계좌(null)는 캐시하지 않는다.")
+    void does_not_cache_missing_account() {
+        // when
+        AccountSnapshot first = accountSnapshotCache.get("missing", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        AccountSnapshot second = accountSnapshotCache.get("missing", this::load);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNotNull();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 있는 계좌만 캐시에서 응답하고, 일괄 적재한 값은 캐시에 넣지 않는다.")
+    void get_all_does_not_cache_bulk_loaded_entries() {
+        // given
+        accountSnapshotCache.get("encrypted-1", this::load);
+        List<Set<? extends String>> requested = new ArrayList<>();
+
+        // when
+        Map<String, AccountSnapshot> first = accountSnapshotCache.getAll(List.of("encrypted-1", "encrypted-2"), missing -> {
+            requested.add(Set.copyOf(missing));
+            return Map.of("encrypted-2", load("encrypted-2"));
+        });
+        accountSnapshotCache.getAll(List.of("encrypted-1", "encrypted-2"), missing -> {
+            requested.add(Set.copyOf(missing));
+            return Map.of();
+        });
+
+        // then
+        assertThat(first).containsOnlyKeys("encrypted-1", "encrypted-2");
+        assertThat(requested).containsExactly(Set.of("encrypted-2"), Set.of("encrypted-2"));
+    }
+
+    private AccountSnapshot load(String encryptedAccountNumber) {
+        long version = loads.incrementAndGet();
+        return new AccountSnapshot(version, encryptedAccountNumber, "owner", AccountStatusCode.ACTIVE, 300_000L, 10_000L * version);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package kr.ssok.bank.domain.good.service;
+
+import kr.ssok.bank.common.constant.AccountTypeCode;
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.exception.BaseException;
+import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.good.repository.GoodRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GoodServiceImplTest {
+
+    @Mock
+    private GoodRepository goodRepository;
+
+    @InjectMocks
+    private GoodServiceImpl goodService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(goodService, "cacheTtlMs", 60_000L);
+        goodService.init();
+    }
+
+    @Test
+    @DisplayName("계좌 유형별 상품은 한 번만 조회하고 이후에는 캐시에서 반환한다.")
+    void getGoodByAccountTypeCode_is_cached() {
+        // given
+        Good good = Good.builder().goodId(1L).accountTypeCode(AccountTypeCode.DEPOSIT).interestRate(1.5).interestCycle(1).build();
+        when(goodRepository.findByAccountTypeCode(AccountTypeCode.DEPOSIT)).thenReturn(Optional.of(good));
+
+        // when
+        Good first = goodService.getGoodByAccountTypeCode(AccountTypeCode.DEPOSIT);
+        Good second = goodService.getGoodByAccountTypeCode(AccountTypeCode.DEPOSIT);
+
+        // then
+        assertThat(first).isSameAs(good);
+        assertThat(second).isSameAs(good);
+        verify(goodRepository, times(1)).findByAccountTypeCode(AccountTypeCode.DEPOSIT);
+    }
+
+    @Test
+    @DisplayName("상품이 없으면 캐시하지 않고 예외가 발생한다.")
+    void getGoodByAccountTypeCode_not_found() {
+        // given
+        when(goodRepository.findByAccountTypeCode(AccountTypeCode.SUBSCRIPTION)).thenReturn(Optional.empty());
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> goodService.getGoodByAccountTypeCode(AccountTypeCode.SUBSCRIPTION))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("status")
+                    .isEqualTo(FailureStatusCode.GOOD_READ_FAILED);
+        }
+        verify(goodRepository, times(2)).findByAccountTypeCode(AccountTypeCode.SUBSCRIPTION);
+    }
+}
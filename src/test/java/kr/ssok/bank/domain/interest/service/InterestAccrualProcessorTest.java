@@ -0,0 +1,191 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.interest.entity.InterestAccrual;
+import kr.ssok.bank.domain.interest.repository.InterestAccrualRepository;
+import kr.ssok.bank.domain.transfer.entity.TransferHistory;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class InterestAccrualProcessorTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransferRepository transferRepository;
+
+    @Mock
+    private InterestAccrualRepository interestAccrualRepository;
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;
+
+    private InterestChunkProcessor interestChunkProcessor;
+    private InterestAccrualProcessor interestAccrualProcessor;
+
+    // 저장된 적립 기록 / 거래 내역
+    private final Map<Long, InterestAccrual> accrualTable = new HashMap<>();
+    private final List<TransferHistory> historyTable = new ArrayList<>();
+
+    private final Good good = Good.builder().goodId(1L).interestRate(2.0).interestCycle(1).build();
+    private final Map<Long, InterestProduct> products = Map.of(1L, InterestProduct.from(good));
+
+    @BeforeEach
+    void setUp() {
+        interestChunkProcessor = new InterestChunkProcessor(accountRepository, transferRepository, accountSnapshotCache);
+        interestAccrualProcessor = new InterestAccrualProcessor(accountRepository, transferRepository, interestAccrualRepository, accountSnapshotCache);
+
+        lenient().when(interestAccrualRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(accrualTable::containsKey).map(accrualTable::get).toList();
+        });
+        lenient().when(interestAccrualRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<InterestAccrual> accruals = invocation.getArgument(0);
+            accruals.forEach(accrual -> accrualTable.put(accrual.getAccountId(), accrual));
+            return accruals;
+        });
+        lenient().when(transferRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TransferHistory> histories = invocation.getArgument(0);
+            historyTable.addAll(histories);
+            return histories;
+        });
+    }
+
+    @Test
+    @DisplayName("한 달 동안 적립 후 지급한 총액과 잔액이 매일 지급한 결과와 같고, 거래 내역은 한 건만 남는다.")
+    void accrual_posts_same_total_as_daily_posting() {
+        // given
+        Account daily = account(1L, 123_456_789L);
+        Account accrued = account(2L, 123_456_789L);
+        stubTarget(daily);
+        stubTarget(accrued);
+
+        // when
+        long dailyTotal = 0L;
+        long accruedTotal = 0L;
+        for (int day = 0; day < 31; day++) {
+            LocalDate runDate = START_DATE.plusDays(day);
+            LocalDateTime baseTime = runDate.atTime(1, 0);
+            boolean postingDay = day == 30;
+
+            // 기간 중 입출금은 두 방식에 똑같이 반영
+            if (day == 10) {
+                daily.deposit(50_000_000L);
+                accrued.deposit(50_000_000L);
+            }
+            if (day == 20) {
+                daily.withdraw(30_000_000L);
+                accrued.withdraw(30_000_000L);
+            }
+
+            dailyTotal += interestChunkProcessor.process(1L, 1L, runDate, baseTime, products).totalInterest();
+            accruedTotal += interestAccrualProcessor.process(2L, 2L, runDate, baseTime, products, postingDay).totalInterest();
+        }
+
+        // then
+        assertThat(accruedTotal).isPositive().isEqualTo(dailyTotal);
+        assertThat(accrued.getBalance()).isEqualTo(daily.getBalance());
+        assertThat(accrued.getLastInterestPaidAt()).isEqualTo(daily.getLastInterestPaidAt());
+        assertThat(historyTable.stream().filter(history -> history.getAccount() == daily)).hasSize(31);
+        assertThat(historyTable.stream().filter(history -> history.getAccount() == accrued)).singleElement().satisfies(history -> {
+            assertThat(history.getTransferAmount()).isEqualTo(dailyTotal);
+            assertThat(history.getTransactionId()).isEqualTo("interest-2025-05-31-2");
+            assertThat(history.getBalanceAfter()).isEqualTo(daily.getBalance());
+        });
+        assertThat(accrualTable.get(2L).hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 기준 시각으로 다시 실행해도 중복 적립하지 않는다.")
+    void process_is_idempotent_for_same_base_time() {
+        // given
+        Account account = account(3L, 1_000_000_000L);
+        stubTarget(account);
+        LocalDateTime baseTime = START_DATE.atTime(1, 0);
+
+        // when
+        interestAccrualProcessor.process(3L, 3L, START_DATE, baseTime, products, false);
+        interestAccrualProcessor.process(3L, 3L, START_DATE, baseTime, products, false);
+
+        // then
+        InterestAccrual accrual = accrualTable.get(3L);
+        assertThat(accrual.getAccruedAmount()).isEqualTo(products.get(1L).rateFactor().dailyInterest(1_000_000_000L));
+        assertThat(accrual.getAccruedDays()).isEqualTo(1);
+        assertThat(accrual.getPeriodStartDate()).isEqualTo(START_DATE);
+        assertThat(account.getBalance()).isEqualTo(1_000_000_000L);
+        assertThat(historyTable).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정산은 지급일과 관계없이 남은 적립액을 마지막 적립일 거래 ID 로 지급한다.")
+    void postPending_posts_outstanding_accrual() {
+        // given
+        Account account = account(4L, 1_000_000L);
+        accrualTable.put(4L, InterestAccrual.builder()
+                .accountId(4L)
+                .accruedAmount(700L)
+                .accruedDays(7)
+                .periodStartDate(START_DATE)
+                .lastAccruedDate(START_DATE.plusDays(6))
+                .lastAccruedAt(START_DATE.plusDays(6).atTime(1, 0))
+                .build());
+        lenient().when(accountRepository.findAccrualTargetsForUpdate(eq(AccountStatusCode.ACTIVE), eq(BankCode.SSOK_BANK), anyCollection()))
+                .thenReturn(List.of(account));
+
+        // when
+        InterestChunkResult result = interestAccrualProcessor.postPending(List.of(4L));
+
+        // then
+        assertThat(result.paid()).isEqualTo(1);
+        assertThat(result.totalInterest()).isEqualTo(700L);
+        assertThat(account.getBalance()).isEqualTo(1_000_700L);
+        assertThat(account.getLastInterestPaidAt()).isEqualTo(START_DATE.plusDays(6).atTime(1, 0));
+        assertThat(historyTable).singleElement()
+                .satisfies(history -> assertThat(history.getTransactionId()).isEqualTo("interest-2025-05-07-4"));
+        assertThat(accrualTable.get(4L).getAccruedAmount()).isZero();
+        assertThat(accrualTable.get(4L).getAccruedDays()).isZero();
+    }
+
+    private void stubTarget(Account account) {
+        lenient().when(accountRepository.findInterestTargetsForUpdate(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK,
+                account.getAccountId(), account.getAccountId())).thenReturn(List.of(account));
+    }
+
+    private Account account(Long accountId, Long balance) {
+        return Account.builder()
+                .accountId(accountId)
+                .accountNumber("encrypted-" + accountId)
+                .balance(balance)
+                .good(good)
+                .lastInterestPaidAt(START_DATE.minusDays(1).atTime(1, 0))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.constant.TransferTypeCode;
+import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.transfer.entity.TransferHistory;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InterestChunkProcessorTest {
+
+    @InjectMocks
+    private InterestChunkProcessor interestChunkProcessor;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransferRepository transferRepository;
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;
+
+    @Test
+    @DisplayName("주기가 지난 계좌에만 이자를 지급하고, 이미 지급된 계좌와 주기 미도래 계좌는 건너뛴다.")
+    void process_pays_only_due_accounts() {
+        // given
+        LocalDate runDate = LocalDate.of(2025, 5, 1);
+        LocalDateTime baseTime = runDate.atTime(1, 0);
+        Good daily = Good.builder().goodId(1L).interestRate(3.65).interestCycle(1).build();
+        Good monthly = Good.builder().goodId(2L).interestRate(3.65).interestCycle(30).build();
+
+        Account due = account(10L, 1_000_000L, daily, baseTime.minusDays(1));
+        Account alreadyPaid = account(20L, 1_000_000L, daily, baseTime);
+        Account notDue = account(30L, 1_000_000L, monthly, baseTime.minusDays(3));
+
+        when(accountRepository.findInterestTargetsForUpdate(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 10L, 30L))
+                .thenReturn(List.of(due, alreadyPaid, notDue));
+
+        // when
+        InterestChunkResult result = interestChunkProcessor.process(10L, 30L, runDate, baseTime, Map.of(1L, InterestProduct.from(daily), 2L, InterestProduct.from(monthly)));
+
+        // then
+        assertThat(result.processed()).isEqualTo(3);
+        assertThat(result.paid()).isEqualTo(1);
+        assertThat(result.totalInterest()).isEqualTo(100L);
+        assertThat(due.getBalance()).isEqualTo(1_000_100L);
+        assertThat(due.getLastInterestPaidAt()).isEqualTo(baseTime);
+        assertThat(notDue.getBalance()).isEqualTo(1_000_000L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransferHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transferRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(history -> {
+            assertThat(history.getTransactionId()).isEqualTo("interest-2025-05-01-10");
+            assertThat(history.getTransferTypeCode()).isEqualTo(TransferTypeCode.INTEREST);
+            // 저장된 (암호화된) 계좌번호를 다시 암호화하지 않음
+            assertThat(history.getCounterpartAccount()).isEqualTo("encrypted-10");
+            assertThat(history.getBalanceAfter()).isEqualTo(1_000_100L);
+        });
+        verify(accountSnapshotCache).invalidateAfterCommit(List.of("encrypted-10"));
+    }
+
+    private Account account(Long accountId, Long balance, Good good, LocalDateTime lastInterestPaidAt) {
+        return Account.builder()
+                .accountId(accountId)
+                .accountNumber("encrypted-" + accountId)
+                .balance(balance)
+                .good(good)
+                .lastInterestPaidAt(lastInterestPaidAt)
+                .build();
+    }
+}
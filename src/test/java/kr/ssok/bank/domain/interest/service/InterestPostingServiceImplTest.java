@@ -0,0 +1,280 @@
+package kr.ssok.bank.domain.interest.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.bank.common.constant.AccountStatusCode;
+import kr.ssok.bank.common.constant.BankCode;
+import kr.ssok.bank.common.constant.InterestPostingModeCode;
+import kr.ssok.bank.common.constant.InterestRunStatusCode;
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.good.repository.GoodRepository;
+import kr.ssok.bank.domain.interest.entity.InterestRun;
+import kr.ssok.bank.domain.interest.repository.InterestAccrualRepository;
+import kr.ssok.bank.domain.interest.repository.InterestRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterestPostingServiceImplTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private GoodRepository goodRepository;
+
+    @Mock
+    private InterestRunRepository interestRunRepository;
+
+    @Mock
+    private InterestChunkProcessor interestChunkProcessor;
+
+    @Mock
+    private InterestSetBasedProcessor interestSetBasedProcessor;
+
+    @Mock
+    private InterestAccrualProcessor interestAccrualProcessor;
+
+    @Mock
+    private InterestAccrualRepository interestAccrualRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InterestPostingServiceImpl interestPostingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interestPostingService = new InterestPostingServiceImpl(accountRepository, goodRepository, interestRunRepository,
+                interestChunkProcessor, interestSetBasedProcessor, interestAccrualProcessor, interestAccrualRepository, meterRegistry);
+        ReflectionTestUtils.setField(interestPostingService, "chunkSize", 2);
+        ReflectionTestUtils.setField(interestPostingService, "parallelism", 2);
+        ReflectionTestUtils.setField(interestPostingService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(interestPostingService, "postingDay", 31);
+        interestPostingService.init();
+
+        lenient().when(interestRunRepository.save(any(InterestRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(goodRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("대상 계좌를 청크로 나눠 처리하고, 완료된 청크까지 체크포인트를 남긴다.")
+    void postInterest_processes_chunks_and_checkpoints() {
+        // given
+        when(interestRunRepository.findByRunDate(RUN_DATE)).thenReturn(Optional.empty());
+        when(accountRepository.countInterestTargets(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 0L)).thenReturn(5L);
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 0L, Limit.of(4)))
+                .thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 4L, Limit.of(4)))
+                .thenReturn(List.of(5L));
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 5L, Limit.of(4)))
+                .thenReturn(List.of());
+        when(interestChunkProcessor.process(anyLong(), anyLong(), eq(RUN_DATE), any(LocalDateTime.class), anyMap()))
+                .thenAnswer(invocation -> {
+                    long fromId = invocation.getArgument(0);
+                    long toId = invocation.getArgument(1);
+                    int size = (int) (toId - fromId + 1);
+                    return new InterestChunkResult(fromId, toId, size, size, size * 10L);
+                });
+
+        // when
+        InterestRun run = interestPostingService.postInterest(RUN_DATE);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(InterestRunStatusCode.COMPLETED);
+        assertThat(run.getCheckpointAccountId()).isEqualTo(5L);
+        assertThat(run.getProcessedCount()).isEqualTo(5L);
+        assertThat(run.getTotalInterest()).isEqualTo(50L);
+        verify(interestChunkProcessor).process(eq(1L), eq(2L), eq(RUN_DATE), any(), anyMap());
+        verify(interestChunkProcessor).process(eq(3L), eq(4L), eq(RUN_DATE), any(), anyMap());
+        verify(interestChunkProcessor).process(eq(5L), eq(5L), eq(RUN_DATE), any(), anyMap());
+        assertThat(meterRegistry.get("interest.posting.progress").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("interest.posting.accounts").tag("result", "paid").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("청크가 재시도 후에도 실패하면 앞선 청크까지만 체크포인트를 남기고 실패 처리한다.")
+    void postInterest_failed_chunk_keeps_checkpoint() {
+        // given
+        when(interestRunRepository.findByRunDate(RUN_DATE)).thenReturn(Optional.empty());
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 0L, Limit.of(4)))
+                .thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(interestChunkProcessor.process(eq(1L), eq(2L), eq(RUN_DATE), any(), anyMap()))
+                .thenReturn(new InterestChunkResult(1L, 2L, 2, 2, 20L));
+        when(interestChunkProcessor.process(eq(3L), eq(4L), eq(RUN_DATE), any(), anyMap()))
+                .thenThrow(new IllegalStateException("deadlock"));
+
+        // when
+        InterestRun run = interestPostingService.postInterest(RUN_DATE);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(InterestRunStatusCode.FAILED);
+        assertThat(run.getCheckpointAccountId()).isEqualTo(2L);
+        verify(interestChunkProcessor, times(2)).process(eq(3L), eq(4L), eq(RUN_DATE), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("중단된 실행은 최초 기준 시각으로 체크포인트 이후부터 재개한다.")
+    void postInterest_resumes_from_checkpoint() {
+        // given
+        LocalDateTime baseTime = RUN_DATE.atTime(1, 0);
+        InterestRun failed = InterestRun.builder()
+                .runDate(RUN_DATE)
+                .status(InterestRunStatusCode.FAILED)
+                .baseTime(baseTime)
+                .checkpointAccountId(2L)
+                .processedCount(2L)
+                .paidCount(2L)
+                .totalInterest(20L)
+                .build();
+        when(interestRunRepository.findByRunDate(RUN_DATE)).thenReturn(Optional.of(failed));
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 2L, Limit.of(4)))
+                .thenReturn(List.of(3L));
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 3L, Limit.of(4)))
+                .thenReturn(List.of());
+        when(interestChunkProcessor.process(eq(3L), eq(3L), eq(RUN_DATE), eq(baseTime), anyMap()))
+                .thenReturn(new InterestChunkResult(3L, 3L, 1, 1, 10L));
+
+        // when
+        InterestRun run = interestPostingService.postInterest(RUN_DATE);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(InterestRunStatusCode.COMPLETED);
+        assertThat(run.getCheckpointAccountId()).isEqualTo(3L);
+        assertThat(run.getPaidCount()).isEqualTo(3L);
+        assertThat(run.getTotalInterest()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("일괄 방식은 상품별로 일괄 처리기를 호출하고 방식별 실행 시간을 기록한다.")
+    void postInterest_set_based_mode() {
+        // given
+        ReflectionTestUtils.setField(interestPostingService, "postingMode", InterestPostingModeCode.SET_BASED);
+        Good deposit = Good.builder().goodId(1L).interestRate(1.5).interestCycle(1).build();
+        Good savings = Good.builder().goodId(2L).interestRate(2.0).interestCycle(1).build();
+        when(goodRepository.findAll()).thenReturn(List.of(savings, deposit));
+        when(interestRunRepository.findByRunDate(RUN_DATE)).thenReturn(Optional.empty());
+        when(interestSetBasedProcessor.process(eq(InterestProduct.from(deposit)), eq(RUN_DATE), any(LocalDateTime.class)))
+                .thenReturn(new InterestChunkResult(0L, 0L, 3, 3, 30L));
+        when(interestSetBasedProcessor.process(eq(InterestProduct.from(savings)), eq(RUN_DATE), any(LocalDateTime.class)))
+                .thenReturn(new InterestChunkResult(0L, 0L, 2, 2, 40L));
+
+        // when
+        InterestRun run = interestPostingService.postInterest(RUN_DATE);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(InterestRunStatusCode.COMPLETED);
+        assertThat(run.getPaidCount()).isEqualTo(5L);
+        assertThat(run.getTotalInterest()).isEqualTo(70L);
+        verifyNoInteractions(interestChunkProcessor);
+        assertThat(meterRegistry.get("interest.posting.run.duration").tag("mode", "SET_BASED").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 기준일은 다시 처리하지 않는다.")
+    void postInterest_skips_completed_run() {
+        // given
+        InterestRun completed = InterestRun.builder()
+                .runDate(RUN_DATE)
+                .status(InterestRunStatusCode.COMPLETED)
+                .baseTime(RUN_DATE.atTime(1, 0))
+                .build();
+        when(interestRunRepository.findByRunDate(RUN_DATE)).thenReturn(Optional.of(completed));
+
+        // when
+        InterestRun run = interestPostingService.postInterest(RUN_DATE);
+
+        // then
+        assertThat(run).isSameAs(completed);
+        verifyNoInteractions(accountRepository, interestChunkProcessor);
+    }
+
+    @Test
+    @DisplayName("적립 방식은 적립 처리기로 청크를 처리하고 월 지급일에만 지급하도록 전달한다.")
+    void postInterest_accrual_mode_passes_posting_day() {
+        // given
+        ReflectionTestUtils.setField(interestPostingService, "postingMode", InterestPostingModeCode.ACCRUAL);
+        LocalDate lastDayOfFebruary = LocalDate.of(2025, 2, 28);
+        when(interestRunRepository.findByRunDate(any(LocalDate.class))).thenReturn(Optional.empty());
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 0L, Limit.of(4)))
+                .thenReturn(List.of(1L), List.of(1L));
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 1L, Limit.of(4)))
+                .thenReturn(List.of(), List.of());
+        when(interestAccrualProcessor.process(eq(1L), eq(1L), any(LocalDate.class), any(LocalDateTime.class), anyMap(), anyBoolean()))
+                .thenReturn(new InterestChunkResult(1L, 1L, 1, 0, 0L));
+
+        // when
+        interestPostingService.postInterest(RUN_DATE);
+        interestPostingService.postInterest(lastDayOfFebruary);
+
+        // then (지급일 31일은 2월에는 말일)
+        verify(interestAccrualProcessor).process(eq(1L), eq(1L), eq(RUN_DATE), any(), anyMap(), eq(false));
+        verify(interestAccrualProcessor).process(eq(1L), eq(1L), eq(lastDayOfFebruary), any(), anyMap(), eq(true));
+        verify(interestAccrualRepository, never()).existsByAccruedAmountNot(anyLong());
+        verifyNoInteractions(interestChunkProcessor);
+    }
+
+    @Test
+    @DisplayName("정산은 미지급 적립액을 청크 단위로 모두 지급하고 적립 총액과 지급 총액을 대조한다.")
+    void reconcileAccruals_posts_all_pending() {
+        // given
+        when(interestAccrualRepository.sumAccruedAmount()).thenReturn(300L, 0L);
+        when(interestAccrualRepository.findPendingAccountIds(0L, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(interestAccrualRepository.findPendingAccountIds(2L, Limit.of(2))).thenReturn(List.of(3L));
+        when(interestAccrualRepository.findPendingAccountIds(3L, Limit.of(2))).thenReturn(List.of());
+        when(interestAccrualProcessor.postPending(List.of(1L, 2L))).thenReturn(new InterestChunkResult(1L, 2L, 2, 2, 200L));
+        when(interestAccrualProcessor.postPending(List.of(3L))).thenReturn(new InterestChunkResult(3L, 3L, 1, 1, 100L));
+
+        // when
+        InterestReconcileResult result = interestPostingService.reconcileAccruals();
+
+        // then
+        assertThat(result.balanced()).isTrue();
+        assertThat(result.postedAccounts()).isEqualTo(3);
+        assertThat(result.postedInterest()).isEqualTo(300L);
+        assertThat(result.pendingAfter()).isZero();
+        assertThat(meterRegistry.get("interest.posting.amount").counter().count()).isEqualTo(300.0);
+    }
+
+    @Test
+    @DisplayName("적립 방식이 아닌 실행은 남은 적립액을 먼저 정산한다.")
+    void postInterest_drains_accruals_before_chunked_run() {
+        // given
+        when(interestRunRepository.findByRunDate(RUN_DATE)).thenReturn(Optional.empty());
+        when(interestAccrualRepository.existsByAccruedAmountNot(0L)).thenReturn(true);
+        when(interestAccrualRepository.sumAccruedAmount()).thenReturn(100L, 0L);
+        when(interestAccrualRepository.findPendingAccountIds(0L, Limit.of(2))).thenReturn(List.of(7L));
+        when(interestAccrualRepository.findPendingAccountIds(7L, Limit.of(2))).thenReturn(List.of());
+        when(interestAccrualProcessor.postPending(List.of(7L))).thenReturn(new InterestChunkResult(7L, 7L, 1, 1, 100L));
+        when(accountRepository.findInterestTargetIds(AccountStatusCode.ACTIVE, BankCode.SSOK_BANK, 0L, Limit.of(4)))
+                .thenReturn(List.of());
+
+        // when
+        InterestRun run = interestPostingService.postInterest(RUN_DATE);
+
+        // then
+        assertThat(run.getStatus()).isEqualTo(InterestRunStatusCode.COMPLETED);
+        verify(interestAccrualProcessor).postPending(List.of(7L));
+        verify(interestAccrualProcessor, never()).process(anyLong(), anyLong(), any(), any(), anyMap(), anyBoolean());
+    }
+}
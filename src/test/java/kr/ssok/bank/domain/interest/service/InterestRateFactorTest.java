@@ -0,0 +1,77 @@
+package kr.ssok.bank.domain.interest.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterestRateFactorTest {
+
+    private static final double[] RATES = {0.0, 0.01, 0.1, 1.5, 2.0, 3.65, 4.123456, 7.77, 12.5, 100.0, 1000.0, 3000.0};
+
+    private static final long[] BOUNDARY_BALANCES = {
+            0L, 1L, -1L, 9L, 99L, 9_999_999_999L, 10_000_000_000L, 10_000_000_001L,
+            123_456_789L, 9_000_000_000_000L, Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1
+    };
+
+    @Test
+    @DisplayName("경계 잔액에서 고정 소수점 계산 결과가 BigDecimal 계산과 같다.")
+    void boundary_balances_match_big_decimal() {
+        for (double rate : RATES) {
+            InterestRateFactor factor = InterestRateFactor.of(rate);
+            for (long balance : BOUNDARY_BALANCES) {
+                assertMatches(factor, balance, rate);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("long 전체 범위의 무작위 잔액에서 고정 소수점 계산 결과가 BigDecimal 계산과 같다.")
+    void random_balances_match_big_decimal() {
+        // given (실패 시 재현할 수 있도록 시드 고정)
+        SplittableRandom random = new SplittableRandom(20250501L);
+
+        for (int i = 0; i < 200_000; i++) {
+            double rate = i % 4 == 0
+                    ? random.nextInt(0, 1_000_000) / 10_000.0 // 0 ~ 100% (소수점 4자리)
+                    : RATES[random.nextInt(RATES.length)];
+            // 전체 범위, 실제 잔액 범위, 10^10 배수 근처를 고르게 섞음
+            long balance = switch (i % 3) {
+                case 0 -> random.nextLong();
+                case 1 -> random.nextLong(-1_000_000_000_000L, 1_000_000_000_000L);
+                default -> random.nextLong(-922_337_203L, 922_337_203L) * InterestRateFactor.ONE + random.nextLong(-2, 3);
+            };
+
+            // when & then
+            assertMatches(InterestRateFactor.of(rate), balance, rate);
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 일괄 지급용 일이율은 InterestCalculator 의 일이율과 같다.")
+    void daily_rate_matches_calculator() {
+        for (double rate : RATES) {
+            assertThat(InterestRateFactor.of(rate).dailyRate()).isEqualByComparingTo(InterestCalculator.dailyRate(rate));
+        }
+    }
+
+    @Test
+    @DisplayName("고정 소수점 범위를 벗어난 이자율은 거부한다.")
+    void rejects_out_of_range_rate() {
+        // when & then
+        assertThatThrownBy(() -> InterestRateFactor.of(5000.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InterestRateFactor(InterestRateFactor.MAX_SCALED_DAILY_RATE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertMatches(InterestRateFactor factor, long balance, double rate) {
+        BigDecimal expected = InterestCalculator.calculateDailyInterest(balance, rate);
+        assertThat(factor.dailyInterest(balance))
+                .as("balance = %d, rate = %s", balance, rate)
+                .isEqualTo(expected.longValueExact());
+    }
+}
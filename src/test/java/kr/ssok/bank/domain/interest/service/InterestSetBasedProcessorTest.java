@@ -0,0 +1,114 @@
+package kr.ssok.bank.domain.interest.service;
+
+import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.account.repository.InterestCohortView;
+import kr.ssok.bank.domain.good.entity.Good;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterestSetBasedProcessorTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2025, 5, 1);
+    private static final LocalDateTime BASE_TIME = RUN_DATE.atTime(1, 0);
+
+    @InjectMocks
+    private InterestSetBasedProcessor interestSetBasedProcessor;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransferRepository transferRepository;
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;
+
+    private final InterestProduct product = InterestProduct.from(Good.builder().goodId(1L).interestRate(1.5).interestCycle(1).build());
+    private final BigDecimal dailyRate = InterestCalculator.dailyRate(1.5);
+
+    @Test
+    @DisplayName("대상 건수만큼 ID 블록을 예약하고 내역 기록 후 잔액을 반영한다.")
+    void process_inserts_then_updates_cohort() {
+        // given
+        when(accountRepository.summarizeInterestCohort(1L, BASE_TIME, dailyRate)).thenReturn(cohort(3L, 120L));
+        when(transferRepository.insertInterestHistories(eq(1L), eq(BASE_TIME), eq(dailyRate), eq("interest-2025-05-01-"), anyLong(), eq(3L)))
+                .thenReturn(3);
+        when(accountRepository.applyInterestCohort(1L, "interest-2025-05-01-", BASE_TIME)).thenReturn(3);
+
+        // when
+        InterestChunkResult result = interestSetBasedProcessor.process(product, RUN_DATE, BASE_TIME);
+
+        // then
+        assertThat(result.processed()).isEqualTo(3);
+        assertThat(result.paid()).isEqualTo(3);
+        assertThat(result.totalInterest()).isEqualTo(120L);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 SQL 을 실행하지 않는다.")
+    void process_skips_empty_cohort() {
+        // given
+        when(accountRepository.summarizeInterestCohort(1L, BASE_TIME, dailyRate)).thenReturn(cohort(0L, 0L));
+
+        // when
+        InterestChunkResult result = interestSetBasedProcessor.process(product, RUN_DATE, BASE_TIME);
+
+        // then
+        assertThat(result.paid()).isZero();
+        verifyNoInteractions(transferRepository);
+        verify(accountRepository, never()).applyInterestCohort(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("내역 기록 건수와 잔액 반영 건수가 다르면 예외로 롤백한다.")
+    void process_rolls_back_on_mismatch() {
+        // given
+        when(accountRepository.summarizeInterestCohort(1L, BASE_TIME, dailyRate)).thenReturn(cohort(2L, 80L));
+        when(transferRepository.insertInterestHistories(eq(1L), eq(BASE_TIME), eq(dailyRate), eq("interest-2025-05-01-"), anyLong(), eq(2L)))
+                .thenReturn(2);
+        when(accountRepository.applyInterestCohort(1L, "interest-2025-05-01-", BASE_TIME)).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> interestSetBasedProcessor.process(product, RUN_DATE, BASE_TIME))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("집계한 대상 건수보다 기록된 내역이 적으면 지급 완료로 처리하지 않고 롤백한다.")
+    void process_rolls_back_when_cohort_not_fully_inserted() {
+        // given
+        when(accountRepository.summarizeInterestCohort(1L, BASE_TIME, dailyRate)).thenReturn(cohort(3L, 120L));
+        when(transferRepository.insertInterestHistories(eq(1L), eq(BASE_TIME), eq(dailyRate), eq("interest-2025-05-01-"), anyLong(), eq(3L)))
+                .thenReturn(2);
+
+        // when & then
+        assertThatThrownBy(() -> interestSetBasedProcessor.process(product, RUN_DATE, BASE_TIME))
+                .isInstanceOf(IllegalStateException.class);
+        verify(accountRepository, never()).applyInterestCohort(anyLong(), anyString(), any());
+        verify(accountSnapshotCache, never()).invalidateAllAfterCommit();
+    }
+
+    private InterestCohortView cohort(Long targetCount, Long totalInterest) {
+        InterestCohortView view = mock(InterestCohortView.class);
+        lenient().when(view.getTargetCount()).thenReturn(targetCount);
+        lenient().when(view.getTotalInterest()).thenReturn(totalInterest);
+        return view;
+    }
+}
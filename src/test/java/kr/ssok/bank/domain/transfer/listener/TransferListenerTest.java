@@ -0,0 +1,291 @@
+package kr.ssok.bank.domain.transfer.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.bank.common.audit.AuditLogger;
+import kr.ssok.bank.common.comm.CommunicationProtocol;
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import kr.ssok.bank.common.constant.TransferTypeCode;
+import kr.ssok.bank.common.response.ReplyEncoder;
+import kr.ssok.bank.domain.transfer.dto.TransferBatchCommand;
+import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
+import kr.ssok.bank.domain.transfer.service.TransferLaneExecutor;
+import kr.ssok.bank.domain.transfer.service.TransferMetrics;
+import kr.ssok.bank.domain.transfer.service.TransferService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferListenerTest {
+
+    private static final String ACCOUNT_A = "111-1111-1111";
+    private static final String ACCOUNT_B = "222-2222-2222";
+
+    @Mock
+    private TransferService transferService;
+
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    @Mock
+    private AuditLogger auditLogger;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> replyTemplate;
+
+    @Mock
+    private KafkaTemplate<String, Object> deadLetterTemplate;
+
+    @Mock
+    private Acknowledgment ack;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, byte[]>> replyCaptor;
+
+    private TransferLaneExecutor laneExecutor;
+    private ReplyEncoder replyEncoder;
+    private TransferListener transferListener;
+
+    // 계좌별 applyBatch 호출 시 전달된 요청 (레인 스레드에서 기록)
+    private final Map<String, List<String>> appliedBatches = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        laneExecutor = new TransferLaneExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(laneExecutor, "laneCount", 4);
+        ReflectionTestUtils.setField(laneExecutor, "queueCapacity", 100);
+        laneExecutor.init();
+        replyEncoder = new ReplyEncoder();
+
+        transferListener = new TransferListener(transferService, laneExecutor, transferMetrics, auditLogger,
+                replyEncoder, replyTemplate, deadLetterTemplate);
+        ReflectionTestUtils.setField(transferListener, "deadLetterTopic", "request-topic-dlt");
+    }
+
+    @AfterEach
+    void tearDown() {
+        laneExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 처리 시 입/출금 요청을 계좌별로 묶어 적용하고, 요청별 결과(잔액 부족 포함)로 응답한다.")
+    void batch_groups_by_account_and_replies_per_record() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                withdrawRecord(0, "tx-1", ACCOUNT_A, 1_000L),
+                depositRecord(1, "tx-2", ACCOUNT_B, 2_000L),
+                withdrawRecord(2, "tx-3", ACCOUNT_A, 50_000L));
+        stubApplyBatch("tx-3");
+        when(replyTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        transferListener.handleTransferRequestBatch(records, ack);
+
+        // then
+        assertThat(appliedBatches).containsOnlyKeys(ACCOUNT_A, ACCOUNT_B);
+        assertThat(appliedBatches.get(ACCOUNT_A)).containsExactly("tx-1", "tx-3");
+        assertThat(appliedBatches.get(ACCOUNT_B)).containsExactly("tx-2");
+
+        Map<String, byte[]> replies = sentReplies(3);
+        assertThat(replies.get("corr-0")).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK));
+        assertThat(replies.get("corr-1")).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_DEPOSIT_OK));
+        assertThat(replies.get("corr-2")).isEqualTo(replyEncoder.encode(FailureStatusCode.TRANSFER_NO_BALANCE));
+
+        verify(transferService, never()).withdraw(any());
+        verify(transferService, never()).deposit(any());
+        InOrder inOrder = inOrder(replyTemplate, ack);
+        inOrder.verify(replyTemplate, times(3)).send(any(ProducerRecord.class));
+        inOrder.verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("묶음 트랜잭션이 실패하면 해당 계좌 묶음만 단건 처리로 다시 시도한다.")
+    void batch_falls_back_to_single_processing_on_group_failure() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                withdrawRecord(0, "tx-1", ACCOUNT_A, 1_000L),
+                depositRecord(1, "tx-2", ACCOUNT_B, 2_000L),
+                withdrawRecord(2, "tx-3", ACCOUNT_A, 3_000L));
+        stubApplyBatch(null);
+        doThrow(new IllegalStateException("rollback"))
+                .when(transferService).applyBatch(eq(ACCOUNT_A), anyList());
+        when(replyTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        transferListener.handleTransferRequestBatch(records, ack);
+
+        // then
+        ArgumentCaptor<TransferWithdrawRequestDTO> captor = ArgumentCaptor.forClass(TransferWithdrawRequestDTO.class);
+        verify(transferService, times(2)).withdraw(captor.capture());
+        assertThat(captor.getAllValues()).extracting(TransferWithdrawRequestDTO::getTransactionId)
+                .containsExactly("tx-1", "tx-3");
+        verify(transferService, never()).deposit(any());
+
+        Map<String, byte[]> replies = sentReplies(3);
+        assertThat(replies.get("corr-0")).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK));
+        assertThat(replies.get("corr-1")).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_DEPOSIT_OK));
+        assertThat(replies.get("corr-2")).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK));
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("응답 발송이 완료되기 전에는 오프셋을 커밋하지 않는다.")
+    void batch_acknowledges_only_after_replies_are_sent() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(withdrawRecord(0, "tx-1", ACCOUNT_A, 1_000L));
+        stubApplyBatch(null);
+        CompletableFuture<SendResult<String, byte[]>> pending = new CompletableFuture<>();
+        when(replyTemplate.send(any(ProducerRecord.class))).thenReturn(pending);
+
+        // when
+        CompletableFuture<Void> handled = CompletableFuture.runAsync(
+                () -> transferListener.handleTransferRequestBatch(records, ack));
+
+        // then (발송 대기 중)
+        verify(replyTemplate, timeout(1_000)).send(any(ProducerRecord.class));
+        verify(ack, after(200).never()).acknowledge();
+        assertThat(handled).isNotDone();
+
+        // when (발송 완료)
+        pending.complete(null);
+
+        // then
+        handled.join();
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("컨슈머 스레드가 여럿이면 단건 출금은 계좌 레인에서, 보상은 원 출금 계좌의 레인에서 실행한다.")
+    void record_runs_on_account_lane_when_concurrent() {
+        // given
+        ReflectionTestUtils.setField(transferListener, "listenerConcurrency", 2);
+        AtomicReference<String> withdrawThread = new AtomicReference<>();
+        AtomicReference<String> compensateThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            withdrawThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(transferService).withdraw(any());
+        doAnswer(invocation -> {
+            compensateThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(transferService).compensate(any());
+        when(transferService.getWithdrawAccountNumber("tx-1")).thenReturn(ACCOUNT_A);
+
+        // when
+        byte[] withdrawReply = transferListener.handleTransferRequest(withdrawRecord(0, "tx-1", ACCOUNT_A, 1_000L),
+                "reply-topic", "corr-0", CommunicationProtocol.REQUEST_WITHDRAW);
+        byte[] compensateReply = transferListener.handleTransferRequest(compensateRecord(1, "tx-1"),
+                "reply-topic", "corr-1", CommunicationProtocol.REQUEST_COMPENSATE);
+
+        // then
+        assertThat(withdrawReply).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_WITHDRAW_OK));
+        assertThat(compensateReply).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_COMPENSATE_OK));
+        String accountLane = "transfer-lane-" + laneExecutor.laneOf(ACCOUNT_A);
+        assertThat(withdrawThread.get()).isEqualTo(accountLane);
+        assertThat(compensateThread.get()).isEqualTo(accountLane);
+    }
+
+    @Test
+    @DisplayName("컨슈머 스레드가 하나면 단건 요청을 리스너 스레드에서 바로 실행한다.")
+    void record_runs_inline_with_single_consumer() {
+        // given
+        AtomicReference<String> compensateThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            compensateThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(transferService).compensate(any());
+
+        // when
+        byte[] reply = transferListener.handleTransferRequest(compensateRecord(0, "tx-1"),
+                "reply-topic", "corr-0", CommunicationProtocol.REQUEST_COMPENSATE);
+
+        // then
+        assertThat(reply).isEqualTo(replyEncoder.encode(SuccessStatusCode.TRANSFER_COMPENSATE_OK));
+        assertThat(compensateThread.get()).isEqualTo(Thread.currentThread().getName());
+        verify(transferService, never()).getWithdrawAccountNumber(anyString());
+    }
+
+    // applyBatch 호출을 기록하고 요청별 결과를 채움 (failedTransactionId 는 잔액 부족으로 처리)
+    private void stubApplyBatch(String failedTransactionId) {
+        lenient().doAnswer(invocation -> {
+            String accountNumber = invocation.getArgument(0);
+            List<TransferBatchCommand> commands = invocation.getArgument(1);
+            appliedBatches.put(accountNumber, commands.stream().map(TransferBatchCommand::getTransactionId).toList());
+            for (TransferBatchCommand command : commands) {
+                if (command.getTransactionId().equals(failedTransactionId)) {
+                    command.setResult(FailureStatusCode.TRANSFER_NO_BALANCE);
+                } else if (command.getTransferTypeCode() == TransferTypeCode.WITHDRAW) {
+                    command.setResult(SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+                } else {
+                    command.setResult(SuccessStatusCode.TRANSFER_DEPOSIT_OK);
+                }
+            }
+            return null;
+        }).when(transferService).applyBatch(anyString(), anyList());
+    }
+
+    // 발송한 응답을 상관 ID 별로 모음
+    private Map<String, byte[]> sentReplies(int expected) {
+        verify(replyTemplate, times(expected)).send(replyCaptor.capture());
+        return replyCaptor.getAllValues().stream().collect(Collectors.toMap(
+                reply -> new String(reply.headers().lastHeader(KafkaHeaders.CORRELATION_ID).value(), StandardCharsets.UTF_8),
+                ProducerRecord::value));
+    }
+
+    private ConsumerRecord<String, byte[]> withdrawRecord(long offset, String transactionId, String account, long amount) {
+        return record(offset, CommunicationProtocol.REQUEST_WITHDRAW, "{\"transactionId\":\"" + transactionId
+                + "\",\"withdrawAccount\":\"" + account + "\",\"counterAccount\":\"999-9999-9999\",\"transferAmount\":" + amount + "}");
+    }
+
+    private ConsumerRecord<String, byte[]> depositRecord(long offset, String transactionId, String account, long amount) {
+        return record(offset, CommunicationProtocol.REQUEST_DEPOSIT, "{\"transactionId\":\"" + transactionId
+                + "\",\"depositAccount\":\"" + account + "\",\"counterAccount\":\"999-9999-9999\",\"transferAmount\":" + amount + "}");
+    }
+
+    private ConsumerRecord<String, byte[]> compensateRecord(long offset, String transactionId) {
+        return record(offset, CommunicationProtocol.REQUEST_COMPENSATE, "{\"transactionId\":\"" + transactionId + "\"}");
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String cmd, String json) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("CMD", cmd.getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.REPLY_TOPIC, "reply-topic".getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.CORRELATION_ID, ("corr-" + offset).getBytes(StandardCharsets.UTF_8));
+        byte[] value = json.getBytes(StandardCharsets.UTF_8);
+        return new ConsumerRecord<>("request-topic", 0, offset, System.currentTimeMillis(), TimestampType.CREATE_TIME,
+                0, value.length, null, value, headers, Optional.empty());
+    }
+}
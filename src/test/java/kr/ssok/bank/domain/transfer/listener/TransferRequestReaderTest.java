@@ -0,0 +1,67 @@
+package kr.ssok.bank.domain.transfer.listener;
+
+import kr.ssok.bank.common.comm.CommunicationProtocol;
+import kr.ssok.bank.common.comm.JsonUtil;
+import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransferRequestReaderTest {
+
+    private static final String DEPOSIT_JSON =
+            "{\"transactionId\":\"tx-1\",\"depositAccount\":\"111-1111-1111\",\"transferAmount\":1000,\"unknown\":true}";
+
+    @Test
+    @DisplayName("CMD 헤더에 맞는 DTO 로 byte[] 를 바로 역직렬화한다.")
+    void read_object_payload() {
+        // when
+        TransferDepositRequestDTO dto = TransferRequestReader.read(CommunicationProtocol.REQUEST_DEPOSIT,
+                DEPOSIT_JSON.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(dto.getTransactionId()).isEqualTo("tx-1");
+        assertThat(dto.getDepositAccount()).isEqualTo("111-1111-1111");
+        assertThat(dto.getTransferAmount()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("JSON 문자열로 감싼 기존 형식도 같은 DTO 로 역직렬화한다.")
+    void read_quoted_payload() {
+        // given
+        byte[] quoted = JsonUtil.toJsonBytes(DEPOSIT_JSON);
+
+        // when
+        TransferDepositRequestDTO dto = TransferRequestReader.read(CommunicationProtocol.REQUEST_DEPOSIT, quoted);
+
+        // then
+        assertThat(dto.getTransactionId()).isEqualTo("tx-1");
+        assertThat(dto.getTransferAmount()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("DLQ 재발행용 본문은 감싼 문자열을 한 겹 벗긴 JSON 이다.")
+    void to_json_text() {
+        // given
+        byte[] quoted = JsonUtil.toJsonBytes(DEPOSIT_JSON);
+
+        // when & then
+        assertThat(TransferRequestReader.toJsonText(quoted)).isEqualTo(DEPOSIT_JSON);
+        assertThat(TransferRequestReader.toJsonText(DEPOSIT_JSON.getBytes(StandardCharsets.UTF_8))).isEqualTo(DEPOSIT_JSON);
+        CompensateRequestDTO dto = TransferRequestReader.read(CommunicationProtocol.REQUEST_COMPENSATE,
+                TransferRequestReader.toJsonText(quoted).getBytes(StandardCharsets.UTF_8));
+        assertThat(dto.getTransactionId()).isEqualTo("tx-1");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 CMD 는 예외가 발생한다.")
+    void read_unknown_cmd() {
+        assertThatThrownBy(() -> TransferRequestReader.read(CommunicationProtocol.SEND_TEST_MESSAGE, new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package kr.ssok.bank.domain.transfer.service;
+
+import kr.ssok.bank.common.constant.TransferTypeCode;
+import kr.ssok.bank.domain.transfer.repository.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferIdempotencyIndexTest {
+
+    @InjectMocks
+    private TransferIdempotencyIndex idempotencyIndex;
+
+    @Mock
+    private TransferRepository transferRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(idempotencyIndex, "enabled", true);
+        ReflectionTestUtils.setField(idempotencyIndex, "windowMinutes", 60L);
+        ReflectionTestUtils.setField(idempotencyIndex, "expectedInsertions", 10_000);
+        ReflectionTestUtils.setField(idempotencyIndex, "maxRecent", 100);
+    }
+
+    @Test
+    @DisplayName("초기화 시 최근 거래 내역이 인덱스에 반영된다.")
+    void init_seeds_recent_history() {
+        // given
+        List<Object[]> keys = new ArrayList<>();
+        keys.add(new Object[]{"tx-seed", TransferTypeCode.WITHDRAW});
+        when(transferRepository.findTransactionKeysCreatedAfter(any())).thenReturn(keys);
+
+        // when
+        idempotencyIndex.init();
+
+        // then
+        assertThat(idempotencyIndex.mightContain("tx-seed", TransferTypeCode.WITHDRAW)).isTrue();
+        assertThat(idempotencyIndex.containsRecent("tx-seed", TransferTypeCode.WITHDRAW)).isTrue();
+        assertThat(idempotencyIndex.containsRecent("tx-seed", TransferTypeCode.DEPOSIT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록되지 않은 키는 확실히 없는 키로 판단된다.")
+    void unknown_key_is_definite_miss() {
+        // given
+        when(transferRepository.findTransactionKeysCreatedAfter(any())).thenReturn(new ArrayList<>());
+        idempotencyIndex.init();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            idempotencyIndex.recordAfterCommit("tx-" + i, TransferTypeCode.WITHDRAW);
+        }
+
+        // then
+        for (int i = 0; i < 50; i++) {
+            assertThat(idempotencyIndex.mightContain("tx-" + i, TransferTypeCode.WITHDRAW)).isTrue();
+        }
+        assertThat(idempotencyIndex.mightContain("tx-unknown", TransferTypeCode.WITHDRAW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 키 집합은 최대 크기를 넘지 않도록 오래된 키부터 제거된다.")
+    void recent_set_is_bounded() {
+        // given
+        when(transferRepository.findTransactionKeysCreatedAfter(any())).thenReturn(new ArrayList<>());
+        idempotencyIndex.init();
+
+        // when
+        for (int i = 0; i < 150; i++) {
+            idempotencyIndex.recordAfterCommit("tx-" + i, TransferTypeCode.DEPOSIT);
+        }
+
+        // then
+        assertThat(idempotencyIndex.containsRecent("tx-0", TransferTypeCode.DEPOSIT)).isFalse();
+        assertThat(idempotencyIndex.containsRecent("tx-149", TransferTypeCode.DEPOSIT)).isTrue();
+        // 최근 키 집합에서 빠져도 블룸 필터에는 남아있어 DB 확인 대상이 된다.
+        assertThat(idempotencyIndex.mightContain("tx-0", TransferTypeCode.DEPOSIT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("초기화에 실패하면 모든 조회를 DB로 위임한다.")
+    void init_failure_falls_back_to_db() {
+        // given
+        when(transferRepository.findTransactionKeysCreatedAfter(any())).thenThrow(new RuntimeException("DB down"));
+
+        // when
+        idempotencyIndex.init();
+
+        // then
+        assertThat(idempotencyIndex.mightContain("tx-any", TransferTypeCode.WITHDRAW)).isTrue();
+        assertThat(idempotencyIndex.containsRecent("tx-any", TransferTypeCode.WITHDRAW)).isFalse();
+    }
+}
@@ -0,0 +1,204 @@
+package kr.ssok.bank.domain.transfer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.exception.BaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransferLaneExecutorTest {
+
+    private TransferLaneExecutor laneExecutor;
+
+    @BeforeEach
+    void setUp() {
+        laneExecutor = new TransferLaneExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(laneExecutor, "laneCount", 4);
+        ReflectionTestUtils.setField(laneExecutor, "queueCapacity", 1000);
+        laneExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        laneExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 작업은 제출 순서대로 실행된다.")
+    void same_account_runs_in_order() {
+        // given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            final int order = i;
+            futures.add(laneExecutor.submit("111-1111-1111", () -> {
+                executed.add(order);
+                return order;
+            }));
+        }
+        futures.forEach(TransferLaneExecutor::await);
+
+        // then
+        assertThat(executed).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(executed.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 레인의 작업은 앞선 레인 작업을 기다리지 않는다.")
+    void different_lanes_run_in_parallel() throws Exception {
+        // given
+        String blockedAccount = "111-1111-1111";
+        String otherAccount = findAccountOnOtherLane(blockedAccount);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = laneExecutor.submit(blockedAccount, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        // when
+        CompletableFuture<String> other = laneExecutor.submit(otherAccount, () -> "done");
+
+        // then
+        assertThat(other.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(blocked).isNotDone();
+        release.countDown();
+        TransferLaneExecutor.await(blocked);
+    }
+
+    @Test
+    @DisplayName("레인 작업에서 발생한 예외는 원래 예외로 전달된다.")
+    void task_exception_is_propagated() {
+        // when & then
+        assertThatThrownBy(() -> laneExecutor.execute("111-1111-1111", () -> {
+            throw new BaseException(FailureStatusCode.TRANSFER_NO_BALANCE);
+        }))
+                .isInstanceOf(BaseException.class)
+                .extracting("status")
+                .isEqualTo(FailureStatusCode.TRANSFER_NO_BALANCE);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 시작되지 못한 작업은 REQUEST_TIMEOUT 으로 끝나고 이후에도 실행되지 않는다.")
+    void execute_times_out_and_skips_queued_task() {
+        // given
+        ReflectionTestUtils.setField(laneExecutor, "awaitTimeoutMs", 100L);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = laneExecutor.submit("111-1111-1111", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> laneExecutor.execute("111-1111-1111", () -> executed.set(true)))
+                .isInstanceOf(BaseException.class)
+                .extracting("status")
+                .isEqualTo(FailureStatusCode.REQUEST_TIMEOUT);
+
+        release.countDown();
+        TransferLaneExecutor.await(blocked);
+        TransferLaneExecutor.await(laneExecutor.submit("111-1111-1111", () -> null));  // 큐 비우기
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 시간 전에 시작된 작업은 시간이 지나도 끝날 때까지 기다린다.")
+    void execute_waits_for_started_task() {
+        // given
+        ReflectionTestUtils.setField(laneExecutor, "awaitTimeoutMs", 100L);
+        TransferLaneExecutor.await(laneExecutor.submit("111-1111-1111", () -> null));  // 레인 스레드 기동
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        laneExecutor.execute("111-1111-1111", () -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executed.set(true);
+        });
+
+        // then
+        assertThat(executed).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 레인 스레드에서 다시 제출한 작업은 바로 실행된다.")
+    void nested_submit_on_same_lane_runs_inline() {
+        // when
+        String result = TransferLaneExecutor.await(laneExecutor.submit("111-1111-1111",
+                () -> TransferLaneExecutor.await(laneExecutor.submit("111-1111-1111", () -> "nested"))));
+
+        // then
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @Test
+    @DisplayName("가상 스레드 옵션을 켜면 레인 작업이 가상 스레드에서 순서대로 실행된다.")
+    void virtual_thread_lanes_run_in_order() {
+        // given
+        laneExecutor.shutdown();
+        laneExecutor = new TransferLaneExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(laneExecutor, "laneCount", 4);
+        ReflectionTestUtils.setField(laneExecutor, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(laneExecutor, "virtualThreads", true);
+        laneExecutor.init();
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            final int order = i;
+            futures.add(laneExecutor.submit("111-1111-1111", () -> {
+                executed.add(order);
+                return Thread.currentThread().isVirtual();
+            }));
+        }
+
+        // then
+        for (CompletableFuture<Boolean> future : futures) {
+            assertThat(TransferLaneExecutor.await(future)).isTrue();
+        }
+        for (int i = 0; i < 50; i++) {
+            assertThat(executed.get(i)).isEqualTo(i);
+        }
+    }
+
+    private String findAccountOnOtherLane(String accountNumber) {
+        int lane = laneExecutor.laneOf(accountNumber);
+        for (int i = 0; i < 1000; i++) {
+            String candidate = "222-2222-" + i;
+            if (laneExecutor.laneOf(candidate) != lane) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("다른 레인의 계좌를 찾을 수 없습니다.");
+    }
+}
@@ -0,0 +1,88 @@
+package kr.ssok.bank.domain.transfer.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ssok.bank.common.comm.CommunicationProtocol;
+import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import kr.ssok.bank.domain.transfer.service.TransferMetrics.Stage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransferMetrics transferMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transferMetrics = new TransferMetrics(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransferMetrics.clearContext();
+    }
+
+    @Test
+    @DisplayName("측정된 단계만 CMD/결과 코드 태그와 함께 기록된다.")
+    void record_measured_stages_with_tags() {
+        // given
+        TransferMetrics.StageContext context = TransferMetrics.startContext();
+        context.add(Stage.QUEUE, TimeUnit.MILLISECONDS.toNanos(5));
+        TransferMetrics.time(Stage.ENCRYPT, () -> "encrypted");
+
+        // when
+        transferMetrics.record(context, CommunicationProtocol.REQUEST_WITHDRAW, FailureStatusCode.TRANSFER_NO_BALANCE);
+
+        // then
+        Timer queue = meterRegistry.find(TransferMetrics.METRIC_NAME)
+                .tags("stage", "queue", "cmd", "withdraw", "outcome", "TRANSFER4004")
+                .timer();
+        assertThat(queue).isNotNull();
+        assertThat(queue.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+        assertThat(meterRegistry.find(TransferMetrics.METRIC_NAME).tags("stage", "encrypt").timer()).isNotNull();
+        assertThat(meterRegistry.find(TransferMetrics.METRIC_NAME).tags("stage", "lock_wait").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("컨텍스트가 없으면 작업만 실행하고 아무것도 기록하지 않는다.")
+    void time_without_context_is_passthrough() {
+        // when
+        String result = TransferMetrics.time(Stage.PARSE, () -> "parsed");
+        transferMetrics.record(null, CommunicationProtocol.REQUEST_DEPOSIT, SuccessStatusCode.TRANSFER_DEPOSIT_OK);
+
+        // then
+        assertThat(result).isEqualTo("parsed");
+        assertThat(meterRegistry.find(TransferMetrics.METRIC_NAME).timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 레인에서 측정한 단계가 호출 스레드의 컨텍스트에 누적된다.")
+    void lane_propagates_context() {
+        // given
+        TransferLaneExecutor laneExecutor = new TransferLaneExecutor(meterRegistry);
+        ReflectionTestUtils.setField(laneExecutor, "laneCount", 2);
+        ReflectionTestUtils.setField(laneExecutor, "queueCapacity", 10);
+        laneExecutor.init();
+        TransferMetrics.StageContext context = TransferMetrics.startContext();
+
+        // when
+        laneExecutor.execute("111-1111-1111", () -> TransferMetrics.time(Stage.LOCK_WAIT, () -> "locked"));
+        transferMetrics.record(context, CommunicationProtocol.REQUEST_WITHDRAW, SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+        laneExecutor.shutdown();
+
+        // then
+        assertThat(meterRegistry.find(TransferMetrics.METRIC_NAME)
+                .tags("stage", "lock_wait", "outcome", "TRANSFER2002")
+                .timer()).isNotNull();
+    }
+}
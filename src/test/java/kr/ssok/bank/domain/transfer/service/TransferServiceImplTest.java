@@ -1,17 +1,29 @@
 package kr.ssok.bank.domain.transfer.service;
 
+import kr.ssok.bank.common.audit.AuditLogger;
 import kr.ssok.bank.common.constant.BankCode;
 import kr.ssok.bank.common.constant.CurrencyCode;
 import kr.ssok.bank.common.constant.FailureStatusCode;
+import kr.ssok.bank.common.constant.LedgerModeCode;
+import kr.ssok.bank.common.constant.SuccessStatusCode;
+import kr.ssok.bank.common.constant.TransferStatusCode;
+import kr.ssok.bank.common.constant.TransferTypeCode;
 import kr.ssok.bank.common.exception.BaseException;
+import kr.ssok.bank.common.util.AESUtil;
 import kr.ssok.bank.domain.account.entity.Account;
+import kr.ssok.bank.domain.account.repository.AccountBalanceView;
 import kr.ssok.bank.domain.account.repository.AccountRepository;
+import kr.ssok.bank.domain.account.service.AccountSnapshotCache;
+import kr.ssok.bank.domain.transfer.dto.CompensateRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferBatchCommand;
 import kr.ssok.bank.domain.transfer.dto.TransferDepositRequestDTO;
+import kr.ssok.bank.domain.transfer.dto.TransferInternalRequestDTO;
 import kr.ssok.bank.domain.transfer.dto.TransferWithdrawRequestDTO;
 import kr.ssok.bank.domain.transfer.entity.TransferHistory;
 import kr.ssok.bank.domain.transfer.repository.TransferRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.junit.jupiter.api.Test;
@@ -19,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -37,6 +50,18 @@ class TransferServiceImplTest {
     @Mock
     private TransferRepository transferRepository;  // TransferRepository를 모킹하여 테스트
 
+    @Mock
+    private TransferIdempotencyIndex idempotencyIndex;  // 중복 거래 인덱스를 모킹하여 테스트
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;  // 조회 캐시 무효화 확인용
+
+    @Mock
+    private AESUtil aesUtil;  // 암호화는 입력을 그대로 반환하도록 모킹
+
+    @Mock
+    private AuditLogger auditLogger;  // 감사 이벤트 큐 적재만 확인
+
     private Account testAccount;  // 테스트용 계좌 객체
 
     @BeforeEach
@@ -46,6 +71,8 @@ class TransferServiceImplTest {
                 .accountNumber("1234567890")
                 .balance(10_000L)
                 .build();
+
+        lenient().when(aesUtil.encrypt(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -74,6 +101,7 @@ class TransferServiceImplTest {
         assertThat(testAccount.getBalance()).isEqualTo(5_000L);  // 출금 후 잔액 확인
         verify(transferRepository, times(1)).save(any(TransferHistory.class));  // TransferHistory 저장 호출 확인
         verify(accountRepository, times(1)).save(testAccount);  // 계좌 정보 저장 호출 확인
+        verify(accountSnapshotCache).invalidateAfterCommit("1234567890");  // 커밋 후 조회 캐시 무효화 등록 확인
     }
 
     @Test
@@ -173,4 +201,289 @@ class TransferServiceImplTest {
         BaseException exception = catchThrowableOfType(() -> transferService.deposit(dto), BaseException.class);  // 예외가 발생하는지 확인
         assertThat(exception.getStatus()).isEqualTo(FailureStatusCode.ACCOUNT_NOT_FOUND);  // 실패 상태 코드 확인
     }
+
+    @Test
+    @DisplayName("ATOMIC 모드 출금 성공 시 조건부 UPDATE 로 차감하고 차감 후 잔액으로 내역을 저장한다.")
+    void withdraw_atomic_success() {
+        // given
+        ReflectionTestUtils.setField(transferService, "ledgerMode", LedgerModeCode.ATOMIC);
+        TransferWithdrawRequestDTO dto = new TransferWithdrawRequestDTO();
+        ReflectionTestUtils.setField(dto, "withdrawAccount", "1234567890");
+        ReflectionTestUtils.setField(dto, "counterAccount", "9876543210");
+        ReflectionTestUtils.setField(dto, "transferAmount", 5_000L);
+        ReflectionTestUtils.setField(dto, "currencyCode", CurrencyCode.WON);
+        ReflectionTestUtils.setField(dto, "transactionId", "tx123");
+
+        AccountBalanceView balance = mock(AccountBalanceView.class);
+        when(balance.getAccountId()).thenReturn(1L);
+        when(balance.getBalance()).thenReturn(5_000L);
+        when(accountRepository.debitIfSufficient("1234567890", 5_000L)).thenReturn(1);
+        when(accountRepository.findBalanceByAccountNumber("1234567890")).thenReturn(Optional.of(balance));
+        when(accountRepository.getReferenceById(1L)).thenReturn(testAccount);
+
+        // when
+        transferService.withdraw(dto);
+
+        // then
+        ArgumentCaptor<TransferHistory> captor = ArgumentCaptor.forClass(TransferHistory.class);
+        verify(transferRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getBalanceAfter()).isEqualTo(5_000L);
+        assertThat(captor.getValue().getTransferTypeCode()).isEqualTo(TransferTypeCode.WITHDRAW);
+        verify(accountRepository, never()).findWithPessimisticLockByAccountNumber(any());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 출금 시 반영된 행이 없고 계좌가 존재하면 TRANSFER_NO_BALANCE 예외가 발생한다.")
+    void withdraw_atomic_fail_insufficient_balance() {
+        // given
+        ReflectionTestUtils.setField(transferService, "ledgerMode", LedgerModeCode.ATOMIC);
+        TransferWithdrawRequestDTO dto = new TransferWithdrawRequestDTO();
+        ReflectionTestUtils.setField(dto, "withdrawAccount", "1234567890");
+        ReflectionTestUtils.setField(dto, "counterAccount", "9876543210");
+        ReflectionTestUtils.setField(dto, "transferAmount", 20_000L);
+        ReflectionTestUtils.setField(dto, "currencyCode", CurrencyCode.WON);
+        ReflectionTestUtils.setField(dto, "transactionId", "tx123");
+
+        when(accountRepository.debitIfSufficient("1234567890", 20_000L)).thenReturn(0);
+        when(accountRepository.existsByAccountNumber("1234567890")).thenReturn(true);
+
+        // when & then
+        BaseException exception = catchThrowableOfType(() -> transferService.withdraw(dto), BaseException.class);
+        assertThat(exception.getStatus()).isEqualTo(FailureStatusCode.TRANSFER_NO_BALANCE);
+        verify(transferRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 입금 시 반영된 행이 없으면 ACCOUNT_NOT_FOUND 예외가 발생한다.")
+    void deposit_atomic_fail_account_not_found() {
+        // given
+        ReflectionTestUtils.setField(transferService, "ledgerMode", LedgerModeCode.ATOMIC);
+        TransferDepositRequestDTO dto = new TransferDepositRequestDTO();
+        ReflectionTestUtils.setField(dto, "depositAccount", "0000000000");
+        ReflectionTestUtils.setField(dto, "counterAccount", "1112223333");
+        ReflectionTestUtils.setField(dto, "transferAmount", 3_000L);
+        ReflectionTestUtils.setField(dto, "currencyCode", CurrencyCode.WON);
+        ReflectionTestUtils.setField(dto, "transactionId", "tx789");
+
+        when(idempotencyIndex.containsRecent("tx789", TransferTypeCode.WITHDRAW)).thenReturn(true);
+        when(accountRepository.credit("0000000000", 3_000L)).thenReturn(0);
+
+        // when & then
+        BaseException exception = catchThrowableOfType(() -> transferService.deposit(dto), BaseException.class);
+        assertThat(exception.getStatus()).isEqualTo(FailureStatusCode.ACCOUNT_NOT_FOUND);
+        verify(transferRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("당행 이체 성공 시 두 계좌가 함께 갱신되고 같은 transactionId 로 출금/입금 내역이 저장된다.")
+    void transferInternal_success() {
+        // given
+        Account depositAccount = Account.builder()
+                .accountNumber("1112223333")
+                .balance(1_000L)
+                .build();
+        TransferInternalRequestDTO dto = new TransferInternalRequestDTO();
+        ReflectionTestUtils.setField(dto, "withdrawAccount", "1234567890");
+        ReflectionTestUtils.setField(dto, "withdrawBankCode", BankCode.SSOK_BANK);
+        ReflectionTestUtils.setField(dto, "depositAccount", "1112223333");
+        ReflectionTestUtils.setField(dto, "depositBankCode", BankCode.SSOK_BANK);
+        ReflectionTestUtils.setField(dto, "transferAmount", 4_000L);
+        ReflectionTestUtils.setField(dto, "currencyCode", CurrencyCode.WON);
+        ReflectionTestUtils.setField(dto, "transactionId", "tx-internal");
+
+        when(accountRepository.findWithPessimisticLockByAccountNumber("1234567890"))
+                .thenReturn(Optional.of(testAccount));
+        when(accountRepository.findWithPessimisticLockByAccountNumber("1112223333"))
+                .thenReturn(Optional.of(depositAccount));
+
+        // when
+        transferService.transferInternal(dto);
+
+        // then
+        assertThat(testAccount.getBalance()).isEqualTo(6_000L);
+        assertThat(depositAccount.getBalance()).isEqualTo(5_000L);
+
+        // 락은 계좌번호 순서로 획득
+        InOrder lockOrder = inOrder(accountRepository);
+        lockOrder.verify(accountRepository).findWithPessimisticLockByAccountNumber("1112223333");
+        lockOrder.verify(accountRepository).findWithPessimisticLockByAccountNumber("1234567890");
+
+        ArgumentCaptor<TransferHistory> captor = ArgumentCaptor.forClass(TransferHistory.class);
+        verify(transferRepository, times(2)).save(captor.capture());
+        List<TransferHistory> histories = captor.getAllValues();
+        assertThat(histories).extracting(TransferHistory::getTransactionId).containsOnly("tx-internal");
+        assertThat(histories).extracting(TransferHistory::getTransferTypeCode)
+                .containsExactly(TransferTypeCode.WITHDRAW, TransferTypeCode.DEPOSIT);
+    }
+
+    @Test
+    @DisplayName("당행 이체 시 타행 계좌가 포함되면 TRANSFER_INTERNAL_NOT_ALLOWED 예외가 발생한다.")
+    void transferInternal_fail_other_bank() {
+        // given
+        TransferInternalRequestDTO dto = new TransferInternalRequestDTO();
+        ReflectionTestUtils.setField(dto, "withdrawAccount", "1234567890");
+        ReflectionTestUtils.setField(dto, "withdrawBankCode", BankCode.SSOK_BANK);
+        ReflectionTestUtils.setField(dto, "depositAccount", "1112223333");
+        ReflectionTestUtils.setField(dto, "depositBankCode", BankCode.KAKAO_BANK);
+        ReflectionTestUtils.setField(dto, "transferAmount", 4_000L);
+        ReflectionTestUtils.setField(dto, "transactionId", "tx-internal");
+
+        // when & then
+        BaseException exception = catchThrowableOfType(() -> transferService.transferInternal(dto), BaseException.class);
+        assertThat(exception.getStatus()).isEqualTo(FailureStatusCode.TRANSFER_INTERNAL_NOT_ALLOWED);
+        verify(accountRepository, never()).findWithPessimisticLockByAccountNumber(any());
+    }
+
+    @Test
+    @DisplayName("일괄 처리 시 계좌 락은 한 번만 잡고, 요청 순서대로 적용하며 잔액 부족/중복 요청은 요청별 결과로 남긴다.")
+    void applyBatch_partial_results() {
+        // given
+        TransferBatchCommand withdraw = batchCommand("tx-1", TransferTypeCode.WITHDRAW, 3_000L);
+        TransferBatchCommand deposit = batchCommand("tx-2", TransferTypeCode.DEPOSIT, 2_000L);
+        TransferBatchCommand overdraw = batchCommand("tx-3", TransferTypeCode.WITHDRAW, 20_000L);
+        TransferBatchCommand duplicate = batchCommand("tx-1", TransferTypeCode.WITHDRAW, 1_000L);
+
+        when(accountRepository.findWithPessimisticLockByAccountNumber("1234567890"))
+                .thenReturn(Optional.of(testAccount));
+        when(transferRepository.existsByTransactionIdAndTransferTypeCode("tx-2", TransferTypeCode.WITHDRAW))
+                .thenReturn(true);  // 입금 전 선출금 내역 존재
+
+        // when
+        transferService.applyBatch("1234567890", List.of(withdraw, deposit, overdraw, duplicate));
+
+        // then
+        assertThat(testAccount.getBalance()).isEqualTo(9_000L);  // 10,000 - 3,000 + 2,000
+        assertThat(withdraw.getResult()).isEqualTo(SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+        assertThat(deposit.getResult()).isEqualTo(SuccessStatusCode.TRANSFER_DEPOSIT_OK);
+        assertThat(overdraw.getResult()).isEqualTo(FailureStatusCode.TRANSFER_NO_BALANCE);
+        assertThat(duplicate.getResult()).isEqualTo(FailureStatusCode.DUPLICATED_TRANSACTION_ID);
+
+        verify(accountRepository, times(1)).findWithPessimisticLockByAccountNumber("1234567890");
+        ArgumentCaptor<TransferHistory> captor = ArgumentCaptor.forClass(TransferHistory.class);
+        verify(transferRepository, times(2)).save(captor.capture());
+        verify(transferRepository, never()).flush();  // 커밋 시 JDBC 배치로 INSERT
+        assertThat(captor.getAllValues()).extracting(TransferHistory::getBalanceAfter).containsExactly(7_000L, 9_000L);
+        verify(accountRepository, times(1)).save(testAccount);
+        verify(accountSnapshotCache).invalidateAfterCommit("1234567890");
+    }
+
+    @Test
+    @DisplayName("일괄 처리 시 업무 오류로 실패한 요청은 같은 묶음 안에서 같은 transactionId 로 재시도할 수 있다.")
+    void applyBatch_allows_retry_of_failed_command() {
+        // given
+        TransferBatchCommand overdraw = batchCommand("tx-1", TransferTypeCode.WITHDRAW, 20_000L);
+        TransferBatchCommand retry = batchCommand("tx-1", TransferTypeCode.WITHDRAW, 5_000L);
+
+        when(accountRepository.findWithPessimisticLockByAccountNumber("1234567890"))
+                .thenReturn(Optional.of(testAccount));
+
+        // when
+        transferService.applyBatch("1234567890", List.of(overdraw, retry));
+
+        // then
+        assertThat(overdraw.getResult()).isEqualTo(FailureStatusCode.TRANSFER_NO_BALANCE);
+        assertThat(retry.getResult()).isEqualTo(SuccessStatusCode.TRANSFER_WITHDRAW_OK);
+        assertThat(testAccount.getBalance()).isEqualTo(5_000L);
+        verify(transferRepository, times(1)).save(any(TransferHistory.class));
+    }
+
+    @Test
+    @DisplayName("일괄 처리 중 거래 내역 유니크 제약 위반은 요청별 결과로 바꾸지 않고 그대로 던져 묶음 전체를 롤백한다.")
+    void applyBatch_rethrows_constraint_violation() {
+        // given
+        TransferBatchCommand first = batchCommand("tx-1", TransferTypeCode.WITHDRAW, 1_000L);
+        TransferBatchCommand second = batchCommand("tx-2", TransferTypeCode.WITHDRAW, 1_000L);
+
+        when(accountRepository.findWithPessimisticLockByAccountNumber("1234567890"))
+                .thenReturn(Optional.of(testAccount));
+        when(idempotencyIndex.mightContain("tx-2", TransferTypeCode.WITHDRAW)).thenReturn(true);
+        // 중복 조회 직전 자동 flush 로 앞선 INSERT 의 제약 위반이 드러나는 경우
+        when(transferRepository.existsByTransactionIdAndTransferTypeCode("tx-2", TransferTypeCode.WITHDRAW))
+                .thenThrow(new DataIntegrityViolationException("duplicate transaction_id"));
+
+        // when & then
+        assertThatThrownBy(() -> transferService.applyBatch("1234567890", List.of(first, second)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(second.getResult()).isNull();
+        verify(transferRepository, times(1)).save(any(TransferHistory.class));
+        verify(accountRepository, never()).save(any());
+        verify(idempotencyIndex, never()).recordAfterCommit(eq("tx-2"), any());
+    }
+
+    @Test
+    @DisplayName("보상 처리 시 출금 계좌를 ID 로 락 조회한 뒤 최신 잔액에 입금한다.")
+    void compensate_success_locks_account() {
+        // given
+        TransferHistory failedWithdrawal = failedWithdrawal(Account.builder().accountId(1L).balance(1_000L).build());
+        when(accountRepository.findWithPessimisticLockByAccountId(1L)).thenReturn(Optional.of(testAccount));
+
+        // when
+        transferService.compensate(compensateRequest("tx-1"));
+
+        // then
+        assertThat(testAccount.getBalance()).isEqualTo(13_000L);  // 락 조회한 잔액 10,000 + 3,000
+        ArgumentCaptor<TransferHistory> captor = ArgumentCaptor.forClass(TransferHistory.class);
+        verify(transferRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(0).getTransferTypeCode()).isEqualTo(TransferTypeCode.COMPENSATE);
+        assertThat(captor.getAllValues().get(0).getBalanceAfter()).isEqualTo(13_000L);
+        assertThat(failedWithdrawal.getTransferStatusCode()).isEqualTo(TransferStatusCode.COMPENSATED);
+        verify(accountRepository).save(testAccount);
+        verify(accountSnapshotCache).invalidateAfterCommit("1234567890");
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 보상 처리 시 증액 UPDATE 로 입금하고 입금 후 잔액으로 내역을 저장한다.")
+    void compensate_atomic_success() {
+        // given
+        ReflectionTestUtils.setField(transferService, "ledgerMode", LedgerModeCode.ATOMIC);
+        failedWithdrawal(testAccount);
+        AccountBalanceView balance = mock(AccountBalanceView.class);
+        when(balance.getBalance()).thenReturn(13_000L);
+        when(accountRepository.credit("1234567890", 3_000L)).thenReturn(1);
+        when(accountRepository.findBalanceByAccountNumber("1234567890")).thenReturn(Optional.of(balance));
+
+        // when
+        transferService.compensate(compensateRequest("tx-1"));
+
+        // then
+        assertThat(testAccount.getBalance()).isEqualTo(10_000L);  // 엔티티 잔액은 직접 변경하지 않음
+        ArgumentCaptor<TransferHistory> captor = ArgumentCaptor.forClass(TransferHistory.class);
+        verify(transferRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(0).getBalanceAfter()).isEqualTo(13_000L);
+        verify(accountRepository, never()).findWithPessimisticLockByAccountId(any());
+        verify(accountRepository, never()).save(any());
+        verify(accountSnapshotCache).invalidateAfterCommit("1234567890");
+    }
+
+    private TransferHistory failedWithdrawal(Account account) {
+        TransferHistory failedWithdrawal = TransferHistory.builder()
+                .account(account)
+                .transactionId("tx-1")
+                .transferTypeCode(TransferTypeCode.WITHDRAW)
+                .transferStatusCode(TransferStatusCode.SUCCESS)
+                .transferAmount(3_000L)
+                .currencyCode(CurrencyCode.WON)
+                .build();
+        when(transferRepository.findByTransactionIdAndTransferTypeCode("tx-1", TransferTypeCode.WITHDRAW))
+                .thenReturn(Optional.of(failedWithdrawal));
+        return failedWithdrawal;
+    }
+
+    private CompensateRequestDTO compensateRequest(String transactionId) {
+        CompensateRequestDTO dto = new CompensateRequestDTO();
+        ReflectionTestUtils.setField(dto, "transactionId", transactionId);
+        return dto;
+    }
+
+    private TransferBatchCommand batchCommand(String transactionId, TransferTypeCode type, long amount) {
+        return TransferBatchCommand.builder()
+                .transactionId(transactionId)
+                .transferTypeCode(type)
+                .accountNumber("1234567890")
+                .counterAccount("9876543210")
+                .transferAmount(amount)
+                .currencyCode(CurrencyCode.WON)
+                .build();
+    }
 }
@@ -15,9 +15,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @EnableJpaAuditing
@@ -94,4 +103,114 @@ class UserServiceImplTest {
         // userRepository.save()는 호출되지 않았어야 함
         verify(userRepository, never()).save(any(User.class));
     }
+
+    @Test
+    @DisplayName("계좌 개설용 사용자 조회 시 기존 사용자는 조회 한 번으로 반환한다.")
+    void resolveUser_existing_user_single_query() {
+        // given
+        User existingUser = User.builder()
+                .userId(1L)
+                .username("JohnDoe")
+                .phoneNumber("01012345678")
+                .userTypeCode(UserTypeCode.INDIVIDUAL)
+                .build();
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.of(existingUser));
+
+        // when
+        User user = userService.resolveUser("JohnDoe", "01012345678", null);
+
+        // then
+        assertThat(user).isSameAs(existingUser);
+        verify(userRepository, times(1)).findByPhoneNumber("01012345678");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("계좌 개설용 사용자 조회 시 없는 사용자는 INSERT ... ON DUPLICATE KEY 로 생성 후 조회한다.")
+    void resolveUser_creates_missing_user() {
+        // given
+        User createdUser = User.builder()
+                .userId(2L)
+                .username("JohnDoe")
+                .phoneNumber("01012345678")
+                .userTypeCode(UserTypeCode.INDIVIDUAL)
+                .build();
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.empty());
+        when(userRepository.findWithSharedLockByPhoneNumber("01012345678")).thenReturn(Optional.of(createdUser));
+
+        // when
+        User user = userService.resolveUser("JohnDoe", "01012345678", UserTypeCode.INDIVIDUAL);
+
+        // then
+        assertThat(user).isSameAs(createdUser);
+        verify(userRepository).insertIfAbsent("JohnDoe", "01012345678", UserTypeCode.INDIVIDUAL.name());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("계좌 개설용 사용자 조회 시 같은 번호를 다른 이름이 사용 중이면 예외가 발생한다.")
+    void resolveUser_fail_phone_used_by_different_name() {
+        // given
+        User existingUser = User.builder()
+                .username("JaneDoe")
+                .phoneNumber("01012345678")
+                .userTypeCode(UserTypeCode.INDIVIDUAL)
+                .build();
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.of(existingUser));
+
+        // when
+        BaseException exception = catchThrowableOfType(
+                () -> userService.resolveUser("JohnDoe", "01012345678", UserTypeCode.INDIVIDUAL), BaseException.class);
+
+        // then
+        assertThat(exception.getStatus()).isEqualTo(FailureStatusCode.PHONE_ALREADY_USED_BY_DIFFERENT_NAME);
+        verify(userRepository, never()).insertIfAbsent(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 번호로 동시에 처음 계좌를 개설해도, 스냅샷에 없는 행을 잠금 조회로 읽어 같은 사용자로 수렴한다.")
+    void resolveUser_concurrent_first_time_converges() throws Exception {
+        // given
+        // 커밋된 user 테이블 (uk_user_phone_number)
+        Map<String, User> table = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+        // 두 트랜잭션 모두 첫 조회 시점에는 행이 없음 (REPEATABLE READ 스냅샷이 계속 유지된다고 가정)
+        when(userRepository.findByPhoneNumber("01012345678")).thenReturn(Optional.empty());
+        doAnswer(invocation -> {
+            String username = invocation.getArgument(0);
+            table.computeIfAbsent(invocation.getArgument(1), phoneNumber -> User.builder()
+                    .userId(sequence.incrementAndGet())
+                    .username(username)
+                    .phoneNumber(phoneNumber)
+                    .userTypeCode(UserTypeCode.INDIVIDUAL)
+                    .build());
+            return null;
+        }).when(userRepository).insertIfAbsent(anyString(), anyString(), anyString());
+        // 잠금 조회는 최신 커밋 행을 읽음
+        when(userRepository.findWithSharedLockByPhoneNumber("01012345678"))
+                .thenAnswer(invocation -> Optional.ofNullable(table.get("01012345678")));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        List<Future<User>> results = List.of(
+                executor.submit(() -> {
+                    start.await();
+                    return userService.resolveUser("JohnDoe", "01012345678", UserTypeCode.INDIVIDUAL);
+                }),
+                executor.submit(() -> {
+                    start.await();
+                    return userService.resolveUser("JohnDoe", "01012345678", UserTypeCode.INDIVIDUAL);
+                }));
+        start.countDown();
+        User first = results.get(0).get();
+        User second = results.get(1).get();
+        executor.shutdown();
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(sequence.get()).isEqualTo(1L);
+        verify(userRepository, times(2)).insertIfAbsent("JohnDoe", "01012345678", UserTypeCode.INDIVIDUAL.name());
+    }
 }